@@ -0,0 +1,138 @@
+package com.TodoList.TodoList_Backend.benchmark;
+
+import com.TodoList.TodoList_Backend.TodoListBackendApplication;
+import com.TodoList.TodoList_Backend.dto.TodoRequestDto;
+import com.TodoList.TodoList_Backend.exception.ResourceNotFoundException;
+import com.TodoList.TodoList_Backend.service.TodoService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * Débit des réponses d'erreur à travers le DispatcherServlet (MockMvc, sans les filtres de limitation) :
+ * {@code notFound} parcourt 1 024 identifiants absents, comme un client qui sonde ou relit des tâches supprimées,
+ * {@code conflict} recrée sans fin le même titre, {@code found} sert d'étalon sur une tâche existante.
+ * {@code negativeCache} active ou non {@code todo.cache.negative}.
+ * <p>
+ * {@code exceptionWithStackTrace} et {@code domainException} isolent le coût de la construction d'une
+ * exception à {@code depth} cadres de profondeur, l'ordre de grandeur d'une pile Tomcat + Spring MVC.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+// Chauffe longue : la pile Spring MVC met plusieurs secondes à être compilée par C2 sur une machine à un cœur
+@Warmup(iterations = 5, time = 5)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+public class ErrorPathBenchmark {
+
+    private static final int ABSENT = 1024;
+
+    @State(Scope.Benchmark)
+    public static class Server {
+
+        @Param({"true", "false"})
+        public boolean negativeCache;
+
+        private ConfigurableApplicationContext context;
+        private MockMvc mockMvc;
+        private UUID existing;
+        private String duplicate;
+        private final UUID[] absent = new UUID[ABSENT];
+        private int next;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            context = new SpringApplicationBuilder(TodoListBackendApplication.class)
+                    .profiles("test")
+                    .run("--server.port=0", "--logging.level.root=WARN",
+                            "--todo.cache.negative.enabled=" + negativeCache);
+            mockMvc = MockMvcBuilders.webAppContextSetup((WebApplicationContext) context).build();
+
+            TodoRequestDto dto = new TodoRequestDto();
+            dto.setTitre("Benchmark erreurs " + UUID.randomUUID());
+            dto.setDescription("Tâche déjà créée : chaque POST du même titre répond 409");
+            existing = context.getBean(TodoService.class).create(dto).getId();
+            duplicate = "{\"titre\":\"" + dto.getTitre() + "\",\"description\":\"Doublon\"}";
+            for (int i = 0; i < ABSENT; i++) {
+                absent[i] = UUID.randomUUID();
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            context.close();
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Stack {
+
+        @Param({"100"})
+        public int depth;
+
+        private final UUID id = UUID.randomUUID();
+    }
+
+    @Benchmark
+    public int found(Server server) throws Exception {
+        return expect(200, server.mockMvc.perform(get("/api/todos/{id}", server.existing))
+                .andReturn().getResponse().getStatus());
+    }
+
+    @Benchmark
+    public int notFound(Server server) throws Exception {
+        UUID id = server.absent[server.next++ & (ABSENT - 1)];
+        return expect(404, server.mockMvc.perform(get("/api/todos/{id}", id)).andReturn().getResponse().getStatus());
+    }
+
+    @Benchmark
+    public int conflict(Server server) throws Exception {
+        return expect(409, server.mockMvc.perform(post("/api/todos")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(server.duplicate)).andReturn().getResponse().getStatus());
+    }
+
+    @Benchmark
+    public Throwable exceptionWithStackTrace(Stack stack) {
+        return atDepth(stack.depth, () -> new RuntimeException("Todo non trouvé avec l'identifiant: " + stack.id));
+    }
+
+    @Benchmark
+    public Throwable domainException(Stack stack) {
+        return atDepth(stack.depth, () -> new ResourceNotFoundException("Todo", stack.id));
+    }
+
+    private static Throwable atDepth(int frames, Supplier<Throwable> exception) {
+        return frames == 0 ? exception.get() : atDepth(frames - 1, exception);
+    }
+
+    private static int expect(int expected, int status) {
+        if (status != expected) {
+            throw new IllegalStateException("Statut " + status + " au lieu de " + expected);
+        }
+        return status;
+    }
+}
@@ -0,0 +1,130 @@
+package com.TodoList.TodoList_Backend.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Comparator;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Débit d'insertion par lots selon l'ordre des clés primaires BINARY(16) : UUID v4 aléatoires (ancien
+ * {@code @UuidGenerator}) contre UUID v7 croissants. Chaque essai part d'une table préremplie de {@code rows}
+ * lignes ; chaque opération insère un lot JDBC de {@value #BATCH} lignes puis valide.
+ * <p>
+ * Par défaut sur une base H2 fichier temporaire. L'effet sur l'index clusterisé InnoDB se mesure contre MySQL :
+ * {@code -Dbenchmark.db.url=jdbc:mysql://…?rewriteBatchedStatements=true -Dbenchmark.db.username=… -Dbenchmark.db.password=…}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InsertOrderBenchmark {
+
+    private static final int BATCH = 1_000;
+    private static final String INSERT = "INSERT INTO todos_bench (id, titre, statut, version) VALUES (?, ?, 'EN_COURS', 0)";
+
+    @Param({"RANDOM_V4", "TIME_V7"})
+    private String keys;
+
+    @Param({"200000"})
+    private int rows;
+
+    private Path directory;
+    private Connection connection;
+    private PreparedStatement insert;
+    private final SplittableRandom random = new SplittableRandom(7);
+    private long lastMillis;
+    private long counter;
+    private long sequence;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        String url = System.getProperty("benchmark.db.url", "");
+        if (url.isBlank()) {
+            directory = Files.createTempDirectory("insert-bench");
+            connection = DriverManager.getConnection(
+                    "jdbc:h2:file:" + directory.resolve("bench") + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE", "sa", "");
+        } else {
+            connection = DriverManager.getConnection(url,
+                    System.getProperty("benchmark.db.username", ""), System.getProperty("benchmark.db.password", ""));
+        }
+        try (Statement ddl = connection.createStatement()) {
+            ddl.execute("DROP TABLE IF EXISTS todos_bench");
+            ddl.execute("CREATE TABLE todos_bench (id BINARY(16) NOT NULL PRIMARY KEY, titre VARCHAR(255) NOT NULL, "
+                    + "statut VARCHAR(16) NOT NULL, version BIGINT NOT NULL)");
+        }
+        connection.setAutoCommit(false);
+        insert = connection.prepareStatement(INSERT);
+        for (int i = 0; i < rows; i += BATCH) {
+            insertBatch();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        try (Statement ddl = connection.createStatement()) {
+            ddl.execute("DROP TABLE todos_bench");
+        }
+        connection.commit();
+        connection.close();
+        if (directory != null) {
+            try (Stream<Path> files = Files.walk(directory)) {
+                files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void insertBatch() throws SQLException {
+        for (int i = 0; i < BATCH; i++) {
+            insert.setBytes(1, bytes("TIME_V7".equals(keys) ? nextV7() : UUID.randomUUID()));
+            insert.setString(2, "Tâche " + sequence++);
+            insert.addBatch();
+        }
+        insert.executeBatch();
+        connection.commit();
+    }
+
+    private static byte[] bytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+
+    // Même disposition que le générateur VERSION_7 d'Hibernate : 48 bits de millisecondes, version, compteur, aléa
+    private UUID nextV7() {
+        long now = System.currentTimeMillis();
+        counter = now == lastMillis ? counter + 1 : 0;
+        lastMillis = now;
+        long msb = (now << 16) | 0x7000L | (counter & 0x0FFFL);
+        long lsb = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(msb, lsb);
+    }
+}
@@ -0,0 +1,87 @@
+package com.TodoList.TodoList_Backend.benchmark;
+
+import com.TodoList.TodoList_Backend.dto.TodoResponseDto;
+import com.TodoList.TodoList_Backend.entity.Todo;
+import com.TodoList.TodoList_Backend.mapper.TodoMapper;
+import com.TodoList.TodoList_Backend.repository.TodoRow;
+import com.TodoList.TodoList_Backend.response.ApiResponse;
+import com.TodoList.TodoList_Backend.response.TodoListJsonWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Chemin complet d'une réponse de liste : mapping, enveloppe {@link ApiResponse} puis sérialisation Jackson.
+ * Le mapping et la sérialisation sont aussi mesurés séparément pour isoler la part de chacun.
+ * <p>
+ * {@code *ToStream} compare, vers le même flux de sortie, le chemin historique (liste d'entités, liste de DTO
+ * puis Jackson) et l'écriture ligne par ligne de {@link TodoListJsonWriter} à partir des projections.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonSerializationBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    private int size;
+
+    private final TodoMapper mapper = new TodoMapper();
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+    private final TodoListJsonWriter listWriter = new TodoListJsonWriter(jsonMapper, CBORMapper.builder().build(),
+            SmileMapper.builder().build());
+    private List<Todo> todos;
+    private List<TodoRow> rows;
+    private ApiResponse<List<TodoResponseDto>> response;
+
+    @Setup
+    public void setUp() {
+        todos = TodoFixtures.todos(size);
+        rows = TodoFixtures.rows(todos);
+        response = ApiResponse.success("Tâches récupérées avec succès", mapper.toResponseDtoList(todos));
+    }
+
+    @Benchmark
+    public byte[] serializeOnly() {
+        return jsonMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] mapWrapAndSerialize() {
+        return jsonMapper.writeValueAsBytes(
+                ApiResponse.success("Tâches récupérées avec succès", mapper.toResponseDtoList(todos)));
+    }
+
+    @Benchmark
+    public void mapWrapAndSerializeToStream() {
+        jsonMapper.writeValue(OutputStream.nullOutputStream(),
+                ApiResponse.success("Tâches récupérées avec succès", mapper.toResponseDtoList(todos)));
+    }
+
+    @Benchmark
+    public void writeRowsToStream() {
+        try (TodoListJsonWriter.Session session = listWriter.open(OutputStream.nullOutputStream(), "Tâches récupérées avec succès")) {
+            for (TodoRow row : rows) {
+                session.write(row);
+            }
+            session.finish();
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.TodoList.TodoList_Backend.benchmark;
+
+import com.TodoList.TodoList_Backend.repository.TodoRow;
+import com.TodoList.TodoList_Backend.response.TodoListJsonWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.MediaType;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+import tools.jackson.dataformat.smile.SmileWriteFeature;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Réponse de {@code GET /api/todos} dans chaque format négociable (JSON, CBOR, Smile), compressée ou non :
+ * temps d'écriture par réponse, et taille sur le fil affichée au démarrage de chaque combinaison.
+ * <p>
+ * La compression reprend le niveau par défaut de {@code todo.compression.level} (6).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ListEncodingBenchmark {
+
+    private static final String MESSAGE = "Tâches récupérées avec succès";
+
+    @Param({"1000"})
+    private int size;
+
+    @Param({"application/json", "application/cbor", "application/x-jackson-smile"})
+    private String format;
+
+    @Param({"false", "true"})
+    private boolean gzip;
+
+    private final TodoListJsonWriter listWriter = new TodoListJsonWriter(JsonMapper.builder().build(),
+            CBORMapper.builder().build(),
+            SmileMapper.builder().enable(SmileWriteFeature.CHECK_SHARED_STRING_VALUES).build());
+    private List<TodoRow> rows;
+    private MediaType mediaType;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        rows = TodoFixtures.rows(TodoFixtures.todos(size));
+        mediaType = MediaType.parseMediaType(format);
+        CountingOutputStream counter = new CountingOutputStream();
+        write(counter);
+        System.out.printf("%nTaille sur le fil : %s%s, %d tâches -> %d octets (%d par tâche)%n",
+                format, gzip ? " + gzip" : "", size, counter.count, counter.count / size);
+    }
+
+    @Benchmark
+    public void writeList() throws IOException {
+        write(OutputStream.nullOutputStream());
+    }
+
+    private void write(OutputStream target) throws IOException {
+        OutputStream out = gzip ? new LevelGzipOutputStream(target) : target;
+        try (TodoListJsonWriter.Session session = listWriter.open(out, MESSAGE, mediaType)) {
+            for (TodoRow row : rows) {
+                session.write(row);
+            }
+            session.finish();
+        }
+        out.close();
+    }
+
+    private static final class LevelGzipOutputStream extends GZIPOutputStream {
+
+        LevelGzipOutputStream(OutputStream out) throws IOException {
+            super(out, 8192);
+            def.setLevel(6);
+        }
+    }
+
+    private static final class CountingOutputStream extends OutputStream {
+
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
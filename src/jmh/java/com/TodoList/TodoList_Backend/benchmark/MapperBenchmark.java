@@ -0,0 +1,71 @@
+package com.TodoList.TodoList_Backend.benchmark;
+
+import com.TodoList.TodoList_Backend.dto.TodoResponseDto;
+import com.TodoList.TodoList_Backend.entity.Todo;
+import com.TodoList.TodoList_Backend.mapper.TodoMapper;
+import com.TodoList.TodoList_Backend.response.ApiResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coût de {@link TodoMapper} (builder Lombok) et de la construction de l'enveloppe {@link ApiResponse}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+    private final TodoMapper mapper = new TodoMapper();
+    private Todo todo;
+    private TodoResponseDto dto;
+
+    @Setup
+    public void setUp() {
+        todo = TodoFixtures.todo(1);
+        dto = mapper.toResponseDto(todo);
+    }
+
+    @State(Scope.Benchmark)
+    public static class ListState {
+
+        @Param({"10", "1000", "100000"})
+        private int size;
+
+        private List<Todo> todos;
+
+        @Setup
+        public void setUp() {
+            todos = TodoFixtures.todos(size);
+        }
+    }
+
+    @Benchmark
+    public TodoResponseDto mapSingle() {
+        return mapper.toResponseDto(todo);
+    }
+
+    @Benchmark
+    public List<TodoResponseDto> mapList(ListState state) {
+        return mapper.toResponseDtoList(state.todos);
+    }
+
+    @Benchmark
+    public ApiResponse<TodoResponseDto> buildEnvelope() {
+        return ApiResponse.success("Opération réussie", dto);
+    }
+}
@@ -0,0 +1,58 @@
+package com.TodoList.TodoList_Backend.benchmark;
+
+import com.TodoList.TodoList_Backend.throttling.TokenBucketRateLimiter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coût d'une décision de {@link TokenBucketRateLimiter#tryAcquire} : {@code hot} frappe un seul client
+ * (seau vide, refus répétés), {@code spread} tire parmi {@code clients}. Pour mesurer la contention,
+ * augmenter {@code @Threads} sur une machine à plusieurs cœurs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(1)
+public class RateLimiterBenchmark {
+
+    @Param({"10000"})
+    private int clients;
+
+    private TokenBucketRateLimiter limiter;
+    private String[] ids;
+
+    @Setup
+    public void setUp() {
+        limiter = new TokenBucketRateLimiter(100, 50, 100_000);
+        ids = new String[clients];
+        for (int i = 0; i < clients; i++) {
+            ids[i] = "id:client-" + i;
+        }
+    }
+
+    @Benchmark
+    public long hot() {
+        return limiter.tryAcquire(ids[0], 1);
+    }
+
+    @Benchmark
+    public long spread() {
+        return limiter.tryAcquire(ids[ThreadLocalRandom.current().nextInt(clients)], 1);
+    }
+}
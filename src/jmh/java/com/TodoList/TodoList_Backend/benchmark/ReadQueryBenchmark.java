@@ -0,0 +1,112 @@
+package com.TodoList.TodoList_Backend.benchmark;
+
+import com.TodoList.TodoList_Backend.TodoListBackendApplication;
+import com.TodoList.TodoList_Backend.dto.TodoResponseDto;
+import com.TodoList.TodoList_Backend.entity.Todo;
+import com.TodoList.TodoList_Backend.mapper.TodoMapper;
+import com.TodoList.TodoList_Backend.repository.TodoRepository;
+import com.TodoList.TodoList_Backend.repository.TodoRow;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lecture par id et lecture d'une page de 100 tâches sur H2 : entités gérées (requêtes historiques)
+ * contre projections {@link TodoRow}, dans une transaction en lecture seule comme dans le service.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReadQueryBenchmark {
+
+    private static final int SEED = 10_000;
+    private static final int PAGE = 100;
+    private static final String ROW = "new com.TodoList.TodoList_Backend.repository.TodoRow("
+            + "t.id, t.titre, t.description, t.statut, t.version)";
+
+    private ConfigurableApplicationContext context;
+    private EntityManager entityManager;
+    private TodoMapper mapper;
+    private TransactionTemplate readOnly;
+    private UUID id;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(TodoListBackendApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .properties("logging.level.root=WARN", "todo.cache.enabled=false")
+                .run();
+        entityManager = context.getBean(EntityManager.class);
+        mapper = context.getBean(TodoMapper.class);
+        readOnly = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnly.setReadOnly(true);
+
+        List<Todo> todos = TodoFixtures.todos(SEED);
+        todos.forEach(todo -> {
+            todo.setId(null);
+            todo.setVersion(null);
+        });
+        context.getBean(TodoRepository.class).saveAll(todos);
+        id = todos.get(SEED / 2).getId();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public TodoResponseDto byIdEntity() {
+        return readOnly.execute(status -> mapper.toResponseDto(entityManager
+                .createQuery("SELECT t FROM Todo t WHERE t.id = :id", Todo.class)
+                .setParameter("id", id)
+                .getSingleResult()));
+    }
+
+    @Benchmark
+    public TodoResponseDto byIdProjection() {
+        return readOnly.execute(status -> mapper.toResponseDto(entityManager
+                .createQuery("SELECT " + ROW + " FROM Todo t WHERE t.id = :id", TodoRow.class)
+                .setParameter("id", id)
+                .getSingleResult()));
+    }
+
+    @Benchmark
+    public List<TodoResponseDto> pageEntity() {
+        return readOnly.execute(status -> mapper.toResponseDtoList(entityManager
+                .createQuery("SELECT t FROM Todo t ORDER BY t.id", Todo.class)
+                .setMaxResults(PAGE)
+                .getResultList()));
+    }
+
+    @Benchmark
+    public List<TodoResponseDto> pageProjection() {
+        return readOnly.execute(status -> mapper.rowsToResponseDtoList(entityManager
+                .createQuery("SELECT " + ROW + " FROM Todo t ORDER BY t.id", TodoRow.class)
+                .setMaxResults(PAGE)
+                .getResultList()));
+    }
+}
@@ -0,0 +1,95 @@
+package com.TodoList.TodoList_Backend.benchmark;
+
+import com.TodoList.TodoList_Backend.search.TodoSearchIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latence de {@link TodoSearchIndex#search} sur un corpus synthétique : vocabulaire de 5 000 mots
+ * tirés selon une loi de Zipf, six mots par titre et douze par description.
+ * {@code common} vise un mot présent dans environ une tâche sur dix, {@code rare} un mot sur quelques milliers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class SearchIndexBenchmark {
+
+    private static final int VOCABULARY = 5_000;
+
+    @Param({"1000000", "3000000"})
+    private int todos;
+
+    private TodoSearchIndex index;
+    private String[] words;
+
+    @Setup
+    public void setUp() {
+        words = new String[VOCABULARY];
+        for (int i = 0; i < VOCABULARY; i++) {
+            words[i] = "mot" + Integer.toString(i, 36) + "x";
+        }
+        double[] cumulative = new double[VOCABULARY];
+        double sum = 0;
+        for (int i = 0; i < VOCABULARY; i++) {
+            sum += 1.0 / (i + 1);
+            cumulative[i] = sum;
+        }
+        SplittableRandom random = new SplittableRandom(42);
+        index = new TodoSearchIndex();
+        StringBuilder titre = new StringBuilder();
+        StringBuilder description = new StringBuilder();
+        for (int i = 0; i < todos; i++) {
+            titre.setLength(0);
+            description.setLength(0);
+            for (int w = 0; w < 6; w++) {
+                titre.append(words[zipf(random, cumulative, sum)]).append(' ');
+            }
+            for (int w = 0; w < 12; w++) {
+                description.append(words[zipf(random, cumulative, sum)]).append(' ');
+            }
+            index.index(UUID.randomUUID(), 0, titre.toString(), description.toString());
+        }
+    }
+
+    private static int zipf(SplittableRandom random, double[] cumulative, double sum) {
+        int at = Arrays.binarySearch(cumulative, random.nextDouble() * sum);
+        return Math.min(VOCABULARY - 1, at >= 0 ? at : -at - 1);
+    }
+
+    @Benchmark
+    public TodoSearchIndex.SearchHits rare() {
+        return index.search(words[3_000], 0, 20);
+    }
+
+    @Benchmark
+    public TodoSearchIndex.SearchHits common() {
+        return index.search(words[10], 0, 20);
+    }
+
+    @Benchmark
+    public TodoSearchIndex.SearchHits rareAndCommon() {
+        return index.search(words[3_000] + " " + words[10], 0, 20);
+    }
+
+    @Benchmark
+    public TodoSearchIndex.SearchHits twoCommon() {
+        return index.search(words[10] + " " + words[20], 0, 20);
+    }
+}
@@ -0,0 +1,130 @@
+package com.TodoList.TodoList_Backend.benchmark;
+
+import com.TodoList.TodoList_Backend.TodoListBackendApplication;
+import com.TodoList.TodoList_Backend.dto.TodoBulkStatusDto;
+import com.TodoList.TodoList_Backend.dto.TodoPageDto;
+import com.TodoList.TodoList_Backend.dto.TodoRequestDto;
+import com.TodoList.TodoList_Backend.dto.TodoResponseDto;
+import com.TodoList.TodoList_Backend.dto.TodoStatsDto;
+import com.TodoList.TodoList_Backend.dto.TodoStatusDto;
+import com.TodoList.TodoList_Backend.entity.enums.TodoStatus;
+import com.TodoList.TodoList_Backend.service.TodoService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Mêmes opérations de {@code TodoService} sur les deux moteurs de stockage, base H2 de 10 000 tâches :
+ * {@code jpa} ({@code TodoServiceImpl}, cache de lecture désactivé pour que chaque lecture atteigne la base)
+ * contre {@code memory} ({@code InMemoryTodoService}, persisté en écriture différée dans la même base).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StorageEngineBenchmark {
+
+    private static final int SEED = 10_000;
+    private static final int PAGE = 100;
+
+    @Param({"jpa", "memory"})
+    public String engine;
+
+    private ConfigurableApplicationContext context;
+    private TodoService todoService;
+    private UUID id;
+    private TodoStatus statut;
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(TodoListBackendApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                // Arguments de ligne de commande : ils l'emportent sur application.yaml, contrairement à properties()
+                .run("--logging.level.root=WARN", "--todo.cache.enabled=false", "--todo.storage.engine=" + engine);
+        todoService = context.getBean(TodoService.class);
+
+        List<UUID> ids = new ArrayList<>(SEED);
+        for (int from = 0; from < SEED; from += 500) {
+            List<TodoRequestDto> batch = new ArrayList<>(500);
+            for (int i = from; i < from + 500; i++) {
+                batch.add(request("Préparer la réunion d'équipe n°" + i));
+            }
+            todoService.createAll(batch).forEach(result -> ids.add(result.getId()));
+        }
+        // Un tiers des tâches terminées, comme dans TodoFixtures
+        List<TodoBulkStatusDto> done = new ArrayList<>();
+        for (int i = 0; i < SEED; i += 3) {
+            done.add(new TodoBulkStatusDto(ids.get(i), TodoStatus.TERMINEE));
+        }
+        todoService.updateStatutAll(done);
+        id = ids.get(SEED / 2 + 1);
+        statut = todoService.getById(id).getStatut();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public TodoResponseDto getById() {
+        return todoService.getById(id);
+    }
+
+    @Benchmark
+    public TodoPageDto page() {
+        return todoService.getPage(null, PAGE, null, null);
+    }
+
+    @Benchmark
+    public TodoPageDto pageByStatut() {
+        return todoService.getPage(null, PAGE, TodoStatus.TERMINEE, null);
+    }
+
+    @Benchmark
+    public TodoStatsDto stats() {
+        return todoService.getStats();
+    }
+
+    @Benchmark
+    public TodoResponseDto create() {
+        return todoService.create(request("Benchmark " + engine + " " + sequence.incrementAndGet()));
+    }
+
+    @Benchmark
+    public TodoResponseDto updateStatut() {
+        // Aller-retour EN_COURS / TERMINEE sur la même tâche : une écriture et une nouvelle version à chaque appel
+        statut = statut == TodoStatus.EN_COURS ? TodoStatus.TERMINEE : TodoStatus.EN_COURS;
+        return todoService.updateStatut(id, new TodoStatusDto(statut), null);
+    }
+
+    private static TodoRequestDto request(String titre) {
+        TodoRequestDto dto = new TodoRequestDto();
+        dto.setTitre(titre);
+        dto.setDescription("Relire le compte rendu, mettre à jour le tableau de suivi et envoyer l'ordre du jour");
+        return dto;
+    }
+}
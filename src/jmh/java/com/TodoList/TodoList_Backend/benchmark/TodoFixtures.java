@@ -0,0 +1,44 @@
+package com.TodoList.TodoList_Backend.benchmark;
+
+import com.TodoList.TodoList_Backend.entity.Todo;
+import com.TodoList.TodoList_Backend.entity.enums.TodoStatus;
+import com.TodoList.TodoList_Backend.repository.TodoRow;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Jeux de données communs aux benchmarks : des tâches réalistes (titre et description en français).
+ */
+final class TodoFixtures {
+
+    private TodoFixtures() {
+    }
+
+    static Todo todo(int i) {
+        return Todo.builder()
+                .id(UUID.randomUUID())
+                .titre("Préparer la réunion d'équipe n°" + i)
+                .description("Relire le compte rendu, mettre à jour le tableau de suivi et envoyer l'ordre du jour")
+                .statut(i % 3 == 0 ? TodoStatus.TERMINEE : TodoStatus.EN_COURS)
+                .version((long) (i % 5))
+                .build();
+    }
+
+    static List<Todo> todos(int count) {
+        List<Todo> todos = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            todos.add(todo(i));
+        }
+        return todos;
+    }
+
+    static List<TodoRow> rows(List<Todo> todos) {
+        List<TodoRow> rows = new ArrayList<>(todos.size());
+        for (Todo todo : todos) {
+            rows.add(new TodoRow(todo.getId(), todo.getTitre(), todo.getDescription(), todo.getStatut(), todo.getVersion()));
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,146 @@
+package com.TodoList.TodoList_Backend.archive;
+
+import com.TodoList.TodoList_Backend.config.TodoArchiveProperties;
+import com.TodoList.TodoList_Backend.event.TodoChangedEvent;
+import com.TodoList.TodoList_Backend.repository.ArchivedTodoRow;
+import com.TodoList.TodoList_Backend.repository.TodoArchiveRepository;
+import com.TodoList.TodoList_Backend.service.TodoResponseCache;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Déplace vers {@code todos_archive} les tâches terminées restées sans modification pendant
+ * {@code todo.archive.min-age}, pour que la table {@code todos} ne grossisse pas indéfiniment.
+ * <p>
+ * Chaque lot est une transaction courte : les lignes sélectionnées sont verrouillées, copiées puis supprimées,
+ * et un événement {@code ARCHIVED} par tâche met à jour cache, compteurs, index de recherche et outbox.
+ * Entre deux lots, l'archiveur rend la main ; il s'interrompt jusqu'au passage suivant dès que le pool de la
+ * base principale est occupé au-delà de {@code max-pool-usage} ou que des requêtes y attendent une connexion.
+ * <p>
+ * Réservé au moteur JPA : le moteur MEMORY réécrirait dans {@code todos} les tâches qu'il garde en mémoire.
+ */
+@Slf4j
+@Component
+@ConditionalOnExpression("'${todo.storage.engine:jpa}' == 'jpa' and ${todo.archive.enabled:true}")
+public class TodoArchiver {
+
+    private final TodoArchiveRepository archiveRepository;
+    private final TodoResponseCache todoCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TodoArchiveProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final HikariDataSource pool;
+    private final Counter archived;
+    private final Counter deferred;
+    private final Timer chunkTimer;
+
+    public TodoArchiver(TodoArchiveRepository archiveRepository, TodoResponseCache todoCache,
+                        ApplicationEventPublisher eventPublisher, TodoArchiveProperties properties,
+                        PlatformTransactionManager transactionManager, DataSource dataSource,
+                        MeterRegistry meterRegistry) {
+        this.archiveRepository = archiveRepository;
+        this.todoCache = todoCache;
+        this.eventPublisher = eventPublisher;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.pool = primaryPool(dataSource);
+        this.archived = Counter.builder("todo.archive.archived")
+                .description("Tâches terminées déplacées vers todos_archive")
+                .register(meterRegistry);
+        this.deferred = Counter.builder("todo.archive.deferred")
+                .description("Passages de l'archiveur interrompus faute de connexions libres")
+                .register(meterRegistry);
+        this.chunkTimer = Timer.builder("todo.archive.chunk")
+                .description("Durée de la transaction d'un lot d'archivage")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(initialDelayString = "${todo.archive.interval:1h}", fixedDelayString = "${todo.archive.interval:1h}")
+    public void scheduledArchive() {
+        int total = archive();
+        if (total > 0) {
+            log.info("{} tâches terminées archivées", total);
+        }
+    }
+
+    /** @return le nombre de tâches archivées pendant ce passage */
+    public int archive() {
+        Instant cutoff = Instant.now().minus(properties.getMinAge());
+        int total = 0;
+        for (int chunk = 0; chunk < properties.getMaxChunksPerRun(); chunk++) {
+            if (chunk > 0 && !pause()) {
+                break;
+            }
+            if (poolBusy()) {
+                deferred.increment();
+                log.debug("Archivage interrompu après {} tâches : pool de connexions occupé", total);
+                break;
+            }
+            int moved = chunkTimer.record(() -> archiveChunk(cutoff));
+            total += moved;
+            // Un lot incomplet signifie qu'il ne reste plus de tâche assez ancienne
+            if (moved < properties.getChunkSize()) {
+                break;
+            }
+        }
+        return total;
+    }
+
+    private int archiveChunk(Instant cutoff) {
+        Integer moved = transactionTemplate.execute(status -> {
+            List<ArchivedTodoRow> rows = archiveRepository.lockCompletedBefore(cutoff, properties.getChunkSize());
+            archiveRepository.move(rows, Instant.now());
+            for (ArchivedTodoRow row : rows) {
+                todoCache.invalidateAfterCommit(row.id());
+                eventPublisher.publishEvent(TodoChangedEvent.archived(row.id()));
+            }
+            return rows.size();
+        });
+        archived.increment(moved);
+        return moved;
+    }
+
+    boolean poolBusy() {
+        HikariPoolMXBean mxBean = pool == null ? null : pool.getHikariPoolMXBean();
+        if (mxBean == null) {
+            return false;
+        }
+        return mxBean.getThreadsAwaitingConnection() > 0
+                || mxBean.getActiveConnections() > pool.getMaximumPoolSize() * properties.getMaxPoolUsage();
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(properties.getPause());
+            return true;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /** Hors transaction, la source routée (réplique de lecture) désigne la base principale. */
+    private static HikariDataSource primaryPool(DataSource dataSource) {
+        try {
+            return dataSource.unwrap(HikariDataSource.class);
+        } catch (SQLException ex) {
+            log.info("Pool de connexions non Hikari : l'archiveur ne surveille pas l'occupation de la base");
+            return null;
+        }
+    }
+}
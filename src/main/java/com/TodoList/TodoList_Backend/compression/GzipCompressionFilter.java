@@ -0,0 +1,434 @@
+package com.TodoList.TodoList_Backend.compression;
+
+import com.TodoList.TodoList_Backend.config.TodoCompressionProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.util.List;
+
+/**
+ * Compresse en gzip les réponses JSON, NDJSON, CBOR et Smile des clients qui l'acceptent ({@code Accept-Encoding}),
+ * dès qu'elles dépassent {@code min-response-size}.
+ * <p>
+ * Le début de la réponse est retenu jusqu'à ce seuil : une réponse plus courte part telle quelle, avec sa longueur.
+ * Une réponse en flux (liste, export) est compressée au fil de l'eau ; chaque {@code flush()} de l'application
+ * envoie ce qui est déjà compressé. Le flux se termine au retour de la requête, ou au retour du dispatch asynchrone
+ * pour les réponses {@code StreamingResponseBody}.
+ * <p>
+ * Un encodeur n'est pris au pool qu'une fois le seuil franchi. Une réponse asynchrone qui se termine en erreur ou
+ * en délai dépassé n'a pas de dispatch de fin : l'encodeur est alors rendu par un {@link AsyncListener}.
+ */
+public class GzipCompressionFilter extends OncePerRequestFilter {
+
+    private static final String RESPONSE_ATTRIBUTE = GzipCompressionFilter.class.getName() + ".RESPONSE";
+
+    private final int minResponseSize;
+    private final List<MediaType> mimeTypes;
+    private final GzipEncoder.Pool encoders;
+    private final Counter bytesIn;
+    private final Counter bytesOut;
+
+    public GzipCompressionFilter(TodoCompressionProperties properties, MeterRegistry meterRegistry) {
+        this.minResponseSize = (int) properties.getMinResponseSize().toBytes();
+        this.mimeTypes = properties.getMimeTypes().stream().map(MediaType::parseMediaType).toList();
+        this.encoders = new GzipEncoder.Pool(properties.getLevel(), properties.getMaxPooledEncoders());
+        this.bytesIn = Counter.builder("todo.http.compression.bytes")
+                .description("Octets des réponses compressées, avant et après gzip")
+                .baseUnit("bytes")
+                .tag("stage", "in")
+                .register(meterRegistry);
+        this.bytesOut = Counter.builder("todo.http.compression.bytes")
+                .description("Octets des réponses compressées, avant et après gzip")
+                .baseUnit("bytes")
+                .tag("stage", "out")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (isAsyncDispatch(request)) {
+            // Fin d'une réponse asynchrone : le flux gzip est terminé une fois le corps entièrement écrit
+            chain.doFilter(request, response);
+            if (!request.isAsyncStarted()
+                    && request.getAttribute(RESPONSE_ATTRIBUTE) instanceof CompressingResponse compressing) {
+                compressing.finish();
+            }
+            return;
+        }
+        if (!acceptsGzip(request)) {
+            chain.doFilter(request, response);
+            return;
+        }
+        CompressingResponse compressing = new CompressingResponse(response);
+        request.setAttribute(RESPONSE_ATTRIBUTE, compressing);
+        try {
+            chain.doFilter(request, compressing);
+        } catch (ServletException | IOException | RuntimeException e) {
+            compressing.abort();
+            throw e;
+        }
+        if (request.isAsyncStarted()) {
+            request.getAsyncContext().addListener(new ReleaseOnCompletion(compressing));
+        } else {
+            compressing.finish();
+        }
+    }
+
+    int idleEncoders() {
+        return encoders.idle();
+    }
+
+    static boolean acceptsGzip(HttpServletRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : StringUtils.tokenizeToStringArray(acceptEncoding, ",")) {
+            int semicolon = coding.indexOf(';');
+            String name = (semicolon < 0 ? coding : coding.substring(0, semicolon)).trim();
+            if ((name.equalsIgnoreCase("gzip") || name.equals("*")) && !isZeroQuality(coding, semicolon)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isZeroQuality(String coding, int semicolon) {
+        if (semicolon < 0) {
+            return false;
+        }
+        String parameter = coding.substring(semicolon + 1).trim();
+        if (!parameter.startsWith("q=")) {
+            return false;
+        }
+        try {
+            return Double.parseDouble(parameter.substring(2)) == 0;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private final class CompressingResponse extends HttpServletResponseWrapper {
+
+        private final CompressingOutputStream stream;
+        private PrintWriter writer;
+
+        CompressingResponse(HttpServletResponse response) {
+            super(response);
+            this.stream = new CompressingOutputStream(this, response);
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() {
+            return stream;
+        }
+
+        @Override
+        public PrintWriter getWriter() {
+            if (writer == null) {
+                writer = new PrintWriter(new OutputStreamWriter(stream, Charset.forName(getCharacterEncoding())));
+            }
+            return writer;
+        }
+
+        // La longueur déclarée par l'application ne vaut que si la réponse part sans compression
+
+        @Override
+        public void setContentLength(int len) {
+            stream.declaredLength = len;
+        }
+
+        @Override
+        public void setContentLengthLong(long len) {
+            stream.declaredLength = len;
+        }
+
+        @Override
+        public void setHeader(String name, String value) {
+            if (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+                stream.declaredLength = value == null ? -1 : Long.parseLong(value);
+            } else {
+                super.setHeader(name, value);
+            }
+        }
+
+        @Override
+        public void addHeader(String name, String value) {
+            if (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+                setHeader(name, value);
+            } else {
+                super.addHeader(name, value);
+            }
+        }
+
+        @Override
+        public void setIntHeader(String name, int value) {
+            if (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+                stream.declaredLength = value;
+            } else {
+                super.setIntHeader(name, value);
+            }
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            if (writer != null) {
+                writer.flush();
+            }
+            stream.flush();
+        }
+
+        @Override
+        public void resetBuffer() {
+            stream.resetBuffer();
+            super.resetBuffer();
+        }
+
+        @Override
+        public void reset() {
+            stream.resetBuffer();
+            stream.declaredLength = -1;
+            super.reset();
+        }
+
+        void finish() throws IOException {
+            if (writer != null) {
+                writer.flush();
+            }
+            stream.finish();
+        }
+
+        void abort() {
+            stream.abort();
+        }
+
+        boolean isCompressible() {
+            if (getHeader(HttpHeaders.CONTENT_ENCODING) != null) {
+                return false;
+            }
+            int status = getStatus();
+            if (status == SC_NO_CONTENT || status == SC_NOT_MODIFIED || status == SC_PARTIAL_CONTENT) {
+                return false;
+            }
+            String contentType = getContentType();
+            if (contentType == null) {
+                return false;
+            }
+            MediaType mediaType = MediaType.parseMediaType(contentType);
+            for (MediaType candidate : mimeTypes) {
+                if (candidate.includes(mediaType)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /** Appelé après le dispatch de fin s'il a eu lieu : l'encodeur est alors déjà rendu et rien n'est fait. */
+    private record ReleaseOnCompletion(CompressingResponse response) implements AsyncListener {
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            response.abort();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            response.abort();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            response.abort();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+    }
+
+    private enum State { BUFFERING, PASSTHROUGH, COMPRESSING, FINISHED }
+
+    private final class CompressingOutputStream extends ServletOutputStream {
+
+        private final CompressingResponse response;
+        private final HttpServletResponse target;
+        private final byte[] single = new byte[1];
+        /** Début de la réponse, gardé tant que la taille minimale n'est pas atteinte. */
+        private byte[] buffer;
+        private GzipEncoder encoder;
+        private ServletOutputStream out;
+        private State state = State.BUFFERING;
+        private int pending;
+        private long declaredLength = -1;
+
+        CompressingOutputStream(CompressingResponse response, HttpServletResponse target) {
+            this.response = response;
+            this.target = target;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            single[0] = (byte) b;
+            write(single, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            switch (state) {
+                case BUFFERING -> {
+                    if (!response.isCompressible()) {
+                        passThrough();
+                        out.write(b, off, len);
+                    } else if (pending + len <= minResponseSize) {
+                        if (buffer == null) {
+                            buffer = new byte[minResponseSize];
+                        }
+                        System.arraycopy(b, off, buffer, pending, len);
+                        pending += len;
+                    } else {
+                        compress();
+                        encoder.write(out, b, off, len);
+                    }
+                }
+                case PASSTHROUGH -> out.write(b, off, len);
+                case COMPRESSING -> encoder.write(out, b, off, len);
+                case FINISHED -> throw new IOException("Réponse déjà terminée");
+            }
+        }
+
+        /** Tant que le seuil n'est pas atteint, un {@code flush()} ne décide rien : Jackson en fait un par réponse. */
+        @Override
+        public void flush() throws IOException {
+            switch (state) {
+                case BUFFERING -> {
+                    if (!response.isCompressible()) {
+                        passThrough();
+                        out.flush();
+                    }
+                }
+                case PASSTHROUGH -> out.flush();
+                case COMPRESSING -> {
+                    encoder.flush(out);
+                    out.flush();
+                }
+                case FINISHED -> {
+                }
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            finish();
+            target.getOutputStream().close();
+        }
+
+        void finish() throws IOException {
+            switch (state) {
+                case BUFFERING -> {
+                    if (declaredLength < 0) {
+                        declaredLength = pending;
+                    }
+                    passThrough();
+                }
+                case COMPRESSING -> {
+                    encoder.finish(out);
+                    bytesIn.increment(encoder.bytesIn());
+                    bytesOut.increment(encoder.bytesOut());
+                    release();
+                }
+                case PASSTHROUGH, FINISHED -> {
+                }
+            }
+            state = State.FINISHED;
+        }
+
+        void abort() {
+            release();
+            state = State.FINISHED;
+        }
+
+        void resetBuffer() {
+            if (state == State.BUFFERING) {
+                pending = 0;
+            }
+        }
+
+        private void passThrough() throws IOException {
+            state = State.PASSTHROUGH;
+            if (declaredLength >= 0) {
+                target.setContentLengthLong(declaredLength);
+            }
+            out = target.getOutputStream();
+            if (pending > 0) {
+                out.write(buffer, 0, pending);
+            }
+        }
+
+        private void compress() throws IOException {
+            state = State.COMPRESSING;
+            target.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+            target.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            out = target.getOutputStream();
+            encoder = encoders.acquire();
+            encoder.start(out);
+            if (pending > 0) {
+                encoder.write(out, buffer, 0, pending);
+            }
+            pending = 0;
+        }
+
+        // Appelé par le thread de la réponse ou par celui de l'AsyncListener : l'encodeur n'est rendu qu'une fois
+        private synchronized void release() {
+            if (encoder != null) {
+                encoders.release(encoder);
+                encoder = null;
+            }
+        }
+
+        // Écritures non bloquantes : la disponibilité est celle du flux du conteneur, auquel le tampon
+        // et l'encodeur écrivent dès qu'ils se vident
+        @Override
+        public boolean isReady() {
+            try {
+                return target.getOutputStream().isReady();
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            try {
+                target.getOutputStream().setWriteListener(writeListener);
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.TodoList.TodoList_Backend.compression;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * Encodeur gzip réutilisable d'une réponse à l'autre : le {@link Deflater} (et sa mémoire native), le CRC
+ * et le tampon de sortie sont alloués une fois, puis remis à zéro et rendus au pool en fin de réponse.
+ */
+final class GzipEncoder {
+
+    /** En-tête gzip minimal : deflate, sans nom ni date (RFC 1952). */
+    private static final byte[] HEADER = {0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff};
+
+    private final Deflater deflater;
+    private final CRC32 crc = new CRC32();
+    private final byte[] output = new byte[8192];
+    private long bytesOut;
+
+    private GzipEncoder(int level) {
+        this.deflater = new Deflater(level, true);
+    }
+
+    void start(OutputStream out) throws IOException {
+        out.write(HEADER);
+        bytesOut += HEADER.length;
+    }
+
+    void write(OutputStream out, byte[] b, int off, int len) throws IOException {
+        crc.update(b, off, len);
+        deflater.setInput(b, off, len);
+        while (!deflater.needsInput()) {
+            drain(out, Deflater.NO_FLUSH);
+        }
+    }
+
+    /** Envoie tout ce qui a été écrit jusqu'ici, sans terminer le flux (export progressif). */
+    void flush(OutputStream out) throws IOException {
+        int written;
+        do {
+            written = drain(out, Deflater.SYNC_FLUSH);
+        } while (written == output.length);
+    }
+
+    void finish(OutputStream out) throws IOException {
+        deflater.finish();
+        while (!deflater.finished()) {
+            drain(out, Deflater.NO_FLUSH);
+        }
+        writeIntLe(out, (int) crc.getValue());
+        writeIntLe(out, (int) deflater.getBytesRead());
+        bytesOut += 8;
+    }
+
+    long bytesIn() {
+        return deflater.getBytesRead();
+    }
+
+    long bytesOut() {
+        return bytesOut;
+    }
+
+    private int drain(OutputStream out, int flush) throws IOException {
+        int written = deflater.deflate(output, 0, output.length, flush);
+        if (written > 0) {
+            out.write(output, 0, written);
+            bytesOut += written;
+        }
+        return written;
+    }
+
+    private static void writeIntLe(OutputStream out, int value) throws IOException {
+        out.write(value);
+        out.write(value >>> 8);
+        out.write(value >>> 16);
+        out.write(value >>> 24);
+    }
+
+    private void reset() {
+        deflater.reset();
+        crc.reset();
+        bytesOut = 0;
+    }
+
+    /**
+     * Pool borné plutôt qu'un encodeur par thread : avec les threads virtuels, un {@code ThreadLocal}
+     * ne servirait qu'une fois.
+     */
+    static final class Pool {
+
+        private final int level;
+        private final BlockingQueue<GzipEncoder> idle;
+
+        Pool(int level, int maxIdle) {
+            this.level = level;
+            this.idle = new ArrayBlockingQueue<>(Math.max(1, maxIdle));
+        }
+
+        GzipEncoder acquire() {
+            GzipEncoder encoder = idle.poll();
+            return encoder != null ? encoder : new GzipEncoder(level);
+        }
+
+        void release(GzipEncoder encoder) {
+            encoder.reset();
+            if (!idle.offer(encoder)) {
+                encoder.deflater.end();
+            }
+        }
+
+        int idle() {
+            return idle.size();
+        }
+    }
+}
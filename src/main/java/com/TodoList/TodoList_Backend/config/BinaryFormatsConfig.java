@@ -0,0 +1,36 @@
+package com.TodoList.TodoList_Backend.config;
+
+import org.springframework.boot.http.converter.autoconfigure.ServerHttpMessageConvertersCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.JacksonCborHttpMessageConverter;
+import org.springframework.http.converter.smile.JacksonSmileHttpMessageConverter;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+import tools.jackson.dataformat.smile.SmileWriteFeature;
+
+/**
+ * Réponses en CBOR ({@code application/cbor}) ou Smile ({@code application/x-jackson-smile}) pour les clients
+ * qui les demandent dans l'en-tête Accept ; JSON reste le format par défaut.
+ * <p>
+ * Les convertisseurs sont déclarés à leur place parmi ceux par défaut, après JSON, avec les mappers de l'application.
+ */
+@Configuration(proxyBeanMethods = false)
+public class BinaryFormatsConfig {
+
+    /** Les valeurs courtes répétées ({@code statut}) sont écrites une fois puis référencées, comme les noms de champs. */
+    @Bean
+    public SmileMapper smileMapper() {
+        return SmileMapper.builder()
+                .enable(SmileWriteFeature.CHECK_SHARED_STRING_VALUES)
+                .build();
+    }
+
+    @Bean
+    public ServerHttpMessageConvertersCustomizer binaryFormatsMessageConverters(CBORMapper cborMapper,
+                                                                                SmileMapper smileMapper) {
+        return builder -> builder
+                .withCborConverter(new JacksonCborHttpMessageConverter(cborMapper))
+                .withSmileConverter(new JacksonSmileHttpMessageConverter(smileMapper));
+    }
+}
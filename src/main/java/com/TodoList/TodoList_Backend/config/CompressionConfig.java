@@ -0,0 +1,28 @@
+package com.TodoList.TodoList_Backend.config;
+
+import com.TodoList.TodoList_Backend.compression.GzipCompressionFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Compression des réponses de l'API, placée avant tous les autres filtres : les réponses qu'ils écrivent
+ * eux-mêmes (refus, rejeu idempotent) passent aussi par elle.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "todo.compression.enabled", havingValue = "true", matchIfMissing = true)
+public class CompressionConfig {
+
+    @Bean
+    public FilterRegistrationBean<GzipCompressionFilter> gzipCompressionFilter(TodoCompressionProperties properties,
+                                                                              MeterRegistry meterRegistry) {
+        FilterRegistrationBean<GzipCompressionFilter> registration = new FilterRegistrationBean<>(
+                new GzipCompressionFilter(properties, meterRegistry));
+        registration.addUrlPatterns("/api/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 5);
+        return registration;
+    }
+}
@@ -0,0 +1,51 @@
+package com.TodoList.TodoList_Backend.config;
+
+import com.TodoList.TodoList_Backend.idempotency.IdempotencyFilter;
+import com.TodoList.TodoList_Backend.idempotency.IdempotencyStore;
+import com.TodoList.TodoList_Backend.idempotency.InMemoryIdempotencyStore;
+import com.TodoList.TodoList_Backend.idempotency.JdbcIdempotencyStore;
+import com.TodoList.TodoList_Backend.throttling.ClientIdResolver;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.core.JdbcTemplate;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Rejeu des écritures {@code Idempotency-Key}, placé après les filtres d'admission : un rejeu compte
+ * dans le débit du client, mais ne passe ni par le contrôleur ni par la base (store MEMORY).
+ * Les clés sont propres à chaque client, identifié comme pour la limitation de débit.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "todo.idempotency.enabled", havingValue = "true", matchIfMissing = true)
+public class IdempotencyConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "todo.idempotency.store", havingValue = "memory", matchIfMissing = true)
+    public IdempotencyStore inMemoryIdempotencyStore(TodoIdempotencyProperties properties) {
+        return new InMemoryIdempotencyStore(properties);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "todo.idempotency.store", havingValue = "jdbc")
+    public IdempotencyStore jdbcIdempotencyStore(JdbcTemplate jdbcTemplate, TodoIdempotencyProperties properties) {
+        return new JdbcIdempotencyStore(jdbcTemplate, properties);
+    }
+
+    @Bean
+    public FilterRegistrationBean<IdempotencyFilter> idempotencyFilter(IdempotencyStore store,
+                                                                      TodoIdempotencyProperties properties,
+                                                                      TodoThrottlingProperties throttlingProperties,
+                                                                      JsonMapper jsonMapper,
+                                                                      MeterRegistry meterRegistry) {
+        FilterRegistrationBean<IdempotencyFilter> registration = new FilterRegistrationBean<>(
+                new IdempotencyFilter(store, jsonMapper, properties,
+                        new ClientIdResolver(throttlingProperties.getRateLimit().getClientIdHeader()), meterRegistry));
+        registration.addUrlPatterns("/api/todos", "/api/todos/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 20);
+        return registration;
+    }
+}
@@ -0,0 +1,65 @@
+package com.TodoList.TodoList_Backend.config;
+
+import com.TodoList.TodoList_Backend.storage.InMemoryTodoStore;
+import com.TodoList.TodoList_Backend.storage.JdbcTodoPersister;
+import com.TodoList.TodoList_Backend.storage.LogTodoPersister;
+import com.TodoList.TodoList_Backend.storage.TodoPersister;
+import com.TodoList.TodoList_Backend.storage.TodoRecord;
+import com.TodoList.TodoList_Backend.storage.TodoWriteBehind;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+/**
+ * Moteur de stockage MEMORY ({@code todo.storage.engine=memory}) : les tâches sont chargées depuis la cible
+ * de persistance au démarrage, servies depuis la mémoire, puis persistées en écriture différée.
+ */
+@Slf4j
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "todo.storage.engine", havingValue = "memory")
+public class InMemoryStorageConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "todo.storage.write-behind.target", havingValue = "database", matchIfMissing = true)
+    public TodoPersister jdbcTodoPersister(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                                           TodoStorageProperties properties) {
+        return new JdbcTodoPersister(jdbcTemplate, new TransactionTemplate(transactionManager),
+                properties.getWriteBehind().getBatchSize());
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "todo.storage.write-behind.target", havingValue = "log")
+    public TodoPersister logTodoPersister(JsonMapper jsonMapper, TodoStorageProperties properties) {
+        return new LogTodoPersister(properties.getWriteBehind().getLogFile(), jsonMapper);
+    }
+
+    @Bean
+    public TodoWriteBehind todoWriteBehind(TodoPersister persister, TodoStorageProperties properties,
+                                           MeterRegistry meterRegistry) {
+        return new TodoWriteBehind(persister, properties.getWriteBehind(), meterRegistry);
+    }
+
+    @Bean
+    public InMemoryTodoStore inMemoryTodoStore(TodoPersister persister, TodoWriteBehind writeBehind) {
+        long start = System.nanoTime();
+        List<TodoRecord> todos;
+        try {
+            todos = persister.loadAll();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Chargement des tâches impossible", e);
+        }
+        log.info("Moteur de stockage en mémoire : {} tâches chargées en {} ms",
+                todos.size(), (System.nanoTime() - start) / 1_000_000);
+        return new InMemoryTodoStore(todos, writeBehind);
+    }
+}
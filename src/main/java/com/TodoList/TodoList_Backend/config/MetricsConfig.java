@@ -0,0 +1,16 @@
+package com.TodoList.TodoList_Backend.config;
+
+import com.TodoList.TodoList_Backend.metrics.RequestSqlStats;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+
+@Configuration(proxyBeanMethods = false)
+public class MetricsConfig {
+
+    /** Les ordres SQL d'une réponse asynchrone (liste, export) restent imputés à leur requête. */
+    @Bean
+    public TaskDecorator requestSqlStatsTaskDecorator() {
+        return RequestSqlStats::propagate;
+    }
+}
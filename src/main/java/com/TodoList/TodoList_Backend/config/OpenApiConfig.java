@@ -4,9 +4,12 @@ import io.swagger.v3.oas.annotations.OpenAPIDefinition;
 import io.swagger.v3.oas.annotations.info.Contact;
 import io.swagger.v3.oas.annotations.info.Info;
 import io.swagger.v3.oas.annotations.servers.Server;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
+// Sans api-docs (profil prod), la définition ne serait jamais lue
+@ConditionalOnProperty(name = "springdoc.api-docs.enabled", havingValue = "true", matchIfMissing = true)
 @OpenAPIDefinition(info = @Info(title = "TodoList API", version = "1.0.0", description = "API REST pour la gestion de tâches (To-Do List)", contact = @Contact(name = "TodoList Backend", email = "contact@todolist.com")), servers = {
                 @Server(url = "http://localhost:8080", description = "Développement local"),
                 @Server(url = "https://todolist.com", description = "Production")
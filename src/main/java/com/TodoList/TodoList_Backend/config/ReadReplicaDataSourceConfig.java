@@ -0,0 +1,75 @@
+package com.TodoList.TodoList_Backend.config;
+
+import com.TodoList.TodoList_Backend.datasource.DataSourceRouting;
+import com.TodoList.TodoList_Backend.datasource.ReadReplicaRoutingDataSource;
+import com.TodoList.TodoList_Backend.datasource.ReadYourWritesFilter;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * Sépare lectures et écritures quand {@code todo.datasource.replica.url} est renseignée : les transactions
+ * {@code readOnly} partent sur la réplique, tout le reste (écritures, Flyway, Hibernate) sur la base principale.
+ * Chaque base a son propre pool Hikari, dimensionné indépendamment.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnExpression("!'${todo.datasource.replica.url:}'.isBlank()")
+public class ReadReplicaDataSourceConfig {
+
+    @Bean(defaultCandidate = false)
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("todo-primary");
+        return dataSource;
+    }
+
+    @Bean(defaultCandidate = false)
+    public HikariDataSource replicaDataSource(TodoDataSourceProperties properties) {
+        TodoDataSourceProperties.Replica replica = properties.getReplica();
+        // Pool démarré au premier emprunt : une réplique indisponible ne bloque pas le démarrage
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("todo-replica");
+        dataSource.setJdbcUrl(replica.getUrl());
+        dataSource.setUsername(replica.getUsername());
+        dataSource.setPassword(replica.getPassword());
+        if (replica.getDriverClassName() != null && !replica.getDriverClassName().isBlank()) {
+            dataSource.setDriverClassName(replica.getDriverClassName());
+        }
+        dataSource.setMaximumPoolSize(replica.getMaximumPoolSize());
+        dataSource.setConnectionTimeout(replica.getConnectionTimeout().toMillis());
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                 @Qualifier("replicaDataSource") DataSource replica) {
+        ReadReplicaRoutingDataSource routing = new ReadReplicaRoutingDataSource(primary, replica);
+        routing.afterPropertiesSet();
+        // Le gestionnaire de transactions demande sa connexion avant de publier le caractère readOnly :
+        // le proxy retarde l'emprunt réel au premier ordre SQL, quand le routage peut en tenir compte
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    /** Appliqué par Spring Boot à l'exécuteur des requêtes asynchrones, où se déroulent les réponses en flux. */
+    @Bean
+    public TaskDecorator dataSourceRoutingTaskDecorator() {
+        return DataSourceRouting::propagate;
+    }
+
+    @Bean
+    public ReadYourWritesFilter readYourWritesFilter(TodoDataSourceProperties properties) {
+        return new ReadYourWritesFilter(properties.getReadYourWritesWindow());
+    }
+}
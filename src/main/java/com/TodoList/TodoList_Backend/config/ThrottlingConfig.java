@@ -0,0 +1,44 @@
+package com.TodoList.TodoList_Backend.config;
+
+import com.TodoList.TodoList_Backend.throttling.LoadSheddingFilter;
+import com.TodoList.TodoList_Backend.throttling.RateLimitFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Filtres d'admission de {@code /api/todos/**}, placés avant tous les autres filtres de l'application :
+ * une requête refusée ne touche ni au routage des bases, ni au pool de connexions.
+ * Le débit par client est vérifié d'abord, puis la charge globale.
+ */
+@Configuration(proxyBeanMethods = false)
+public class ThrottlingConfig {
+
+    private static final String[] URL_PATTERNS = {"/api/todos", "/api/todos/*"};
+
+    @Bean
+    @ConditionalOnProperty(name = "todo.throttling.rate-limit.enabled", havingValue = "true", matchIfMissing = true)
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilter(TodoThrottlingProperties properties,
+                                                                  JsonMapper jsonMapper, MeterRegistry meterRegistry) {
+        FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(
+                new RateLimitFilter(properties.getRateLimit(), jsonMapper, meterRegistry));
+        registration.addUrlPatterns(URL_PATTERNS);
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "todo.throttling.load-shedding.enabled", havingValue = "true", matchIfMissing = true)
+    public FilterRegistrationBean<LoadSheddingFilter> loadSheddingFilter(TodoThrottlingProperties properties,
+                                                                        JsonMapper jsonMapper, MeterRegistry meterRegistry) {
+        FilterRegistrationBean<LoadSheddingFilter> registration = new FilterRegistrationBean<>(
+                new LoadSheddingFilter(properties.getLoadShedding(), jsonMapper, meterRegistry));
+        registration.addUrlPatterns(URL_PATTERNS);
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 11);
+        return registration;
+    }
+}
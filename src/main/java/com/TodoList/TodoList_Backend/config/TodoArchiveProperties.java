@@ -0,0 +1,24 @@
+package com.TodoList.TodoList_Backend.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "todo.archive")
+public class TodoArchiveProperties {
+
+    private boolean enabled = true;
+    /** Durée sans modification au-delà de laquelle une tâche terminée quitte la table {@code todos}. */
+    private Duration minAge = Duration.ofDays(30);
+    private Duration interval = Duration.ofHours(1);
+    /** Tâches déplacées par transaction : borne la durée des verrous posés sur {@code todos}. */
+    private int chunkSize = 200;
+    /** Borne le travail d'un passage ; le reste attend le passage suivant. */
+    private int maxChunksPerRun = 50;
+    /** Pause entre deux lots, qui rend connexions et verrous aux requêtes. */
+    private Duration pause = Duration.ofMillis(200);
+    /** Part du pool de connexions occupée au-delà de laquelle le passage s'interrompt jusqu'au suivant. */
+    private double maxPoolUsage = 0.5;
+}
@@ -0,0 +1,26 @@
+package com.TodoList.TodoList_Backend.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "todo.cache")
+public class TodoCacheProperties {
+
+    private boolean enabled = true;
+    private long maximumSize = 10_000;
+    private Duration ttl = Duration.ofMinutes(10);
+    /** Identifiants absents de la base, servis en 404 sans requête. */
+    private Negative negative = new Negative();
+
+    @Data
+    public static class Negative {
+
+        private boolean enabled = true;
+        /** Borne séparée du cache des tâches : un afflux d'identifiants aléatoires n'en évince pas les entrées. */
+        private long maximumSize = 100_000;
+        private Duration ttl = Duration.ofMinutes(1);
+    }
+}
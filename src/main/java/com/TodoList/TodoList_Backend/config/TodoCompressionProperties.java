@@ -0,0 +1,27 @@
+package com.TodoList.TodoList_Backend.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@ConfigurationProperties(prefix = "todo.compression")
+public class TodoCompressionProperties {
+
+    private boolean enabled = true;
+    /** Réponses plus courtes envoyées telles quelles : l'en-tête gzip et le coût CPU n'y gagnent rien. */
+    private DataSize minResponseSize = DataSize.ofKilobytes(2);
+    /** Niveau deflate, de 1 (rapide) à 9 (compact). */
+    private int level = 6;
+    /** Encodeurs gardés entre deux réponses ; au-delà, ils sont libérés. */
+    private int maxPooledEncoders = 64;
+    private List<String> mimeTypes = new ArrayList<>(List.of(
+            "application/json",
+            "application/*+json",
+            "application/x-ndjson",
+            "application/cbor",
+            "application/x-jackson-smile"));
+}
@@ -0,0 +1,27 @@
+package com.TodoList.TodoList_Backend.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "todo.datasource")
+public class TodoDataSourceProperties {
+
+    /** Réplique de lecture ; sans {@code url}, toutes les transactions restent sur la base principale. */
+    private Replica replica = new Replica();
+    /** Durée pendant laquelle un client qui vient d'écrire lit sur la base principale ; {@code 0} désactive. */
+    private Duration readYourWritesWindow = Duration.ofSeconds(5);
+
+    @Data
+    public static class Replica {
+
+        private String url;
+        private String username;
+        private String password;
+        private String driverClassName;
+        private int maximumPoolSize = 20;
+        private Duration connectionTimeout = Duration.ofSeconds(2);
+    }
+}
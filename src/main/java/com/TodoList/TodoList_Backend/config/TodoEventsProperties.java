@@ -0,0 +1,25 @@
+package com.TodoList.TodoList_Backend.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "todo.events")
+public class TodoEventsProperties {
+
+    /** Nombre d'événements conservés pour la reprise via Last-Event-ID. */
+    private int historySize = 1000;
+    /** Événements en attente d'envoi par abonné avant application de {@link #overflowPolicy}. */
+    private int subscriberBufferSize = 256;
+    private OverflowPolicy overflowPolicy = OverflowPolicy.DROP_OLDEST;
+    private Duration timeout = Duration.ofMinutes(30);
+
+    public enum OverflowPolicy {
+        /** L'événement le plus ancien en attente est écarté ; le client voit un trou dans les identifiants. */
+        DROP_OLDEST,
+        /** L'abonné est déconnecté ; il se reconnecte et reprend depuis son dernier identifiant. */
+        DISCONNECT
+    }
+}
@@ -0,0 +1,35 @@
+package com.TodoList.TodoList_Backend.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "todo.idempotency")
+public class TodoIdempotencyProperties {
+
+    private boolean enabled = true;
+    private Store store = Store.MEMORY;
+    /** Durée pendant laquelle une réponse est rejouée pour la même clé. */
+    private Duration ttl = Duration.ofHours(24);
+    /** Au-delà, une requête en cours est considérée comme abandonnée et sa clé peut être reprise. */
+    private Duration inFlightTimeout = Duration.ofSeconds(30);
+    /**
+     * Corps de requête lu au plus pour calculer l'empreinte ; au-delà, réponse 413 sans lecture.
+     * Un lot {@code /bulk} de 1000 tâches pèse de l'ordre de 600 Ko.
+     */
+    private DataSize maxBodySize = DataSize.ofMegabytes(2);
+    /** Taille totale des réponses gardées en mémoire (store MEMORY) ; les plus anciennes sont évincées. */
+    private DataSize maxMemory = DataSize.ofMegabytes(64);
+    /** Fréquence de suppression des clés expirées (store JDBC). */
+    private Duration purgeInterval = Duration.ofMinutes(10);
+
+    public enum Store {
+        /** Clés propres à chaque nœud : suffisant pour une seule instance. */
+        MEMORY,
+        /** Clés partagées par tous les nœuds dans la table idempotency_keys. */
+        JDBC
+    }
+}
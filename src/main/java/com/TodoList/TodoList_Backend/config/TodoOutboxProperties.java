@@ -0,0 +1,26 @@
+package com.TodoList.TodoList_Backend.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "todo.outbox")
+public class TodoOutboxProperties {
+
+    private boolean dispatcherEnabled = true;
+    private Duration pollInterval = Duration.ofSeconds(1);
+    private int batchSize = 100;
+    /** Borne le travail d'un passage pour rendre la main au planificateur. */
+    private int maxBatchesPerPoll = 50;
+    /**
+     * Livraisons refusées au-delà desquelles un événement est écarté ({@code dead_at}), à condition que
+     * la destination ait accepté d'autres événements pendant le même passage : une panne n'écarte rien.
+     */
+    private int maxAttempts = 10;
+    /** {@code log}, {@code file}, ou tout autre valeur pour fournir son propre bean {@code OutboxSink}. */
+    private String sink = "log";
+    private Path file = Path.of("todo-outbox.ndjson");
+}
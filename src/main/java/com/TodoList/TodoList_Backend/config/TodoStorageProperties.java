@@ -0,0 +1,45 @@
+package com.TodoList.TodoList_Backend.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "todo.storage")
+public class TodoStorageProperties {
+
+    private Engine engine = Engine.JPA;
+    /** Persistance différée du moteur MEMORY. */
+    private WriteBehind writeBehind = new WriteBehind();
+
+    public enum Engine {
+        /** {@code TodoServiceImpl} : chaque écriture est une transaction JPA. */
+        JPA,
+        /** {@code InMemoryTodoService} : tâches en mémoire, persistées en arrière-plan. Une seule instance. */
+        MEMORY
+    }
+
+    public enum Target {
+        /** Table {@code todos}, comme le moteur JPA : on peut repasser de l'un à l'autre. */
+        DATABASE,
+        /** Journal local en ajout seul, rejoué puis compacté au démarrage. */
+        LOG
+    }
+
+    @Data
+    public static class WriteBehind {
+
+        private Target target = Target.DATABASE;
+        private Path logFile = Path.of("todo-store.log");
+        /** Délai maximal entre une écriture et sa persistance, hors panne de la cible. */
+        private Duration flushInterval = Duration.ofMillis(200);
+        /** Taille des lots JDBC ; atteinte, elle déclenche aussi un flush sans attendre l'intervalle. */
+        private int batchSize = 500;
+        /** Tâches modifiées non persistées au-delà desquelles les écritures attendent le flush. */
+        private int maxPending = 10_000;
+        /** Attente maximale d'une écriture bloquée par {@code max-pending} avant un refus en 503. */
+        private Duration maxWait = Duration.ofSeconds(5);
+    }
+}
@@ -0,0 +1,51 @@
+package com.TodoList.TodoList_Backend.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Data
+@ConfigurationProperties(prefix = "todo.throttling")
+public class TodoThrottlingProperties {
+
+    private RateLimit rateLimit = new RateLimit();
+    private LoadShedding loadShedding = new LoadShedding();
+
+    @Data
+    public static class RateLimit {
+
+        private boolean enabled = true;
+        /** Jetons d'un seau plein : rafale maximale d'un client. */
+        private int capacity = 100;
+        /** Jetons rendus par seconde : débit soutenu d'un client. */
+        private double refillPerSecond = 50;
+        /**
+         * En-tête identifiant le client, à renseigner uniquement s'il est posé (et écrasé) par une passerelle de
+         * confiance ; vide par défaut : le client est identifié par l'adresse IP de la connexion.
+         */
+        private String clientIdHeader = "";
+        /** Clients suivis au plus ; les seaux pleins depuis longtemps sont oubliés les premiers. */
+        private int maxClients = 100_000;
+        /** Coût en jetons par {@code "MÉTHODE /chemin"} exact (sans « / » final) ; 1 pour les autres requêtes. */
+        private Map<String, Integer> costs = new LinkedHashMap<>(Map.of(
+                "GET /api/todos", 20,
+                "GET /api/todos/export", 50,
+                "GET /api/todos/search", 2,
+                "POST /api/todos/bulk", 10,
+                "PUT /api/todos/bulk", 10,
+                "PATCH /api/todos/bulk/status", 10));
+    }
+
+    @Data
+    public static class LoadShedding {
+
+        private boolean enabled = true;
+        /** Requêtes traitées simultanément au-delà desquelles les suivantes sont refusées (503). */
+        private int maxConcurrent = 64;
+        /** Valeur de l'en-tête {@code Retry-After} des refus. */
+        private Duration retryAfter = Duration.ofSeconds(1);
+    }
+}
@@ -1,9 +1,21 @@
 package com.TodoList.TodoList_Backend.controller;
 
+import com.TodoList.TodoList_Backend.dto.ArchivedTodoPageDto;
+import com.TodoList.TodoList_Backend.dto.BulkItemResultDto;
+import com.TodoList.TodoList_Backend.dto.TodoBulkStatusDto;
+import com.TodoList.TodoList_Backend.dto.TodoBulkUpdateDto;
+import com.TodoList.TodoList_Backend.dto.TodoPageDto;
 import com.TodoList.TodoList_Backend.dto.TodoRequestDto;
 import com.TodoList.TodoList_Backend.dto.TodoResponseDto;
+import com.TodoList.TodoList_Backend.dto.TodoSearchResultDto;
+import com.TodoList.TodoList_Backend.dto.TodoStatsDto;
 import com.TodoList.TodoList_Backend.dto.TodoStatusDto;
+import com.TodoList.TodoList_Backend.entity.enums.TodoStatus;
+import com.TodoList.TodoList_Backend.event.TodoEventBroadcaster;
 import com.TodoList.TodoList_Backend.response.ApiResponse;
+import com.TodoList.TodoList_Backend.response.MediaTypes;
+import com.TodoList.TodoList_Backend.response.TodoListJsonWriter;
+import com.TodoList.TodoList_Backend.service.TodoArchiveService;
 import com.TodoList.TodoList_Backend.service.TodoService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -12,10 +24,17 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.SequenceWriter;
+import tools.jackson.databind.json.JsonMapper;
 
 import java.util.List;
 import java.util.UUID;
@@ -26,7 +45,14 @@ import java.util.UUID;
 @Tag(name = "Gestion des Tâches", description = "API CRUD pour la gestion de la To-Do List")
 public class TodoController {
 
+    private static final int EXPORT_FLUSH_INTERVAL = 500;
+    private static final int MAX_BULK_SIZE = 1000;
+
     private final TodoService todoService;
+    private final TodoArchiveService todoArchiveService;
+    private final JsonMapper jsonMapper;
+    private final TodoListJsonWriter todoListJsonWriter;
+    private final TodoEventBroadcaster todoEventBroadcaster;
 
     @PostMapping
     @Operation(summary = "Créer une tâche")
@@ -37,17 +63,125 @@ public class TodoController {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "409", description = "Titre déjà existant")
     })
     public ResponseEntity<ApiResponse<TodoResponseDto>> create(@Valid @RequestBody TodoRequestDto dto) {
+        TodoResponseDto created = todoService.create(dto);
         return ResponseEntity.status(HttpStatus.CREATED)
-                .body(ApiResponse.created("Tâche créée avec succès", todoService.create(dto)));
+                .eTag(TodoETags.of(created.getVersion()))
+                .body(ApiResponse.created("Tâche créée avec succès", created));
+    }
+
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, MediaTypes.APPLICATION_SMILE_VALUE})
+    @Operation(summary = "Lister toutes les tâches (JSON, ou CBOR / Smile selon l'en-tête Accept)")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Liste récupérée avec succès",
+                    content = @Content(schema = @Schema(implementation = ApiResponse.class)))
+    })
+    public ResponseEntity<StreamingResponseBody> getAll(
+            @Parameter(hidden = true) @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        MediaType mediaType = TodoListJsonWriter.negotiate(accept);
+        // Même enveloppe ApiResponse que les autres endpoints, écrite ligne par ligne depuis la base
+        StreamingResponseBody body = out -> {
+            try (TodoListJsonWriter.Session session = todoListJsonWriter.open(out, "Tâches récupérées avec succès", mediaType)) {
+                todoService.forEachRow(session::write);
+                session.finish();
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(mediaType)
+                // Le format dépend de l'en-tête Accept : un cache ne doit pas servir du CBOR à un client JSON
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(body);
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Exporter toutes les tâches au format NDJSON (une tâche par ligne)")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Export en cours de diffusion")
+    })
+    public ResponseEntity<StreamingResponseBody> export() {
+        StreamingResponseBody body = out -> {
+            try (SequenceWriter writer = jsonMapper.writerFor(TodoResponseDto.class)
+                    .withRootValueSeparator("\n")
+                    .writeValues(out)) {
+                int[] written = {0};
+                todoService.exportAll(dto -> {
+                    writer.write(dto);
+                    // Premier octet envoyé sans attendre le remplissage des tampons
+                    if (++written[0] % EXPORT_FLUSH_INTERVAL == 1) {
+                        writer.flush();
+                    }
+                });
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Suivre les modifications des tâches en temps réel (Server-Sent Events)")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200",
+                    description = "Flux d'événements created, updated, status-changed, deleted et reset")
+    })
+    public SseEmitter events(
+            @Parameter(description = "Dernier identifiant d'événement reçu, pour reprendre le flux")
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return todoEventBroadcaster.subscribe(lastEventId);
+    }
+
+    @GetMapping("/page")
+    @Operation(summary = "Lister les tâches page par page (pagination par curseur)")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Page récupérée avec succès",
+                    content = @Content(schema = @Schema(implementation = TodoPageDto.class))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Curseur ou taille de page invalide")
+    })
+    public ResponseEntity<ApiResponse<TodoPageDto>> getPage(
+            @Parameter(description = "Curseur opaque renvoyé par la page précédente") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Nombre de tâches par page (1 à 100)") @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "Filtre sur le statut") @RequestParam(required = false) TodoStatus statut,
+            @Parameter(description = "Filtre sur le début du titre") @RequestParam(required = false) String titre) {
+        return ResponseEntity.ok(ApiResponse.success("Tâches récupérées avec succès",
+                todoService.getPage(cursor, size, statut, titre)));
+    }
+
+    @GetMapping("/archive")
+    @Operation(summary = "Lister les tâches terminées archivées, page par page (pagination par curseur)")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Page de l'archive récupérée avec succès",
+                    content = @Content(schema = @Schema(implementation = ArchivedTodoPageDto.class))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Curseur ou taille de page invalide")
+    })
+    public ResponseEntity<ApiResponse<ArchivedTodoPageDto>> getArchivePage(
+            @Parameter(description = "Curseur opaque renvoyé par la page précédente de l'archive") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Nombre de tâches par page (1 à 100)") @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(ApiResponse.success("Tâches archivées récupérées avec succès",
+                todoArchiveService.getPage(cursor, size)));
+    }
+
+    @GetMapping("/search")
+    @Operation(summary = "Rechercher des tâches par mots du titre ou de la description")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Résultats classés par pertinence",
+                    content = @Content(schema = @Schema(implementation = TodoSearchResultDto.class))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Texte vide, page ou taille invalide")
+    })
+    public ResponseEntity<ApiResponse<TodoSearchResultDto>> search(
+            @Parameter(description = "Mots recherchés (tous doivent être présents, accents ignorés)", required = true) @RequestParam String q,
+            @Parameter(description = "Numéro de page, à partir de 0") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Nombre de résultats par page (1 à 100)") @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(ApiResponse.success("Recherche effectuée avec succès",
+                todoService.search(q, page, size)));
     }
 
-    @GetMapping
-    @Operation(summary = "Lister toutes les tâches")
+    @GetMapping("/stats")
+    @Operation(summary = "Compter les tâches par statut")
     @ApiResponses({
-            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Liste récupérée avec succès")
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Compteurs récupérés avec succès",
+                    content = @Content(schema = @Schema(implementation = TodoStatsDto.class)))
     })
-    public ResponseEntity<ApiResponse<List<TodoResponseDto>>> getAll() {
-        return ResponseEntity.ok(ApiResponse.success("Tâches récupérées avec succès", todoService.getAll()));
+    public ResponseEntity<ApiResponse<TodoStatsDto>> getStats() {
+        return ResponseEntity.ok(ApiResponse.success("Statistiques récupérées avec succès", todoService.getStats()));
     }
 
     @GetMapping("/{id}")
@@ -55,11 +189,19 @@ public class TodoController {
     @ApiResponses({
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Tâche trouvée",
                     content = @Content(schema = @Schema(implementation = TodoResponseDto.class))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "304", description = "Tâche inchangée depuis l'ETag fourni"),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "Tâche non trouvée")
     })
     public ResponseEntity<ApiResponse<TodoResponseDto>> getById(
-            @Parameter(description = "UUID de la tâche", required = true) @PathVariable UUID id) {
-        return ResponseEntity.ok(ApiResponse.success(todoService.getById(id)));
+            @Parameter(description = "UUID de la tâche", required = true) @PathVariable UUID id,
+            @Parameter(description = "ETag déjà connue du client") @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        TodoResponseDto todo = todoService.getById(id);
+        String etag = TodoETags.of(todo.getVersion());
+        if (TodoETags.matchesIfNoneMatch(ifNoneMatch, todo.getVersion())) {
+            // 304 sans corps : ni enveloppe ApiResponse ni sérialisation JSON
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        return ResponseEntity.ok().eTag(etag).body(ApiResponse.success(todo));
     }
 
     @PutMapping("/{id}")
@@ -68,35 +210,83 @@ public class TodoController {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Tâche modifiée avec succès"),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Données invalides"),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "Tâche non trouvée"),
-            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "409", description = "Titre déjà existant")
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "409", description = "Titre déjà existant"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "412", description = "ETag If-Match périmée")
     })
     public ResponseEntity<ApiResponse<TodoResponseDto>> update(
             @Parameter(description = "UUID de la tâche", required = true) @PathVariable UUID id,
+            @Parameter(description = "ETag de la version modifiée") @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody TodoRequestDto dto) {
-        return ResponseEntity.ok(ApiResponse.success("Tâche modifiée avec succès", todoService.update(id, dto)));
+        TodoResponseDto updated = todoService.update(id, dto, TodoETags.expectedVersions(ifMatch));
+        return ResponseEntity.ok()
+                .eTag(TodoETags.of(updated.getVersion()))
+                .body(ApiResponse.success("Tâche modifiée avec succès", updated));
     }
 
     @PatchMapping("/{id}/status")
     @Operation(summary = "Marquer une tâche comme terminée")
     @ApiResponses({
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Statut mis à jour avec succès"),
-            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "Tâche non trouvée")
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "Tâche non trouvée"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "412", description = "ETag If-Match périmée")
     })
     public ResponseEntity<ApiResponse<TodoResponseDto>> updateStatut(
             @Parameter(description = "UUID de la tâche", required = true) @PathVariable UUID id,
+            @Parameter(description = "ETag de la version modifiée") @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody TodoStatusDto dto) {
-        return ResponseEntity.ok(ApiResponse.success("Statut mis à jour avec succès", todoService.updateStatut(id, dto)));
+        TodoResponseDto updated = todoService.updateStatut(id, dto, TodoETags.expectedVersions(ifMatch));
+        return ResponseEntity.ok()
+                .eTag(TodoETags.of(updated.getVersion()))
+                .body(ApiResponse.success("Statut mis à jour avec succès", updated));
     }
 
     @DeleteMapping("/{id}")
     @Operation(summary = "Supprimer une tâche")
     @ApiResponses({
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Tâche supprimée avec succès"),
-            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "Tâche non trouvée")
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "Tâche non trouvée"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "412", description = "ETag If-Match périmée")
     })
     public ResponseEntity<ApiResponse<Void>> delete(
-            @Parameter(description = "UUID de la tâche", required = true) @PathVariable UUID id) {
-        todoService.delete(id);
+            @Parameter(description = "UUID de la tâche", required = true) @PathVariable UUID id,
+            @Parameter(description = "ETag de la version supprimée") @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        todoService.delete(id, TodoETags.expectedVersions(ifMatch));
         return ResponseEntity.ok(ApiResponse.success("Tâche supprimée avec succès", null));
     }
+
+    @PostMapping("/bulk")
+    @Operation(summary = "Créer plusieurs tâches en une seule requête")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Lot traité, un résultat par tâche"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Données invalides")
+    })
+    public ResponseEntity<ApiResponse<List<BulkItemResultDto>>> createAll(
+            @RequestBody @Size(min = 1, max = MAX_BULK_SIZE, message = "Le lot doit contenir entre 1 et " + MAX_BULK_SIZE + " tâches")
+            List<@Valid TodoRequestDto> dtos) {
+        return ResponseEntity.ok(ApiResponse.success("Lot traité", todoService.createAll(dtos)));
+    }
+
+    @PutMapping("/bulk")
+    @Operation(summary = "Modifier plusieurs tâches en une seule requête")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Lot traité, un résultat par tâche"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Données invalides")
+    })
+    public ResponseEntity<ApiResponse<List<BulkItemResultDto>>> updateAll(
+            @RequestBody @Size(min = 1, max = MAX_BULK_SIZE, message = "Le lot doit contenir entre 1 et " + MAX_BULK_SIZE + " tâches")
+            List<@Valid TodoBulkUpdateDto> dtos) {
+        return ResponseEntity.ok(ApiResponse.success("Lot traité", todoService.updateAll(dtos)));
+    }
+
+    @PatchMapping("/bulk/status")
+    @Operation(summary = "Changer le statut de plusieurs tâches en une seule requête")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Lot traité, un résultat par tâche"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Données invalides")
+    })
+    public ResponseEntity<ApiResponse<List<BulkItemResultDto>>> updateStatutAll(
+            @RequestBody @Size(min = 1, max = MAX_BULK_SIZE, message = "Le lot doit contenir entre 1 et " + MAX_BULK_SIZE + " tâches")
+            List<@Valid TodoBulkStatusDto> dtos) {
+        return ResponseEntity.ok(ApiResponse.success("Lot traité", todoService.updateStatutAll(dtos)));
+    }
 }
@@ -0,0 +1,62 @@
+package com.TodoList.TodoList_Backend.controller;
+
+import org.springframework.http.ETag;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * ETag d'une tâche : sa version JPA entre guillemets, par exemple {@code "3"}.
+ */
+final class TodoETags {
+
+    private TodoETags() {
+    }
+
+    static String of(Long version) {
+        return "\"" + version + "\"";
+    }
+
+    static boolean matchesIfNoneMatch(String ifNoneMatch, Long version) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        ETag current = new ETag(String.valueOf(version), false);
+        for (ETag tag : ETag.parse(ifNoneMatch)) {
+            // If-None-Match utilise la comparaison faible (RFC 9110, 13.1.2)
+            if (tag.isWildcard() || tag.compare(current, false)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Versions acceptées par un en-tête If-Match, ou {@code null} si la requête n'est pas conditionnelle.
+     * L'en-tête peut lister plusieurs ETags (RFC 9110, 13.1.1) : la tâche doit porter l'une d'elles.
+     * Un ensemble vide ne correspond à aucune tâche.
+     */
+    static Set<Long> expectedVersions(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank()) {
+            return null;
+        }
+        List<ETag> tags = ETag.parse(ifMatch);
+        if (tags.size() == 1 && tags.get(0).isWildcard()) {
+            return null;
+        }
+        Set<Long> versions = new HashSet<>();
+        for (ETag tag : tags) {
+            // If-Match utilise la comparaison forte : une ETag faible ne correspond jamais
+            if (tag.isWildcard() || tag.weak()) {
+                continue;
+            }
+            try {
+                versions.add(Long.parseLong(tag.tag()));
+            } catch (NumberFormatException ex) {
+                // ETag illisible : ne correspond à aucune version
+            }
+        }
+        return versions;
+    }
+}
@@ -0,0 +1,64 @@
+package com.TodoList.TodoList_Backend.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * Force la base principale pour les lectures du thread courant, même dans une transaction {@code readOnly}.
+ * <p>
+ * Sert aux lectures qui ne tolèrent pas le retard d'une réplique : lecture de ses propres écritures,
+ * chargement d'un cache ou d'un état en mémoire qui survivrait à ce retard. Sans réplique configurée,
+ * toutes les lectures sont déjà sur la base principale et ces appels sont sans effet.
+ */
+public final class DataSourceRouting {
+
+    private static final ThreadLocal<Boolean> PRIMARY_REQUIRED = new ThreadLocal<>();
+
+    private DataSourceRouting() {
+    }
+
+    /** À fermer (try-with-resources) pour rétablir le routage précédent. */
+    public static PrimaryScope requirePrimary() {
+        Boolean previous = PRIMARY_REQUIRED.get();
+        PRIMARY_REQUIRED.set(Boolean.TRUE);
+        return () -> {
+            if (previous == null) {
+                PRIMARY_REQUIRED.remove();
+            } else {
+                PRIMARY_REQUIRED.set(previous);
+            }
+        };
+    }
+
+    public static <T> T onPrimary(Supplier<T> action) {
+        try (PrimaryScope ignored = requirePrimary()) {
+            return action.get();
+        }
+    }
+
+    public static void onPrimary(Runnable action) {
+        try (PrimaryScope ignored = requirePrimary()) {
+            action.run();
+        }
+    }
+
+    /**
+     * Transmet l'exigence du thread appelant à une tâche exécutée ailleurs (réponses asynchrones
+     * de Spring MVC, comme la liste écrite en flux).
+     */
+    public static Runnable propagate(Runnable task) {
+        if (!isPrimaryRequired()) {
+            return task;
+        }
+        return () -> onPrimary(task);
+    }
+
+    public static boolean isPrimaryRequired() {
+        return PRIMARY_REQUIRED.get() != null;
+    }
+
+    public interface PrimaryScope extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,34 @@
+package com.TodoList.TodoList_Backend.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Envoie les transactions {@code readOnly} sur la réplique et tout le reste sur la base principale,
+ * sauf si le thread exige la base principale ({@link DataSourceRouting}).
+ * <p>
+ * Le choix se fait à l'emprunt de la connexion : il doit être enveloppé dans un
+ * {@code LazyConnectionDataSourceProxy} pour que cet emprunt ait lieu une fois la transaction déclarée.
+ */
+public class ReadReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Target {
+        PRIMARY,
+        REPLICA
+    }
+
+    public ReadReplicaRoutingDataSource(DataSource primary, DataSource replica) {
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Target determineCurrentLookupKey() {
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly() && !DataSourceRouting.isPrimaryRequired()
+                ? Target.REPLICA
+                : Target.PRIMARY;
+    }
+}
@@ -0,0 +1,83 @@
+package com.TodoList.TodoList_Backend.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Fenêtre « lire ses propres écritures » par client : une requête d'écriture pose un cookie portant
+ * l'échéance de la fenêtre, et les lectures de ce client qui le renvoient sont servies par la base principale
+ * jusqu'à cette échéance. Les autres clients continuent de lire sur la réplique.
+ * <p>
+ * L'état est porté par le client : rien à partager entre instances. Une échéance au-delà de la fenêtre
+ * est ignorée, si bien qu'un cookie forgé ne peut pas détourner durablement les lectures vers la base principale.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    public static final String COOKIE = "todo-primary-until";
+
+    private static final Set<String> READ_METHODS = Set.of("GET", "HEAD", "OPTIONS", "TRACE");
+
+    private final long windowMillis;
+
+    public ReadYourWritesFilter(Duration window) {
+        this.windowMillis = window.toMillis();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return windowMillis <= 0;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long now = System.currentTimeMillis();
+        if (!READ_METHODS.contains(request.getMethod())) {
+            // Posé avant l'écriture : la réponse peut être validée avant la fin de la chaîne
+            response.addHeader(HttpHeaders.SET_COOKIE, ResponseCookie.from(COOKIE, Long.toString(now + windowMillis))
+                    .path("/")
+                    .maxAge(Duration.ofMillis(windowMillis).toSeconds() + 1)
+                    .httpOnly(true)
+                    .sameSite("Lax")
+                    .build()
+                    .toString());
+            chain.doFilter(request, response);
+            return;
+        }
+        if (!wroteRecently(request, now)) {
+            chain.doFilter(request, response);
+            return;
+        }
+        try (DataSourceRouting.PrimaryScope ignored = DataSourceRouting.requirePrimary()) {
+            chain.doFilter(request, response);
+        }
+    }
+
+    private boolean wroteRecently(HttpServletRequest request, long now) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return false;
+        }
+        for (Cookie cookie : cookies) {
+            if (COOKIE.equals(cookie.getName())) {
+                try {
+                    long until = Long.parseLong(cookie.getValue());
+                    return until > now && until <= now + windowMillis;
+                } catch (NumberFormatException ex) {
+                    return false;
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,24 @@
+package com.TodoList.TodoList_Backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArchivedTodoDto {
+
+    private UUID id;
+    private String titre;
+    private String description;
+    private Instant createdAt;
+    /** Dernière modification dans {@code todos}, en pratique le passage au statut TERMINEE. */
+    private Instant updatedAt;
+    private Instant archivedAt;
+}
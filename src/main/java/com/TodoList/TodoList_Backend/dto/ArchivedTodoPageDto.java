@@ -0,0 +1,20 @@
+package com.TodoList.TodoList_Backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArchivedTodoPageDto {
+
+    private List<ArchivedTodoDto> items;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+}
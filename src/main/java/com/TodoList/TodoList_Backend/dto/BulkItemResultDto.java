@@ -0,0 +1,31 @@
+package com.TodoList.TodoList_Backend.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BulkItemResultDto {
+
+    private int index;
+    private UUID id;
+    private Outcome outcome;
+    private String message;
+    private TodoResponseDto data;
+
+    public enum Outcome {
+        CREATED,
+        UPDATED,
+        CONFLICT,
+        NOT_FOUND,
+        BAD_REQUEST
+    }
+}
@@ -0,0 +1,23 @@
+package com.TodoList.TodoList_Backend.dto;
+
+import com.TodoList.TodoList_Backend.entity.enums.TodoStatus;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TodoBulkStatusDto {
+
+    @NotNull(message = "L'identifiant est obligatoire")
+    private UUID id;
+
+    @NotNull(message = "Le statut est obligatoire")
+    private TodoStatus statut;
+}
@@ -0,0 +1,27 @@
+package com.TodoList.TodoList_Backend.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TodoBulkUpdateDto {
+
+    @NotNull(message = "L'identifiant est obligatoire")
+    private UUID id;
+
+    @NotBlank(message = "Le titre est obligatoire")
+    @Size(min = 2, max = 100, message = "Le titre doit contenir entre 2 et 100 caractères")
+    private String titre;
+
+    private String description;
+}
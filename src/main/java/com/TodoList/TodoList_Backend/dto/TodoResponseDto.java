@@ -1,6 +1,7 @@
 package com.TodoList.TodoList_Backend.dto;
 
 import com.TodoList.TodoList_Backend.entity.enums.TodoStatus;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -18,4 +19,7 @@ public class TodoResponseDto {
     private String titre;
     private String description;
     private TodoStatus statut;
+
+    @JsonIgnore
+    private Long version;
 }
@@ -0,0 +1,21 @@
+package com.TodoList.TodoList_Backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TodoSearchResultDto {
+
+    private List<TodoResponseDto> items;
+    private long total;
+    private int page;
+    private int size;
+    private boolean hasNext;
+}
@@ -0,0 +1,19 @@
+package com.TodoList.TodoList_Backend.dto;
+
+import com.TodoList.TodoList_Backend.entity.enums.TodoStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TodoStatsDto {
+
+    private long total;
+    private Map<TodoStatus, Long> parStatut;
+}
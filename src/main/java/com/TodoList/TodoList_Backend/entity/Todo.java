@@ -3,12 +3,16 @@ package com.TodoList.TodoList_Backend.entity;
 import com.TodoList.TodoList_Backend.entity.enums.TodoStatus;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.annotations.UuidGenerator;
+import org.hibernate.type.SqlTypes;
 
+import java.time.Instant;
 import java.util.UUID;
 
 @Entity
-@Table(name = "todos")
+@Table(name = "todos", indexes = @Index(name = "idx_todos_statut_id", columnList = "statut, id"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -16,9 +20,11 @@ import java.util.UUID;
 @Builder
 public class Todo {
 
+    // UUID v7 : croissant dans le temps, les insertions s'ajoutent en fin d'index clusterisé au lieu de le fragmenter
     @Id
-    @UuidGenerator
-    @Column(updatable = false, nullable = false)
+    @UuidGenerator(style = UuidGenerator.Style.VERSION_7)
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(length = 16, updatable = false, nullable = false)
     private UUID id;
 
     @Column(nullable = false, unique = true)
@@ -31,4 +37,12 @@ public class Todo {
     @Column(nullable = false)
     @Builder.Default
     private TodoStatus statut = TodoStatus.EN_COURS;
+
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
 }
@@ -0,0 +1,63 @@
+package com.TodoList.TodoList_Backend.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.Length;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.annotations.UuidGenerator;
+import org.hibernate.type.SqlTypes;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Modification d'une tâche en attente de livraison aux systèmes externes.
+ * <p>
+ * Écrite dans la transaction de la modification elle-même, puis supprimée par
+ * {@code TodoOutboxDispatcher} une fois livrée. L'identifiant UUID v7 croît avec le temps :
+ * trier sur {@code id} restitue l'ordre d'écriture, sans colonne auto-incrémentée qui empêcherait
+ * le regroupement des INSERT.
+ * <p>
+ * Un événement encore refusé après {@code todo.outbox.max-attempts} livraisons reste dans la table, écarté :
+ * {@code dead_at} et {@code last_error} sont renseignés et le dispatcher ne le réserve plus.
+ */
+@Entity
+@Table(name = "todo_outbox")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TodoOutboxEvent {
+
+    @Id
+    @UuidGenerator(style = UuidGenerator.Style.VERSION_7)
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(length = 16, updatable = false, nullable = false)
+    private UUID id;
+
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(name = "todo_id", length = 16, nullable = false, updatable = false)
+    private UUID todoId;
+
+    @Column(nullable = false, updatable = false, length = 32)
+    private String type;
+
+    // LONGTEXT sous MySQL, lu comme une chaîne ordinaire plutôt qu'un LOB
+    @JdbcTypeCode(SqlTypes.LONGVARCHAR)
+    @Column(length = Length.LONG32, nullable = false, updatable = false)
+    private String payload;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private int attempts = 0;
+
+    @Column(name = "dead_at")
+    private Instant deadAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+}
@@ -0,0 +1,22 @@
+package com.TodoList.TodoList_Backend.event;
+
+public enum TodoChangeType {
+
+    CREATED("created"),
+    UPDATED("updated"),
+    STATUS_CHANGED("status-changed"),
+    DELETED("deleted"),
+    /** Tâche terminée déplacée vers {@code todos_archive} : elle quitte la liste comme une suppression. */
+    ARCHIVED("archived");
+
+    private final String eventName;
+
+    TodoChangeType(String eventName) {
+        this.eventName = eventName;
+    }
+
+    /** Nom du champ {@code event:} du flux SSE. */
+    public String getEventName() {
+        return eventName;
+    }
+}
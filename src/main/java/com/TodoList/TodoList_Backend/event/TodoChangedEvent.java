@@ -0,0 +1,36 @@
+package com.TodoList.TodoList_Backend.event;
+
+import com.TodoList.TodoList_Backend.dto.TodoResponseDto;
+import com.TodoList.TodoList_Backend.entity.enums.TodoStatus;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.UUID;
+
+/**
+ * Mutation d'une tâche, publiée par le service dans la transaction qui l'effectue.
+ * {@code todo} porte l'état après écriture ; il est absent pour une suppression ou un archivage.
+ * {@code previousStatut} est renseigné pour un changement de statut, une suppression et un archivage.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record TodoChangedEvent(TodoChangeType type, UUID id, TodoResponseDto todo, TodoStatus previousStatut) {
+
+    public static TodoChangedEvent created(TodoResponseDto todo) {
+        return new TodoChangedEvent(TodoChangeType.CREATED, todo.getId(), todo, null);
+    }
+
+    public static TodoChangedEvent updated(TodoResponseDto todo) {
+        return new TodoChangedEvent(TodoChangeType.UPDATED, todo.getId(), todo, null);
+    }
+
+    public static TodoChangedEvent statusChanged(TodoResponseDto todo, TodoStatus previousStatut) {
+        return new TodoChangedEvent(TodoChangeType.STATUS_CHANGED, todo.getId(), todo, previousStatut);
+    }
+
+    public static TodoChangedEvent deleted(UUID id, TodoStatus previousStatut) {
+        return new TodoChangedEvent(TodoChangeType.DELETED, id, null, previousStatut);
+    }
+
+    public static TodoChangedEvent archived(UUID id) {
+        return new TodoChangedEvent(TodoChangeType.ARCHIVED, id, null, TodoStatus.TERMINEE);
+    }
+}
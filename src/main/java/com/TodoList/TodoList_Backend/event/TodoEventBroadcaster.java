@@ -0,0 +1,242 @@
+package com.TodoList.TodoList_Backend.event;
+
+import com.TodoList.TodoList_Backend.config.TodoEventsProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Diffuse les mutations de tâches aux abonnés SSE de {@code GET /api/todos/events}.
+ * <p>
+ * Les événements ne sont reçus qu'après le commit : un abonné ne voit jamais une écriture annulée.
+ * Chaque événement est sérialisé une seule fois puis partagé entre les abonnés. La diffusion ne fait
+ * que déposer l'événement dans la file bornée de chaque abonné ; l'envoi réseau a lieu sur un thread
+ * virtuel propre à l'abonné, si bien qu'un client lent ne ralentit ni les écritures ni les autres clients.
+ * <p>
+ * Les identifiants d'événement sont de la forme {@code <flux>-<séquence>}. Un client qui se reconnecte
+ * avec {@code Last-Event-ID} reçoit les événements manqués tant qu'ils sont dans l'historique ; sinon
+ * (redémarrage, historique dépassé) il reçoit un événement {@code reset} et doit recharger la liste.
+ */
+@Slf4j
+@Component
+public class TodoEventBroadcaster {
+
+    static final String RESET_EVENT = "reset";
+
+    private final TodoEventsProperties properties;
+    private final JsonMapper jsonMapper;
+    private final Counter droppedEvents;
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+    // Change à chaque démarrage : un Last-Event-ID d'une instance précédente déclenche un reset
+    private final String streamId = Long.toString(System.currentTimeMillis(), 36);
+
+    private final Object lock = new Object();
+    private final ArrayDeque<Frame> history = new ArrayDeque<>();
+    private final List<Subscriber> subscribers = new ArrayList<>();
+    private long sequence;
+
+    public TodoEventBroadcaster(TodoEventsProperties properties, JsonMapper jsonMapper, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.jsonMapper = jsonMapper;
+        this.droppedEvents = Counter.builder("todo.events.dropped")
+                .description("Événements écartés faute de place dans la file d'un abonné")
+                .register(meterRegistry);
+        Gauge.builder("todo.events.subscribers", this, TodoEventBroadcaster::subscriberCount)
+                .register(meterRegistry);
+    }
+
+    // Hors transaction (moteur MEMORY), traité dès la publication
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTodoChanged(TodoChangedEvent event) {
+        String data = jsonMapper.writeValueAsString(event);
+        List<Subscriber> overflowed = new ArrayList<>();
+        synchronized (lock) {
+            long seq = ++sequence;
+            Frame frame = new Frame(seq, SseEmitter.event()
+                    .id(eventId(seq))
+                    .name(event.type().getEventName())
+                    .data(data)
+                    .build());
+            history.addLast(frame);
+            if (history.size() > properties.getHistorySize()) {
+                history.removeFirst();
+            }
+            for (Iterator<Subscriber> it = subscribers.iterator(); it.hasNext(); ) {
+                Subscriber subscriber = it.next();
+                if (!subscriber.enqueue(frame)) {
+                    it.remove();
+                    overflowed.add(subscriber);
+                }
+            }
+        }
+        overflowed.forEach(Subscriber::close);
+    }
+
+    public SseEmitter subscribe(String lastEventId) {
+        SseEmitter emitter = new SseEmitter(properties.getTimeout().toMillis());
+        Subscriber subscriber = new Subscriber(emitter);
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onTimeout(() -> unsubscribe(subscriber));
+        emitter.onError(ex -> unsubscribe(subscriber));
+
+        synchronized (lock) {
+            // Le rattrapage et l'inscription se font sous le même verrou que la diffusion : ni trou ni doublon
+            subscriber.enqueue(new Frame(sequence, SseEmitter.event().comment("connecté").build()));
+            if (lastEventId != null) {
+                replayOrReset(subscriber, lastEventId);
+            }
+            subscribers.add(subscriber);
+        }
+        return emitter;
+    }
+
+    @EventListener(ContextClosedEvent.class)
+    void shutdown() {
+        // Avant l'arrêt gracieux du serveur, qui attendrait sinon la fin de flux qui ne finissent jamais
+        List<Subscriber> remaining;
+        synchronized (lock) {
+            remaining = new ArrayList<>(subscribers);
+            subscribers.clear();
+        }
+        remaining.forEach(Subscriber::close);
+        senders.shutdownNow();
+    }
+
+    // Appelé sous lock
+    private void replayOrReset(Subscriber subscriber, String lastEventId) {
+        long after = parseSequence(lastEventId);
+        long oldest = history.isEmpty() ? sequence + 1 : history.getFirst().sequence();
+        boolean inHistory = after >= oldest - 1 && after <= sequence;
+        if (inHistory && sequence - after <= properties.getSubscriberBufferSize()) {
+            for (Frame frame : history) {
+                if (frame.sequence() > after) {
+                    subscriber.enqueue(frame);
+                }
+            }
+            return;
+        }
+        subscriber.enqueue(new Frame(sequence, SseEmitter.event()
+                .id(eventId(sequence))
+                .name(RESET_EVENT)
+                .data(jsonMapper.writeValueAsString(Map.of("message",
+                        "Historique indisponible depuis " + lastEventId + " : recharger la liste")))
+                .build()));
+    }
+
+    private long parseSequence(String lastEventId) {
+        String prefix = streamId + "-";
+        if (!lastEventId.startsWith(prefix)) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(lastEventId.substring(prefix.length()));
+        } catch (NumberFormatException ex) {
+            return -1;
+        }
+    }
+
+    private String eventId(long seq) {
+        return streamId + "-" + seq;
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        synchronized (lock) {
+            subscribers.remove(subscriber);
+        }
+        subscriber.discardPending();
+    }
+
+    private int subscriberCount() {
+        synchronized (lock) {
+            return subscribers.size();
+        }
+    }
+
+    private record Frame(long sequence, Set<ResponseBodyEmitter.DataWithMediaType> payload) {
+    }
+
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final ArrayDeque<Frame> pending = new ArrayDeque<>();
+        private boolean draining;
+        private boolean closed;
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        /** @return {@code false} si la file déborde et que l'abonné doit être déconnecté */
+        private boolean enqueue(Frame frame) {
+            synchronized (this) {
+                if (closed) {
+                    return true;
+                }
+                if (pending.size() >= properties.getSubscriberBufferSize()) {
+                    if (properties.getOverflowPolicy() == TodoEventsProperties.OverflowPolicy.DISCONNECT) {
+                        return false;
+                    }
+                    pending.removeFirst();
+                    droppedEvents.increment();
+                }
+                pending.addLast(frame);
+                if (draining) {
+                    return true;
+                }
+                draining = true;
+            }
+            senders.execute(this::drain);
+            return true;
+        }
+
+        private void drain() {
+            while (true) {
+                Frame frame;
+                synchronized (this) {
+                    frame = pending.pollFirst();
+                    if (frame == null || closed) {
+                        draining = false;
+                        return;
+                    }
+                }
+                try {
+                    emitter.send(frame.payload());
+                } catch (IOException | IllegalStateException ex) {
+                    // Client parti : le conteneur notifie onError/onCompletion, inutile de compléter ici
+                    log.debug("Abonné SSE déconnecté : {}", ex.getMessage());
+                    unsubscribe(this);
+                    return;
+                }
+            }
+        }
+
+        private void close() {
+            discardPending();
+            emitter.complete();
+        }
+
+        private synchronized void discardPending() {
+            closed = true;
+            pending.clear();
+        }
+    }
+}
@@ -1,17 +1,32 @@
 package com.TodoList.TodoList_Backend.exception;
 
 import com.TodoList.TodoList_Backend.response.ErrorResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.swagger.v3.oas.annotations.Hidden;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.validation.method.ParameterErrors;
+import org.springframework.web.method.annotation.HandlerMethodValidationException;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+import org.springframework.web.context.request.async.AsyncRequestNotUsableException;
+import org.springframework.web.servlet.resource.NoResourceFoundException;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -19,29 +34,76 @@ import java.util.stream.Collectors;
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    private final MeterRegistry meterRegistry;
+    /** Compteurs déjà enregistrés, par handler puis par type d'exception : pas de recherche dans le registre par erreur. */
+    private final ConcurrentMap<String, ConcurrentMap<Class<?>, Counter>> counters = new ConcurrentHashMap<>();
+
+    public GlobalExceptionHandler(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
     @ExceptionHandler(ResourceNotFoundException.class)
     public ResponseEntity<ErrorResponse> handleNotFound(ResourceNotFoundException ex) {
-        log.warn("Ressource non trouvée: {}", ex.getMessage());
+        count("handleNotFound", ex);
+        // debug : sous un afflux d'identifiants inconnus, une ligne WARN par 404 coûterait plus que la réponse ;
+        // le compteur todo.exceptions.handled suffit à les suivre
+        log.debug("Ressource non trouvée: {}", ex.getMessage());
         return ResponseEntity.status(HttpStatus.NOT_FOUND)
                 .body(ErrorResponse.notFound(ex.getMessage()));
     }
 
     @ExceptionHandler(ResourceAlreadyExistsException.class)
     public ResponseEntity<ErrorResponse> handleAlreadyExists(ResourceAlreadyExistsException ex) {
-        log.warn("Ressource déjà existante: {}", ex.getMessage());
+        count("handleAlreadyExists", ex);
+        log.debug("Ressource déjà existante: {}", ex.getMessage());
         return ResponseEntity.status(HttpStatus.CONFLICT)
                 .body(ErrorResponse.conflict(ex.getMessage()));
     }
 
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<ErrorResponse> handleDataIntegrity(DataIntegrityViolationException ex) {
+        count("handleDataIntegrity", ex);
+        log.warn("Contrainte d'intégrité violée: {}", ex.getMostSpecificCause().getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(ErrorResponse.conflict("La modification entre en conflit avec une donnée existante"));
+    }
+
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<ErrorResponse> handlePreconditionFailed(PreconditionFailedException ex) {
+        count("handlePreconditionFailed", ex);
+        log.warn("Précondition non satisfaite: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED)
+                .body(ErrorResponse.preconditionFailed(ex.getMessage()));
+    }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLock(OptimisticLockingFailureException ex) {
+        count("handleOptimisticLock", ex);
+        log.warn("Modification concurrente détectée: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED)
+                .body(ErrorResponse.preconditionFailed("La tâche a été modifiée entre-temps, rechargez-la avant de réessayer"));
+    }
+
     @ExceptionHandler(BadRequestException.class)
     public ResponseEntity<ErrorResponse> handleBadRequest(BadRequestException ex) {
+        count("handleBadRequest", ex);
         log.warn("Requête invalide: {}", ex.getMessage());
         return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                 .body(ErrorResponse.badRequest(ex.getMessage()));
     }
 
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handleServiceUnavailable(ServiceUnavailableException ex) {
+        count("handleServiceUnavailable", ex);
+        log.warn("Service indisponible: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(ErrorResponse.serviceUnavailable(ex.getMessage()));
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ErrorResponse> handleValidation(MethodArgumentNotValidException ex) {
+        count("handleValidation", ex);
         List<ErrorResponse.FieldError> errors = ex.getBindingResult().getFieldErrors()
                 .stream()
                 .map(this::mapFieldError)
@@ -50,20 +112,95 @@ public class GlobalExceptionHandler {
                 .body(ErrorResponse.validationError("Erreurs de validation", errors));
     }
 
+    @ExceptionHandler(HandlerMethodValidationException.class)
+    public ResponseEntity<ErrorResponse> handleMethodValidation(HandlerMethodValidationException ex) {
+        count("handleMethodValidation", ex);
+        List<ErrorResponse.FieldError> errors = new ArrayList<>();
+        ex.getParameterValidationResults().forEach(result -> {
+            if (result instanceof ParameterErrors parameterErrors) {
+                // Élément d'une liste : le champ est préfixé par sa position dans le lot
+                String prefix = parameterErrors.getContainerIndex() != null
+                        ? "[" + parameterErrors.getContainerIndex() + "]."
+                        : "";
+                parameterErrors.getFieldErrors().forEach(e -> {
+                    ErrorResponse.FieldError error = mapFieldError(e);
+                    error.setField(prefix + error.getField());
+                    errors.add(error);
+                });
+            } else {
+                result.getResolvableErrors().forEach(e -> errors.add(ErrorResponse.FieldError.builder()
+                        .field(result.getMethodParameter().getParameterName())
+                        .message(e.getDefaultMessage())
+                        .build()));
+            }
+        });
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(ErrorResponse.validationError("Erreurs de validation", errors));
+    }
+
     @ExceptionHandler(HttpMessageNotReadableException.class)
     public ResponseEntity<ErrorResponse> handleUnreadable(HttpMessageNotReadableException ex) {
+        count("handleUnreadable", ex);
         log.warn("Corps de la requête invalide: {}", ex.getMessage());
         return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                 .body(ErrorResponse.badRequest("Valeur invalide. Statut accepté : EN_COURS ou TERMINEE"));
     }
 
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<ErrorResponse> handleTypeMismatch(MethodArgumentTypeMismatchException ex) {
+        count("handleTypeMismatch", ex);
+        log.warn("Paramètre invalide '{}': {}", ex.getName(), ex.getValue());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(ErrorResponse.badRequest("Valeur invalide pour le paramètre '" + ex.getName() + "'"));
+    }
+
+    @ExceptionHandler(MissingServletRequestParameterException.class)
+    public ResponseEntity<ErrorResponse> handleMissingParameter(MissingServletRequestParameterException ex) {
+        count("handleMissingParameter", ex);
+        log.warn("Paramètre manquant: {}", ex.getParameterName());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(ErrorResponse.badRequest("Le paramètre '" + ex.getParameterName() + "' est obligatoire"));
+    }
+
+    @ExceptionHandler(NoResourceFoundException.class)
+    public ResponseEntity<ErrorResponse> handleNoResource(NoResourceFoundException ex) {
+        count("handleNoResource", ex);
+        // Chemin inconnu (ou documentation désactivée en production) : 404, pas une erreur interne
+        log.debug("Aucune ressource pour {}", ex.getResourcePath());
+        return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(ErrorResponse.notFound("Aucune ressource pour '/" + ex.getResourcePath() + "'"));
+    }
+
+    @ExceptionHandler(HttpMediaTypeNotAcceptableException.class)
+    public ResponseEntity<Void> handleNotAcceptable(HttpMediaTypeNotAcceptableException ex) {
+        count("handleNotAcceptable", ex);
+        // Aucun format accepté par le client : 406 sans corps, qu'aucun convertisseur ne saurait écrire
+        log.debug("Format non acceptable: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.NOT_ACCEPTABLE).build();
+    }
+
+    @ExceptionHandler(AsyncRequestNotUsableException.class)
+    public void handleClientGone(AsyncRequestNotUsableException ex) {
+        count("handleClientGone", ex);
+        // Client déconnecté (flux SSE ou export interrompu) : plus aucune réponse ne peut être écrite
+        log.debug("Client déconnecté: {}", ex.getMessage());
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleGeneric(Exception ex) {
+        count("handleGeneric", ex);
         log.error("Erreur inattendue: {}", ex.getMessage(), ex);
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                 .body(ErrorResponse.internalError("Une erreur interne est survenue"));
     }
 
+    private void count(String handler, Exception ex) {
+        counters.computeIfAbsent(handler, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(ex.getClass(), type -> meterRegistry.counter("todo.exceptions.handled",
+                        "handler", handler, "exception", type.getSimpleName()))
+                .increment();
+    }
+
     private ErrorResponse.FieldError mapFieldError(FieldError e) {
         return ErrorResponse.FieldError.builder()
                 .field(e.getField())
@@ -0,0 +1,8 @@
+package com.TodoList.TodoList_Backend.exception;
+
+public class PreconditionFailedException extends RuntimeException {
+
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+}
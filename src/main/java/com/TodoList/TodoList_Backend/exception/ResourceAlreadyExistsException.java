@@ -1,8 +1,12 @@
 package com.TodoList.TodoList_Backend.exception;
 
+/**
+ * Sans pile d'appels, comme {@link ResourceNotFoundException} : un conflit de titre est un résultat
+ * attendu, traduit en 409 par {@link GlobalExceptionHandler}.
+ */
 public class ResourceAlreadyExistsException extends RuntimeException {
 
     public ResourceAlreadyExistsException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 }
@@ -1,8 +1,12 @@
 package com.TodoList.TodoList_Backend.exception;
 
+/**
+ * Sans pile d'appels : levée à chaque identifiant inconnu, elle ne sert qu'à produire une 404
+ * et sa pile ne serait jamais lue.
+ */
 public class ResourceNotFoundException extends RuntimeException {
 
     public ResourceNotFoundException(String resourceName, Object id) {
-        super(resourceName + " non trouvé avec l'identifiant: " + id);
+        super(resourceName + " non trouvé avec l'identifiant: " + id, null, false, false);
     }
 }
@@ -0,0 +1,9 @@
+package com.TodoList.TodoList_Backend.exception;
+
+/** Levée quand le service est saturé : sans pile d'appels, pour ne pas ajouter de travail à la surcharge. */
+public class ServiceUnavailableException extends RuntimeException {
+
+    public ServiceUnavailableException(String message) {
+        super(message, null, false, false);
+    }
+}
@@ -0,0 +1,342 @@
+package com.TodoList.TodoList_Backend.idempotency;
+
+import com.TodoList.TodoList_Backend.config.TodoIdempotencyProperties;
+import com.TodoList.TodoList_Backend.idempotency.IdempotencyStore.IdempotencyEntry;
+import com.TodoList.TodoList_Backend.idempotency.IdempotencyStore.StoredResponse;
+import com.TodoList.TodoList_Backend.response.ErrorResponse;
+import com.TodoList.TodoList_Backend.response.TodoListJsonWriter;
+import com.TodoList.TodoList_Backend.throttling.ClientIdResolver;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.regex.Pattern;
+
+/**
+ * Rend rejouables les écritures qui portent un en-tête {@code Idempotency-Key} : création, changement de statut
+ * et endpoints {@code /bulk}. Un client qui renvoie sa requête après une coupure reçoit la réponse d'origine
+ * (en-tête {@code Idempotent-Replayed: true}) au lieu de créer une seconde tâche.
+ * <p>
+ * La clé vaut pour un client (identifié comme pour la limitation de débit), une méthode et un chemin : un autre
+ * client qui présente la même clé ne reçoit pas la réponse du premier. La réutiliser avec un autre corps est
+ * refusé (422) ; un corps au-delà de {@code max-body-size} est refusé (413) avant d'être lu. La réponse conservée
+ * garde son format (JSON, CBOR ou Smile) : un nouvel essai dont l'en-tête {@code Accept} l'exclut reçoit un 406.
+ * Les requêtes identiques simultanées sur un même nœud attendent la première et rejouent sa réponse ;
+ * sur un autre nœud (store JDBC), elles reçoivent un 409 tant que la première n'est pas terminée.
+ * <p>
+ * Les réponses 2xx et 4xx sont conservées, sauf celles qu'un nouvel essai peut changer
+ * (408, 409, 412, 429) ; après un 5xx, la clé est libérée.
+ */
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    static final int MAX_KEY_LENGTH = 255;
+
+    private static final Pattern STATUS_PATH = Pattern.compile("^/api/todos/[^/]+/status$");
+
+    private final IdempotencyStore store;
+    private final JsonMapper jsonMapper;
+    private final long inFlightTimeoutMillis;
+    private final int maxBodySize;
+    private final ClientIdResolver clientIds;
+    /** Requêtes en cours sur ce nœud, par clé : les suivantes attendent leur fin. */
+    private final ConcurrentMap<String, CompletableFuture<Void>> inFlight = new ConcurrentHashMap<>();
+    private final Counter executed;
+    private final Counter replayed;
+    private final Counter inProgress;
+    private final Counter mismatched;
+    private final Counter notAcceptable;
+
+    public IdempotencyFilter(IdempotencyStore store, JsonMapper jsonMapper, TodoIdempotencyProperties properties,
+                             ClientIdResolver clientIds, MeterRegistry meterRegistry) {
+        this.store = store;
+        this.jsonMapper = jsonMapper;
+        this.inFlightTimeoutMillis = properties.getInFlightTimeout().toMillis();
+        this.maxBodySize = Math.toIntExact(properties.getMaxBodySize().toBytes());
+        this.clientIds = clientIds;
+        this.executed = outcome(meterRegistry, "executed");
+        this.replayed = outcome(meterRegistry, "replayed");
+        this.inProgress = outcome(meterRegistry, "in_progress");
+        this.mismatched = outcome(meterRegistry, "mismatch");
+        this.notAcceptable = outcome(meterRegistry, "not_acceptable");
+    }
+
+    private static Counter outcome(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("todo.idempotency.requests")
+                .description("Requêtes portant une Idempotency-Key, par issue")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getHeader(IDEMPOTENCY_KEY_HEADER) == null || !isIdempotentWrite(request);
+    }
+
+    static boolean isIdempotentWrite(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        return switch (request.getMethod()) {
+            case "POST" -> path.equals("/api/todos") || path.equals("/api/todos/bulk");
+            case "PUT" -> path.equals("/api/todos/bulk");
+            case "PATCH" -> path.equals("/api/todos/bulk/status") || STATUS_PATH.matcher(path).matches();
+            default -> false;
+        };
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String idempotencyKey = request.getHeader(IDEMPOTENCY_KEY_HEADER);
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            reject(response, ErrorResponse.badRequest(
+                    "En-tête " + IDEMPOTENCY_KEY_HEADER + " vide ou de plus de " + MAX_KEY_LENGTH + " caractères"));
+            return;
+        }
+        // La longueur annoncée écarte la plupart des corps trop gros sans lecture ; un corps sans longueur
+        // (chunked) n'est lu qu'un octet au-delà de la limite
+        byte[] body = request.getContentLengthLong() > maxBodySize
+                ? null : request.getInputStream().readNBytes(maxBodySize + 1);
+        if (body == null || body.length > maxBodySize) {
+            reject(response, ErrorResponse.payloadTooLarge(
+                    "Corps de requête idempotente limité à " + maxBodySize + " octets"));
+            return;
+        }
+        String key = clientIds.resolve(request) + ' ' + request.getMethod() + ' ' + request.getRequestURI()
+                + ' ' + idempotencyKey;
+        byte[] fingerprint = fingerprint(request, body);
+
+        for (;;) {
+            CompletableFuture<Void> mine = new CompletableFuture<>();
+            CompletableFuture<Void> running = inFlight.putIfAbsent(key, mine);
+            if (running != null) {
+                if (!awaitCompletion(running)) {
+                    inProgress.increment();
+                    reject(response, ErrorResponse.requestInProgress("Une requête avec cette clé est déjà en cours"));
+                    return;
+                }
+                // La requête en cours a fini : sa réponse est rejouée, ou la clé a été libérée et celle-ci s'exécute
+                continue;
+            }
+            try {
+                IdempotencyEntry existing = store.claim(key, fingerprint);
+                if (existing == null) {
+                    execute(request, response, chain, body, key, fingerprint);
+                } else if (!Arrays.equals(existing.fingerprint(), fingerprint)) {
+                    mismatched.increment();
+                    reject(response, ErrorResponse.idempotencyKeyReused(
+                            "Clé " + IDEMPOTENCY_KEY_HEADER + " déjà utilisée pour une autre requête"));
+                } else if (existing.response() == null) {
+                    inProgress.increment();
+                    reject(response, ErrorResponse.requestInProgress("Une requête avec cette clé est déjà en cours"));
+                } else if (!isAcceptable(request, existing.response())) {
+                    // Le même résultat ne peut être réécrit dans un autre format : rien n'est réexécuté
+                    notAcceptable.increment();
+                    response.setStatus(HttpServletResponse.SC_NOT_ACCEPTABLE);
+                    response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+                } else {
+                    replayed.increment();
+                    replay(response, existing.response());
+                }
+                return;
+            } finally {
+                inFlight.remove(key, mine);
+                mine.complete(null);
+            }
+        }
+    }
+
+    private void execute(HttpServletRequest request, HttpServletResponse response, FilterChain chain, byte[] body,
+                         String key, byte[] fingerprint) throws ServletException, IOException {
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        try {
+            chain.doFilter(new CachedBodyRequest(request, body), wrapper);
+        } catch (ServletException | IOException | RuntimeException e) {
+            store.release(key);
+            throw e;
+        }
+        executed.increment();
+        int status = wrapper.getStatus();
+        if (isReplayable(status)) {
+            store.complete(key, fingerprint, new StoredResponse(status, wrapper.getContentType(),
+                    wrapper.getHeader(HttpHeaders.LOCATION), wrapper.getHeader(HttpHeaders.ETAG),
+                    wrapper.getContentAsByteArray()));
+        } else {
+            store.release(key);
+        }
+        wrapper.copyBodyToResponse();
+    }
+
+    private static boolean isReplayable(int status) {
+        if (status >= 200 && status < 300) {
+            return true;
+        }
+        return status >= 400 && status < 500 && status != 408 && status != 409 && status != 412 && status != 429;
+    }
+
+    private boolean awaitCompletion(CompletableFuture<Void> running) throws IOException {
+        try {
+            running.get(inFlightTimeoutMillis, TimeUnit.MILLISECONDS);
+            return true;
+        } catch (TimeoutException e) {
+            return false;
+        } catch (ExecutionException e) {
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrompu en attendant une requête de même clé", e);
+        }
+    }
+
+    private static boolean isAcceptable(HttpServletRequest request, StoredResponse stored) {
+        return stored.contentType() == null || TodoListJsonWriter.isAcceptable(
+                request.getHeader(HttpHeaders.ACCEPT), MediaType.parseMediaType(stored.contentType()));
+    }
+
+    private static void replay(HttpServletResponse response, StoredResponse stored) throws IOException {
+        response.setStatus(stored.status());
+        response.setHeader(REPLAYED_HEADER, "true");
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        if (stored.location() != null) {
+            response.setHeader(HttpHeaders.LOCATION, stored.location());
+        }
+        if (stored.etag() != null) {
+            response.setHeader(HttpHeaders.ETAG, stored.etag());
+        }
+        if (stored.contentType() != null) {
+            response.setContentType(stored.contentType());
+        }
+        response.setContentLength(stored.body().length);
+        response.getOutputStream().write(stored.body());
+    }
+
+    private void reject(HttpServletResponse response, ErrorResponse body) throws IOException {
+        response.setStatus(body.getStatus());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        jsonMapper.writeValue(response.getOutputStream(), body);
+    }
+
+    /** Méthode, chemin, {@code If-Match} et corps : ce qui fait que deux requêtes sont « la même ». */
+    private static byte[] fingerprint(HttpServletRequest request, byte[] body) {
+        MessageDigest digest = sha256();
+        digest.update(request.getMethod().getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        digest.update(request.getRequestURI().getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        digest.update(Objects.toString(request.getHeader(HttpHeaders.IF_MATCH), "").getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        return digest.digest(body);
+    }
+
+    static byte[] sha256(String value) {
+        return sha256().digest(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponible", e);
+        }
+    }
+
+    /** Requête dont le corps, déjà lu pour l'empreinte, est relu par le contrôleur. */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+
+                @Override
+                public int read() {
+                    return in.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return in.read(b, off, len);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                // Le corps est déjà en mémoire : tout est disponible dès l'enregistrement du listener.
+                // Le flux d'origine, consommé pour l'empreinte, n'a plus rien à signaler
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    try {
+                        if (!isFinished()) {
+                            readListener.onDataAvailable();
+                        }
+                        if (isFinished()) {
+                            readListener.onAllDataRead();
+                        }
+                    } catch (IOException | RuntimeException ex) {
+                        readListener.onError(ex);
+                    }
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(getInputStream(),
+                    encoding == null ? StandardCharsets.UTF_8 : Charset.forName(encoding)));
+        }
+
+        @Override
+        public int getContentLength() {
+            return body.length;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return body.length;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.TodoList.TodoList_Backend.idempotency;
+
+/**
+ * Clés {@code Idempotency-Key} déjà vues et réponses associées.
+ * <p>
+ * Une clé est d'abord réservée ({@link #claim}), puis soit complétée avec la réponse à rejouer,
+ * soit libérée si la requête a échoué d'une manière qui justifie de la réessayer.
+ */
+public interface IdempotencyStore {
+
+    /**
+     * Réserve la clé pour la requête d'empreinte donnée.
+     *
+     * @return {@code null} si la clé vient d'être réservée par cet appel, sinon l'entrée existante
+     */
+    IdempotencyEntry claim(String key, byte[] fingerprint);
+
+    void complete(String key, byte[] fingerprint, StoredResponse response);
+
+    void release(String key);
+
+    /** @param response {@code null} tant que la requête qui a réservé la clé est en cours */
+    record IdempotencyEntry(byte[] fingerprint, StoredResponse response) {
+    }
+
+    record StoredResponse(int status, String contentType, String location, String etag, byte[] body) {
+    }
+}
@@ -0,0 +1,62 @@
+package com.TodoList.TodoList_Backend.idempotency;
+
+import com.TodoList.TodoList_Backend.config.TodoIdempotencyProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import java.time.Duration;
+
+/**
+ * Clés gardées dans la mémoire du nœud, bornées en octets : une réponse complétée expire après {@code ttl},
+ * une réservation sans réponse après {@code in-flight-timeout}.
+ */
+public class InMemoryIdempotencyStore implements IdempotencyStore {
+
+    /** Coût fixe d'une entrée (objets, en-têtes), ajouté à la clé et au corps de la réponse. */
+    private static final int ENTRY_OVERHEAD = 128;
+
+    private final Cache<String, IdempotencyEntry> entries;
+
+    public InMemoryIdempotencyStore(TodoIdempotencyProperties properties) {
+        this.entries = Caffeine.newBuilder()
+                .maximumWeight(properties.getMaxMemory().toBytes())
+                .weigher((String key, IdempotencyEntry entry) -> ENTRY_OVERHEAD + key.length()
+                        + (entry.response() == null ? 0 : entry.response().body().length))
+                .expireAfter(new EntryExpiry(properties.getTtl(), properties.getInFlightTimeout()))
+                .build();
+    }
+
+    @Override
+    public IdempotencyEntry claim(String key, byte[] fingerprint) {
+        return entries.asMap().putIfAbsent(key, new IdempotencyEntry(fingerprint, null));
+    }
+
+    @Override
+    public void complete(String key, byte[] fingerprint, StoredResponse response) {
+        entries.put(key, new IdempotencyEntry(fingerprint, response));
+    }
+
+    @Override
+    public void release(String key) {
+        entries.asMap().computeIfPresent(key, (k, entry) -> entry.response() == null ? null : entry);
+    }
+
+    private record EntryExpiry(Duration ttl, Duration inFlightTimeout) implements Expiry<String, IdempotencyEntry> {
+
+        @Override
+        public long expireAfterCreate(String key, IdempotencyEntry entry, long currentTime) {
+            return (entry.response() == null ? inFlightTimeout : ttl).toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, IdempotencyEntry entry, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, entry, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, IdempotencyEntry entry, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
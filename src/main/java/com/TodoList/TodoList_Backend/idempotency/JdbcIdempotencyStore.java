@@ -0,0 +1,99 @@
+package com.TodoList.TodoList_Backend.idempotency;
+
+import com.TodoList.TodoList_Backend.config.TodoIdempotencyProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Clés partagées par tous les nœuds dans la table {@code idempotency_keys}.
+ * <p>
+ * La réservation est un simple INSERT : la clé primaire garantit qu'un seul nœud l'obtient.
+ * Une ligne expirée (réponse trop ancienne ou réservation abandonnée) est reprise par un UPDATE conditionnel,
+ * puis supprimée par la purge périodique.
+ */
+@Slf4j
+public class JdbcIdempotencyStore implements IdempotencyStore {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Duration ttl;
+    private final Duration inFlightTimeout;
+
+    public JdbcIdempotencyStore(JdbcTemplate jdbcTemplate, TodoIdempotencyProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.ttl = properties.getTtl();
+        this.inFlightTimeout = properties.getInFlightTimeout();
+    }
+
+    @Override
+    public IdempotencyEntry claim(String key, byte[] fingerprint) {
+        byte[] keyHash = IdempotencyFilter.sha256(key);
+        for (;;) {
+            Instant now = Instant.now();
+            Timestamp expiresAt = Timestamp.from(now.plus(inFlightTimeout));
+            try {
+                jdbcTemplate.update("INSERT INTO idempotency_keys (key_hash, fingerprint, expires_at) VALUES (?, ?, ?)",
+                        keyHash, fingerprint, expiresAt);
+                return null;
+            } catch (DuplicateKeyException alreadyClaimed) {
+                List<StoredRow> rows = jdbcTemplate.query(
+                        "SELECT fingerprint, status, content_type, location, etag, body, expires_at "
+                                + "FROM idempotency_keys WHERE key_hash = ?",
+                        (rs, i) -> new StoredRow(new IdempotencyEntry(rs.getBytes("fingerprint"),
+                                rs.getObject("status") == null ? null : new StoredResponse(rs.getInt("status"),
+                                        rs.getString("content_type"), rs.getString("location"),
+                                        rs.getString("etag"), rs.getBytes("body"))),
+                                rs.getTimestamp("expires_at")),
+                        keyHash);
+                if (rows.isEmpty()) {
+                    // Supprimée entre-temps (libérée ou purgée) : nouvelle tentative d'INSERT
+                    continue;
+                }
+                StoredRow row = rows.getFirst();
+                if (row.expiresAt().toInstant().isAfter(now)) {
+                    return row.entry();
+                }
+                int taken = jdbcTemplate.update("UPDATE idempotency_keys SET fingerprint = ?, status = NULL, "
+                                + "content_type = NULL, location = NULL, etag = NULL, body = NULL, expires_at = ? "
+                                + "WHERE key_hash = ? AND expires_at = ?",
+                        fingerprint, expiresAt, keyHash, row.expiresAt());
+                if (taken == 1) {
+                    return null;
+                }
+            }
+        }
+    }
+
+    @Override
+    public void complete(String key, byte[] fingerprint, StoredResponse response) {
+        jdbcTemplate.update("UPDATE idempotency_keys SET status = ?, content_type = ?, location = ?, etag = ?, "
+                        + "body = ?, expires_at = ? WHERE key_hash = ? AND fingerprint = ?",
+                response.status(), response.contentType(), response.location(), response.etag(), response.body(),
+                Timestamp.from(Instant.now().plus(ttl)), IdempotencyFilter.sha256(key), fingerprint);
+    }
+
+    @Override
+    public void release(String key) {
+        jdbcTemplate.update("DELETE FROM idempotency_keys WHERE key_hash = ? AND status IS NULL",
+                (Object) IdempotencyFilter.sha256(key));
+    }
+
+    @Scheduled(initialDelayString = "${todo.idempotency.purge-interval:10m}",
+            fixedDelayString = "${todo.idempotency.purge-interval:10m}")
+    public void purgeExpired() {
+        int purged = jdbcTemplate.update("DELETE FROM idempotency_keys WHERE expires_at < ?",
+                Timestamp.from(Instant.now()));
+        if (purged > 0) {
+            log.debug("{} clé(s) d'idempotence expirée(s) supprimée(s)", purged);
+        }
+    }
+
+    private record StoredRow(IdempotencyEntry entry, Timestamp expiresAt) {
+    }
+}
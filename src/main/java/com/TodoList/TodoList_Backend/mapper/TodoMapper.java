@@ -1,8 +1,12 @@
 package com.TodoList.TodoList_Backend.mapper;
 
+import com.TodoList.TodoList_Backend.dto.ArchivedTodoDto;
 import com.TodoList.TodoList_Backend.dto.TodoRequestDto;
 import com.TodoList.TodoList_Backend.dto.TodoResponseDto;
 import com.TodoList.TodoList_Backend.entity.Todo;
+import com.TodoList.TodoList_Backend.repository.ArchivedTodoRow;
+import com.TodoList.TodoList_Backend.repository.TodoRow;
+import com.TodoList.TodoList_Backend.storage.TodoRecord;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
@@ -24,6 +28,38 @@ public class TodoMapper {
                 .titre(todo.getTitre())
                 .description(todo.getDescription())
                 .statut(todo.getStatut())
+                .version(todo.getVersion())
+                .build();
+    }
+
+    public TodoResponseDto toResponseDto(TodoRow row) {
+        return TodoResponseDto.builder()
+                .id(row.id())
+                .titre(row.titre())
+                .description(row.description())
+                .statut(row.statut())
+                .version(row.version())
+                .build();
+    }
+
+    public TodoResponseDto toResponseDto(TodoRecord todo) {
+        return TodoResponseDto.builder()
+                .id(todo.id())
+                .titre(todo.titre())
+                .description(todo.description())
+                .statut(todo.statut())
+                .version(todo.version())
+                .build();
+    }
+
+    public ArchivedTodoDto toArchivedDto(ArchivedTodoRow row) {
+        return ArchivedTodoDto.builder()
+                .id(row.id())
+                .titre(row.titre())
+                .description(row.description())
+                .createdAt(row.createdAt())
+                .updatedAt(row.updatedAt())
+                .archivedAt(row.archivedAt())
                 .build();
     }
 
@@ -32,4 +68,10 @@ public class TodoMapper {
                 .map(this::toResponseDto)
                 .collect(Collectors.toList());
     }
+
+    public List<TodoResponseDto> rowsToResponseDtoList(List<TodoRow> rows) {
+        return rows.stream()
+                .map(this::toResponseDto)
+                .collect(Collectors.toList());
+    }
 }
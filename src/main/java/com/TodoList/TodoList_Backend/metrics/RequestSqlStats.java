@@ -0,0 +1,67 @@
+package com.TodoList.TodoList_Backend.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Ordres SQL exécutés pour la requête HTTP en cours : nombre et temps cumulé.
+ * <p>
+ * Rattaché au thread de la requête, puis transmis au thread des réponses asynchrones
+ * (liste et export en flux), qui alimentent alors le même compteur.
+ */
+public final class RequestSqlStats {
+
+    private static final ThreadLocal<RequestSqlStats> CURRENT = new ThreadLocal<>();
+
+    private final LongAdder statements = new LongAdder();
+    private final LongAdder nanos = new LongAdder();
+
+    static RequestSqlStats current() {
+        return CURRENT.get();
+    }
+
+    public static Runnable propagate(Runnable task) {
+        RequestSqlStats stats = CURRENT.get();
+        if (stats == null) {
+            return task;
+        }
+        return () -> {
+            RequestSqlStats previous = CURRENT.get();
+            CURRENT.set(stats);
+            try {
+                task.run();
+            } finally {
+                restore(previous);
+            }
+        };
+    }
+
+    RequestSqlStats attach() {
+        CURRENT.set(this);
+        return this;
+    }
+
+    void detach() {
+        CURRENT.remove();
+    }
+
+    void record(long elapsedNanos) {
+        statements.increment();
+        nanos.add(elapsedNanos);
+    }
+
+    long statements() {
+        return statements.sum();
+    }
+
+    long nanos() {
+        return nanos.sum();
+    }
+
+    private static void restore(RequestSqlStats previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+}
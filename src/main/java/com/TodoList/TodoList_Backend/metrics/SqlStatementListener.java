@@ -0,0 +1,39 @@
+package com.TodoList.TodoList_Backend.metrics;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Chronomètre chaque exécution JDBC d'une session Hibernate et l'impute à la requête HTTP en cours.
+ * Déclaré par {@code hibernate.session.events.auto} : Hibernate en crée une instance par session.
+ */
+public class SqlStatementListener implements SessionEventListener {
+
+    private long start;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        start = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        record();
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        start = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        record();
+    }
+
+    private void record() {
+        RequestSqlStats stats = RequestSqlStats.current();
+        if (stats != null) {
+            stats.record(System.nanoTime() - start);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.TodoList.TodoList_Backend.outbox;
+
+import com.TodoList.TodoList_Backend.config.TodoOutboxProperties;
+import com.TodoList.TodoList_Backend.entity.TodoOutboxEvent;
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Ajoute chaque événement en fin de fichier NDJSON ({@code todo.outbox.file}), une ligne par événement.
+ */
+@Component
+@ConditionalOnProperty(name = "todo.outbox.sink", havingValue = "file")
+public class FileOutboxSink implements OutboxSink {
+
+    private final TodoOutboxProperties properties;
+    private final JsonMapper jsonMapper;
+
+    public FileOutboxSink(TodoOutboxProperties properties, JsonMapper jsonMapper) {
+        this.properties = properties;
+        this.jsonMapper = jsonMapper;
+    }
+
+    @Override
+    public synchronized void publish(List<TodoOutboxEvent> events) throws IOException {
+        try (Writer writer = Files.newBufferedWriter(properties.getFile(), StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            for (TodoOutboxEvent event : events) {
+                writer.write(jsonMapper.writeValueAsString(new Line(
+                        event.getId(), event.getTodoId(), event.getType(), event.getCreatedAt(), event.getPayload())));
+                writer.write('\n');
+            }
+        }
+    }
+
+    // Le payload est déjà du JSON : recopié tel quel plutôt que réencodé en chaîne
+    private record Line(UUID id, UUID todoId, String type, Instant createdAt, @JsonRawValue String payload) {
+    }
+}
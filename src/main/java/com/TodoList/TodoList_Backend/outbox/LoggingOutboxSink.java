@@ -0,0 +1,21 @@
+package com.TodoList.TodoList_Backend.outbox;
+
+import com.TodoList.TodoList_Backend.entity.TodoOutboxEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "todo.outbox.sink", havingValue = "log", matchIfMissing = true)
+public class LoggingOutboxSink implements OutboxSink {
+
+    @Override
+    public void publish(List<TodoOutboxEvent> events) {
+        for (TodoOutboxEvent event : events) {
+            log.info("Outbox {} {} todo={} {}", event.getId(), event.getType(), event.getTodoId(), event.getPayload());
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.TodoList.TodoList_Backend.outbox;
+
+import com.TodoList.TodoList_Backend.entity.TodoOutboxEvent;
+
+import java.util.List;
+
+/**
+ * Destination des événements de l'outbox (courtier de messages, webhook, fichier…).
+ * <p>
+ * Le lot est livré en entier ou pas du tout : en cas d'exception, ses événements sont aussitôt relivrés
+ * un par un, et ceux encore refusés restent dans l'outbox pour le passage suivant. La livraison est donc
+ * « au moins une fois », et un événement refusé peut être dépassé par un événement plus récent de la même
+ * tâche : les consommateurs dédoublonnent sur l'identifiant de l'événement et ordonnent sur la version.
+ */
+public interface OutboxSink {
+
+    void publish(List<TodoOutboxEvent> events) throws Exception;
+}
@@ -0,0 +1,159 @@
+package com.TodoList.TodoList_Backend.outbox;
+
+import com.TodoList.TodoList_Backend.config.TodoOutboxProperties;
+import com.TodoList.TodoList_Backend.entity.TodoOutboxEvent;
+import com.TodoList.TodoList_Backend.repository.TodoOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Vide l'outbox par lots, hors du chemin des requêtes.
+ * <p>
+ * Chaque lot est réservé, livré puis supprimé dans une même transaction : les lignes restent verrouillées
+ * pendant la livraison et les autres nœuds, qui les sautent ({@code SKIP LOCKED}), prennent le lot suivant.
+ * Si le nœud tombe en cours de livraison, la transaction est annulée et le lot redevient disponible.
+ * <p>
+ * Un lot refusé est relivré événement par événement : un événement que la destination rejette ne retient pas
+ * les suivants. S'il est encore refusé après {@code max-attempts} passages alors que d'autres événements sont
+ * acceptés, il est écarté ({@code dead_at}) et compté dans {@code todo.outbox.dead}. Quand rien ne passe, la
+ * destination est tenue pour indisponible et aucun événement n'est écarté.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "todo.outbox.dispatcher-enabled", havingValue = "true", matchIfMissing = true)
+public class TodoOutboxDispatcher {
+
+    /** Longueur de la colonne {@code todo_outbox.last_error}. */
+    private static final int LAST_ERROR_LENGTH = 500;
+
+    private final TodoOutboxRepository outboxRepository;
+    private final OutboxSink sink;
+    private final TodoOutboxProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter dispatched;
+    private final Counter failed;
+    private final Counter dead;
+    private final Timer deliveryDelay;
+    private final AtomicLong oldestPendingAgeMillis = new AtomicLong();
+
+    public TodoOutboxDispatcher(TodoOutboxRepository outboxRepository, OutboxSink sink, TodoOutboxProperties properties,
+                                PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
+        this.outboxRepository = outboxRepository;
+        this.sink = sink;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.dispatched = Counter.builder("todo.outbox.dispatched")
+                .description("Événements livrés par l'outbox")
+                .register(meterRegistry);
+        this.failed = Counter.builder("todo.outbox.failed")
+                .description("Événements dont la livraison a échoué (retentés)")
+                .register(meterRegistry);
+        this.dead = Counter.builder("todo.outbox.dead")
+                .description("Événements écartés après max-attempts refus de la destination")
+                .register(meterRegistry);
+        this.deliveryDelay = Timer.builder("todo.outbox.delivery.delay")
+                .description("Délai entre l'écriture d'un événement et sa livraison")
+                .register(meterRegistry);
+        TimeGauge.builder("todo.outbox.lag", oldestPendingAgeMillis, TimeUnit.MILLISECONDS, AtomicLong::get)
+                .description("Âge du plus ancien événement en attente")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${todo.outbox.poll-interval:1s}")
+    public void poll() {
+        for (int i = 0; i < properties.getMaxBatchesPerPoll(); i++) {
+            // Un lot incomplet signifie que l'outbox est vide (ou le reste est pris par d'autres nœuds)
+            if (dispatchBatch() < properties.getBatchSize()) {
+                break;
+            }
+        }
+        oldestPendingAgeMillis.set(outboxRepository.findOldestCreatedAt()
+                .map(oldest -> Math.max(0, Duration.between(oldest, Instant.now()).toMillis()))
+                .orElse(0L));
+    }
+
+    /** @return le nombre d'événements livrés, ou {@code -1} si aucun n'a pu l'être */
+    int dispatchBatch() {
+        Integer delivered = transactionTemplate.execute(status -> {
+            List<TodoOutboxEvent> batch = outboxRepository.claimBatch(Limit.of(properties.getBatchSize()));
+            if (batch.isEmpty()) {
+                return 0;
+            }
+            try {
+                sink.publish(batch);
+            } catch (Exception ex) {
+                log.warn("Livraison de {} événements d'outbox échouée, nouvel essai événement par événement: {}",
+                        batch.size(), ex.getMessage());
+                return dispatchOneByOne(batch, ex);
+            }
+            delivered(batch);
+            return batch.size();
+        });
+        return delivered == null ? 0 : delivered;
+    }
+
+    private int dispatchOneByOne(List<TodoOutboxEvent> batch, Exception batchFailure) {
+        List<TodoOutboxEvent> delivered = new ArrayList<>();
+        Map<TodoOutboxEvent, Exception> rejected = new LinkedHashMap<>();
+        if (batch.size() == 1) {
+            rejected.put(batch.getFirst(), batchFailure);
+        } else {
+            for (TodoOutboxEvent event : batch) {
+                try {
+                    sink.publish(List.of(event));
+                    delivered.add(event);
+                } catch (Exception ex) {
+                    rejected.put(event, ex);
+                }
+            }
+        }
+        if (!delivered.isEmpty()) {
+            delivered(delivered);
+        }
+        outboxRepository.incrementAttempts(rejected.keySet().stream().map(TodoOutboxEvent::getId).toList());
+        failed.increment(rejected.size());
+        if (delivered.isEmpty()) {
+            return -1;
+        }
+        // La destination accepte les autres événements : ceux qu'elle refuse encore sont en cause, pas une panne
+        Instant now = Instant.now();
+        rejected.forEach((event, ex) -> {
+            if (event.getAttempts() + 1 >= properties.getMaxAttempts()) {
+                log.error("Événement d'outbox {} ({} de la tâche {}) écarté après {} refus: {}",
+                        event.getId(), event.getType(), event.getTodoId(), event.getAttempts() + 1, ex.getMessage());
+                outboxRepository.markDead(event.getId(), now, truncate(String.valueOf(ex.getMessage())));
+                dead.increment();
+            }
+        });
+        return delivered.size();
+    }
+
+    private void delivered(List<TodoOutboxEvent> events) {
+        outboxRepository.deleteAllByIds(events.stream().map(TodoOutboxEvent::getId).toList());
+        Instant now = Instant.now();
+        events.forEach(event -> deliveryDelay.record(Duration.between(event.getCreatedAt(), now)));
+        dispatched.increment(events.size());
+    }
+
+    private static String truncate(String message) {
+        return message.length() <= LAST_ERROR_LENGTH ? message : message.substring(0, LAST_ERROR_LENGTH);
+    }
+}
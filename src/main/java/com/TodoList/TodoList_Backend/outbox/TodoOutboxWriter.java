@@ -0,0 +1,38 @@
+package com.TodoList.TodoList_Backend.outbox;
+
+import com.TodoList.TodoList_Backend.entity.TodoOutboxEvent;
+import com.TodoList.TodoList_Backend.event.TodoChangedEvent;
+import com.TodoList.TodoList_Backend.repository.TodoOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.Instant;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "todo.storage.engine", havingValue = "jpa", matchIfMissing = true)
+public class TodoOutboxWriter {
+
+    private final TodoOutboxRepository outboxRepository;
+    private final JsonMapper jsonMapper;
+
+    /**
+     * Appelé de façon synchrone dans la transaction de l'écriture : la ligne d'outbox est validée ou annulée
+     * avec la tâche. L'INSERT part avec le flush de la transaction, regroupé avec les autres écritures.
+     */
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onTodoChanged(TodoChangedEvent event) {
+        outboxRepository.save(TodoOutboxEvent.builder()
+                .todoId(event.id())
+                .type(event.type().name())
+                .payload(jsonMapper.writeValueAsString(event))
+                .createdAt(Instant.now())
+                .build());
+    }
+}
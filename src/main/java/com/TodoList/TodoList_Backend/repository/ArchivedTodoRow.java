@@ -0,0 +1,11 @@
+package com.TodoList.TodoList_Backend.repository;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Ligne de {@code todos_archive}. {@code archivedAt} est absent tant que la tâche n'a pas quitté {@code todos}.
+ */
+public record ArchivedTodoRow(UUID id, String titre, String description, long version,
+                              Instant createdAt, Instant updatedAt, Instant archivedAt) {
+}
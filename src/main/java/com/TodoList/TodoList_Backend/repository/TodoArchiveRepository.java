@@ -0,0 +1,79 @@
+package com.TodoList.TodoList_Backend.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.nio.ByteBuffer;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Accès JDBC à {@code todos_archive} : déplacement des tâches terminées depuis {@code todos}
+ * et lecture de l'archive par curseur. Les méthodes d'écriture attendent une transaction ouverte.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TodoArchiveRepository {
+
+    private static final String COLUMNS = "id, titre, description, version, created_at, updated_at";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Verrouille jusqu'à la fin de la transaction les plus anciennes tâches terminées non modifiées depuis
+     * {@code cutoff} : une écriture concurrente attend le commit, puis ne trouve plus la ligne.
+     */
+    public List<ArchivedTodoRow> lockCompletedBefore(Instant cutoff, int limit) {
+        return jdbcTemplate.query("SELECT " + COLUMNS + " FROM todos WHERE statut = 'TERMINEE' AND updated_at < ? "
+                        + "ORDER BY updated_at, id LIMIT ? FOR UPDATE",
+                rowMapper(false), Timestamp.from(cutoff), limit);
+    }
+
+    /** Copie les lignes dans l'archive puis les retire de {@code todos}, en deux ordres groupés. */
+    public void move(List<ArchivedTodoRow> rows, Instant archivedAt) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        String ids = String.join(", ", Collections.nCopies(rows.size(), "?"));
+        Object[] args = rows.stream().map(row -> toBytes(row.id())).toArray();
+        Object[] insertArgs = new Object[args.length + 1];
+        insertArgs[0] = Timestamp.from(archivedAt);
+        System.arraycopy(args, 0, insertArgs, 1, args.length);
+
+        jdbcTemplate.update("INSERT INTO todos_archive (" + COLUMNS + ", archived_at) "
+                + "SELECT " + COLUMNS + ", ? FROM todos WHERE id IN (" + ids + ")", insertArgs);
+        jdbcTemplate.update("DELETE FROM todos WHERE id IN (" + ids + ")", args);
+    }
+
+    /** Page de l'archive dans l'ordre des identifiants, après {@code after} s'il est renseigné. */
+    public List<ArchivedTodoRow> findPage(UUID after, int limit) {
+        String select = "SELECT " + COLUMNS + ", archived_at FROM todos_archive ";
+        return after == null
+                ? jdbcTemplate.query(select + "ORDER BY id LIMIT ?", rowMapper(true), limit)
+                : jdbcTemplate.query(select + "WHERE id > ? ORDER BY id LIMIT ?", rowMapper(true), toBytes(after), limit);
+    }
+
+    private static RowMapper<ArchivedTodoRow> rowMapper(boolean archived) {
+        return (rs, i) -> new ArchivedTodoRow(toUuid(rs.getBytes("id")), rs.getString("titre"),
+                rs.getString("description"), rs.getLong("version"),
+                rs.getTimestamp("created_at").toInstant(), rs.getTimestamp("updated_at").toInstant(),
+                archived ? rs.getTimestamp("archived_at").toInstant() : null);
+    }
+
+    private static byte[] toBytes(UUID id) {
+        return ByteBuffer.allocate(16)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits())
+                .array();
+    }
+
+    private static UUID toUuid(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+}
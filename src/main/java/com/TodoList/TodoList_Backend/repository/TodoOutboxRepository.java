@@ -0,0 +1,48 @@
+package com.TodoList.TodoList_Backend.repository;
+
+import com.TodoList.TodoList_Backend.entity.TodoOutboxEvent;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface TodoOutboxRepository extends JpaRepository<TodoOutboxEvent, UUID> {
+
+    /**
+     * Réserve les plus anciens événements pour la transaction courante. Les lignes déjà verrouillées
+     * par un autre nœud sont sautées ({@code FOR UPDATE SKIP LOCKED}, délai de verrou -2) au lieu d'être attendues,
+     * les événements écartés ({@code dead_at} renseigné) ne sont plus proposés.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT e FROM TodoOutboxEvent e WHERE e.deadAt IS NULL ORDER BY e.id")
+    List<TodoOutboxEvent> claimBatch(Limit limit);
+
+    @Modifying
+    @Query("DELETE FROM TodoOutboxEvent e WHERE e.id IN :ids")
+    int deleteAllByIds(@Param("ids") Collection<UUID> ids);
+
+    @Modifying
+    @Query("UPDATE TodoOutboxEvent e SET e.attempts = e.attempts + 1 WHERE e.id IN :ids")
+    int incrementAttempts(@Param("ids") Collection<UUID> ids);
+
+    @Modifying
+    @Query("UPDATE TodoOutboxEvent e SET e.deadAt = :deadAt, e.lastError = :error WHERE e.id = :id")
+    int markDead(@Param("id") UUID id, @Param("deadAt") Instant deadAt, @Param("error") String error);
+
+    @Query("SELECT MIN(e.createdAt) FROM TodoOutboxEvent e WHERE e.deadAt IS NULL")
+    Optional<Instant> findOldestCreatedAt();
+}
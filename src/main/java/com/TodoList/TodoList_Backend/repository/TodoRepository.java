@@ -1,27 +1,80 @@
 package com.TodoList.TodoList_Backend.repository;
 
 import com.TodoList.TodoList_Backend.entity.Todo;
+import com.TodoList.TodoList_Backend.entity.enums.TodoStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface TodoRepository extends JpaRepository<Todo, UUID> {
 
-    @Query("SELECT t FROM Todo t")
-    List<Todo> findAllTodos();
+    String ROW = "new com.TodoList.TodoList_Backend.repository.TodoRow(t.id, t.titre, t.description, t.statut, t.version)";
+
+    @Query("SELECT " + ROW + " FROM Todo t")
+    List<TodoRow> findAllRows();
+
+    @Query("SELECT " + ROW + " FROM Todo t")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<TodoRow> streamAllRows();
+
+    /*
+     * Pages de GET /api/todos/page : une requête par combinaison de filtres plutôt qu'une seule requête à
+     * conditions facultatives (« :statut IS NULL OR … »). Avec des paramètres liés, l'optimiseur ne sait pas
+     * quelle condition s'applique et parcourt la clé primaire dans l'ordre de l'ORDER BY, en filtrant chaque
+     * ligne : le coût d'une page croît avec la table. Chaque variante ne porte que des conditions indexables :
+     *   - sans filtre : intervalle sur la clé primaire, déjà dans l'ordre ;
+     *   - par statut : intervalle sur idx_todos_statut_id (statut, id), déjà dans l'ordre ;
+     *   - par préfixe : intervalle sur l'index unique du titre, puis tri des seules lignes du préfixe.
+     * TodoRepositoryPageTests vérifie ces plans par EXPLAIN sur H2.
+     */
+
+    @Query("SELECT " + ROW + " FROM Todo t WHERE t.id > :after ORDER BY t.id")
+    List<TodoRow> findPage(@Param("after") UUID after, Limit limit);
+
+    @Query("SELECT " + ROW + " FROM Todo t WHERE t.statut = :statut AND t.id > :after ORDER BY t.id")
+    List<TodoRow> findPageByStatut(@Param("after") UUID after, @Param("statut") TodoStatus statut, Limit limit);
+
+    @Query("SELECT " + ROW + " FROM Todo t WHERE t.titre LIKE :prefix ESCAPE '\\' AND t.id > :after ORDER BY t.id")
+    List<TodoRow> findPageByTitrePrefix(@Param("after") UUID after, @Param("prefix") String prefix, Limit limit);
+
+    @Query("SELECT " + ROW + " FROM Todo t "
+            + "WHERE t.statut = :statut AND t.titre LIKE :prefix ESCAPE '\\' AND t.id > :after ORDER BY t.id")
+    List<TodoRow> findPageByStatutAndTitrePrefix(@Param("after") UUID after,
+                                                 @Param("statut") TodoStatus statut,
+                                                 @Param("prefix") String prefix,
+                                                 Limit limit);
+
+    @Query("SELECT " + ROW + " FROM Todo t WHERE t.id = :id")
+    Optional<TodoRow> findRowById(@Param("id") UUID id);
+
+    @Query("SELECT " + ROW + " FROM Todo t WHERE t.id IN :ids")
+    List<TodoRow> findRowsByIds(@Param("ids") Collection<UUID> ids);
+
+    @Query("SELECT new com.TodoList.TodoList_Backend.repository.TodoStatutCount(t.statut, COUNT(t)) "
+            + "FROM Todo t GROUP BY t.statut")
+    List<TodoStatutCount> countByStatut();
 
     @Query("SELECT t FROM Todo t WHERE t.id = :id")
     Optional<Todo> findTodoById(@Param("id") UUID id);
 
-    @Query("SELECT COUNT(t) > 0 FROM Todo t WHERE t.titre = :titre")
-    boolean existsByTitre(@Param("titre") String titre);
+    @Query("SELECT t FROM Todo t WHERE t.id IN :ids")
+    List<Todo> findTodosByIds(@Param("ids") Collection<UUID> ids);
+
+    @Query("SELECT t.titre FROM Todo t WHERE t.titre IN :titres")
+    List<String> findExistingTitres(@Param("titres") Collection<String> titres);
 
-    @Query("SELECT COUNT(t) > 0 FROM Todo t WHERE t.titre = :titre AND t.id <> :id")
-    boolean existsByTitreAndIdNot(@Param("titre") String titre, @Param("id") UUID id);
+    @Query("SELECT t FROM Todo t WHERE t.titre IN :titres")
+    List<Todo> findTodosByTitres(@Param("titres") Collection<String> titres);
 }
@@ -0,0 +1,11 @@
+package com.TodoList.TodoList_Backend.repository;
+
+import com.TodoList.TodoList_Backend.entity.enums.TodoStatus;
+
+import java.util.UUID;
+
+/**
+ * Projection en lecture seule d'une ligne de {@code todos} : ni entité gérée, ni snapshot Hibernate.
+ */
+public record TodoRow(UUID id, String titre, String description, TodoStatus statut, Long version) {
+}
@@ -0,0 +1,6 @@
+package com.TodoList.TodoList_Backend.repository;
+
+import com.TodoList.TodoList_Backend.entity.enums.TodoStatus;
+
+public record TodoStatutCount(TodoStatus statut, long total) {
+}
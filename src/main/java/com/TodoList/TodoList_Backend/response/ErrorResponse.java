@@ -27,49 +27,52 @@ public class ErrorResponse {
     private List<FieldError> errors;
 
     public static ErrorResponse notFound(String message) {
-        return ErrorResponse.builder()
-                .success(false)
-                .status(404)
-                .message(message)
-                .errorCode("RESOURCE_NOT_FOUND")
-                .build();
+        return of(404, "RESOURCE_NOT_FOUND", message, null);
     }
 
     public static ErrorResponse conflict(String message) {
-        return ErrorResponse.builder()
-                .success(false)
-                .status(409)
-                .message(message)
-                .errorCode("RESOURCE_ALREADY_EXISTS")
-                .build();
+        return of(409, "RESOURCE_ALREADY_EXISTS", message, null);
+    }
+
+    public static ErrorResponse preconditionFailed(String message) {
+        return of(412, "PRECONDITION_FAILED", message, null);
     }
 
     public static ErrorResponse badRequest(String message) {
-        return ErrorResponse.builder()
-                .success(false)
-                .status(400)
-                .message(message)
-                .errorCode("BAD_REQUEST")
-                .build();
+        return of(400, "BAD_REQUEST", message, null);
     }
 
     public static ErrorResponse validationError(String message, List<FieldError> errors) {
-        return ErrorResponse.builder()
-                .success(false)
-                .status(400)
-                .message(message)
-                .errorCode("VALIDATION_ERROR")
-                .errors(errors)
-                .build();
+        return of(400, "VALIDATION_ERROR", message, errors);
+    }
+
+    public static ErrorResponse requestInProgress(String message) {
+        return of(409, "REQUEST_IN_PROGRESS", message, null);
+    }
+
+    public static ErrorResponse idempotencyKeyReused(String message) {
+        return of(422, "IDEMPOTENCY_KEY_REUSED", message, null);
+    }
+
+    public static ErrorResponse payloadTooLarge(String message) {
+        return of(413, "PAYLOAD_TOO_LARGE", message, null);
+    }
+
+    public static ErrorResponse tooManyRequests(String message) {
+        return of(429, "TOO_MANY_REQUESTS", message, null);
+    }
+
+    public static ErrorResponse serviceUnavailable(String message) {
+        return of(503, "SERVICE_UNAVAILABLE", message, null);
     }
 
     public static ErrorResponse internalError(String message) {
-        return ErrorResponse.builder()
-                .success(false)
-                .status(500)
-                .message(message)
-                .errorCode("INTERNAL_ERROR")
-                .build();
+        return of(500, "INTERNAL_ERROR", message, null);
+    }
+
+    private static ErrorResponse of(int status, String errorCode, String message, List<FieldError> errors) {
+        // Constructeur direct plutôt que le builder : ces réponses sont produites à chaque 404/409 d'un afflux d'erreurs
+        return new ErrorResponse(false, status, message, errorCode, LocalDateTime.now(), errors);
     }
 
     @Data
@@ -0,0 +1,216 @@
+package com.TodoList.TodoList_Backend.response;
+
+import com.TodoList.TodoList_Backend.repository.TodoRow;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.SerializableString;
+import tools.jackson.core.StreamWriteFeature;
+import tools.jackson.core.StreamWriteCapability;
+import tools.jackson.core.io.SerializedString;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Écrit une réponse de liste directement dans le générateur Jackson, ligne par ligne,
+ * sans construire ni la liste d'entités ni la liste de {@code TodoResponseDto}.
+ * <p>
+ * Le JSON produit est identique à celui d'un {@code ApiResponse<List<TodoResponseDto>>} sérialisé par Jackson.
+ * Le même document peut être écrit en CBOR ou en Smile ({@link #negotiate}) : les identifiants y sont alors
+ * 16 octets binaires, comme les écrit Jackson pour ces formats.
+ * <p>
+ * L'enveloppe n'est refermée que par {@link Session#finish()} : si la lecture échoue en cours de flux,
+ * le document reste inachevé et le client voit une réponse tronquée, jamais une liste incomplète bien formée.
+ */
+@Component
+public class TodoListJsonWriter {
+
+    private static final SerializableString SUCCESS = new SerializedString("success");
+    private static final SerializableString STATUS = new SerializedString("status");
+    private static final SerializableString MESSAGE = new SerializedString("message");
+    private static final SerializableString DATA = new SerializedString("data");
+    private static final SerializableString TIMESTAMP = new SerializedString("timestamp");
+    private static final SerializableString ID = new SerializedString("id");
+    private static final SerializableString TITRE = new SerializedString("titre");
+    private static final SerializableString DESCRIPTION = new SerializedString("description");
+    private static final SerializableString STATUT = new SerializedString("statut");
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    /** Formats d'une réponse de liste, par ordre de préférence à qualité égale dans l'en-tête Accept. */
+    public static final List<MediaType> MEDIA_TYPES = List.of(
+            MediaType.APPLICATION_JSON, MediaType.APPLICATION_CBOR, MediaTypes.APPLICATION_SMILE);
+
+    // Sans AUTO_CLOSE_CONTENT : fermer le générateur n'écrit pas les fins de tableau et d'objet manquantes
+    private final ObjectWriter jsonWriter;
+    private final ObjectWriter cborWriter;
+    private final ObjectWriter smileWriter;
+
+    public TodoListJsonWriter(JsonMapper jsonMapper, CBORMapper cborMapper, SmileMapper smileMapper) {
+        this.jsonWriter = jsonMapper.writer().without(StreamWriteFeature.AUTO_CLOSE_CONTENT);
+        this.cborWriter = cborMapper.writer().without(StreamWriteFeature.AUTO_CLOSE_CONTENT);
+        this.smileWriter = smileMapper.writer().without(StreamWriteFeature.AUTO_CLOSE_CONTENT);
+    }
+
+    public Session open(OutputStream out, String message) {
+        return open(out, message, MediaType.APPLICATION_JSON);
+    }
+
+    /** @param mediaType l'un des {@link #MEDIA_TYPES} */
+    public Session open(OutputStream out, String message, MediaType mediaType) {
+        return new Session(writerFor(mediaType).createGenerator(out), message);
+    }
+
+    /**
+     * Format de réponse pour un en-tête Accept : celui de plus haute qualité, JSON à défaut.
+     * Chaque format prend la qualité de la plage la plus précise qui l'inclut ; une qualité nulle
+     * l'exclut, même si une plage plus large ({@code *}{@code /*}) l'accepte.
+     */
+    public static MediaType negotiate(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return MediaType.APPLICATION_JSON;
+        }
+        List<MediaType> acceptable = MediaType.parseMediaTypes(accept);
+        MediaType best = MediaType.APPLICATION_JSON;
+        double bestQuality = 0;
+        for (MediaType candidate : MEDIA_TYPES) {
+            double quality = quality(acceptable, candidate);
+            if (quality > bestQuality) {
+                best = candidate;
+                bestQuality = quality;
+            }
+        }
+        return best;
+    }
+
+    /** Même règle que {@link #negotiate} : vrai si l'en-tête Accept admet ce format (qualité non nulle). */
+    public static boolean isAcceptable(String accept, MediaType mediaType) {
+        return accept == null || accept.isBlank() || quality(MediaType.parseMediaTypes(accept), mediaType) > 0;
+    }
+
+    private static double quality(List<MediaType> acceptable, MediaType candidate) {
+        MediaType closest = null;
+        for (MediaType range : acceptable) {
+            if (range.includes(candidate) && (closest == null || specificity(range) > specificity(closest))) {
+                closest = range;
+            }
+        }
+        return closest == null ? 0 : closest.getQualityValue();
+    }
+
+    private static int specificity(MediaType range) {
+        return range.isWildcardType() ? 0 : range.isWildcardSubtype() ? 1 : 2;
+    }
+
+    private ObjectWriter writerFor(MediaType mediaType) {
+        if (MediaType.APPLICATION_CBOR.equalsTypeAndSubtype(mediaType)) {
+            return cborWriter;
+        }
+        if (MediaTypes.APPLICATION_SMILE.equalsTypeAndSubtype(mediaType)) {
+            return smileWriter;
+        }
+        return jsonWriter;
+    }
+
+    public static final class Session implements AutoCloseable {
+
+        private final JsonGenerator generator;
+        private final LocalDateTime timestamp = LocalDateTime.now();
+        private final char[] uuid = new char[36];
+        private final byte[] uuidBytes = new byte[16];
+        private final boolean binaryIds;
+        private boolean finished;
+
+        private Session(JsonGenerator generator, String message) {
+            this.generator = generator;
+            this.binaryIds = generator.has(StreamWriteCapability.CAN_WRITE_BINARY_NATIVELY);
+            generator.writeStartObject();
+            generator.writeName(SUCCESS);
+            generator.writeBoolean(true);
+            generator.writeName(STATUS);
+            generator.writeNumber(200);
+            generator.writeName(MESSAGE);
+            generator.writeString(message);
+            generator.writeName(DATA);
+            generator.writeStartArray();
+        }
+
+        public void write(TodoRow row) {
+            generator.writeStartObject();
+            generator.writeName(ID);
+            if (binaryIds) {
+                uuidBytes(row.id(), uuidBytes);
+                generator.writeBinary(uuidBytes);
+            } else {
+                formatUuid(row.id(), uuid);
+                generator.writeString(uuid, 0, uuid.length);
+            }
+            generator.writeName(TITRE);
+            generator.writeString(row.titre());
+            generator.writeName(DESCRIPTION);
+            if (row.description() == null) {
+                generator.writeNull();
+            } else {
+                generator.writeString(row.description());
+            }
+            generator.writeName(STATUT);
+            generator.writeString(row.statut().name());
+            generator.writeEndObject();
+        }
+
+        /** Referme la liste et l'enveloppe : à n'appeler qu'une fois toutes les lignes écrites. */
+        public void finish() {
+            generator.writeEndArray();
+            generator.writeName(TIMESTAMP);
+            // Même format de date que l'enveloppe sérialisée par Jackson
+            generator.writePOJO(timestamp);
+            generator.writeEndObject();
+            finished = true;
+            generator.close();
+        }
+
+        /** Sans {@link #finish()} préalable, libère le générateur en laissant le document inachevé. */
+        @Override
+        public void close() {
+            if (!finished) {
+                generator.close();
+            }
+        }
+    }
+
+    static void formatUuid(UUID id, char[] out) {
+        long msb = id.getMostSignificantBits();
+        long lsb = id.getLeastSignificantBits();
+        hex(msb >>> 32, out, 0, 8);
+        out[8] = '-';
+        hex(msb >>> 16, out, 9, 4);
+        out[13] = '-';
+        hex(msb, out, 14, 4);
+        out[18] = '-';
+        hex(lsb >>> 48, out, 19, 4);
+        out[23] = '-';
+        hex(lsb, out, 24, 12);
+    }
+
+    static void uuidBytes(UUID id, byte[] out) {
+        long msb = id.getMostSignificantBits();
+        long lsb = id.getLeastSignificantBits();
+        for (int i = 0; i < 8; i++) {
+            out[i] = (byte) (msb >>> (56 - 8 * i));
+            out[8 + i] = (byte) (lsb >>> (56 - 8 * i));
+        }
+    }
+
+    private static void hex(long value, char[] out, int offset, int digits) {
+        for (int i = offset + digits - 1; i >= offset; i--) {
+            out[i] = HEX[(int) (value & 0xF)];
+            value >>>= 4;
+        }
+    }
+}
@@ -0,0 +1,401 @@
+package com.TodoList.TodoList_Backend.search;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.time.Duration;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Index inversé en mémoire sur le titre et la description des tâches.
+ * <p>
+ * Chaque version indexée d'une tâche reçoit un numéro de document croissant ; les listes de documents
+ * par terme restent donc triées par simple ajout, et l'intersection d'une requête à plusieurs termes
+ * avance dans chaque liste par recherche galopante en partant de la plus courte. Une modification
+ * ou une suppression marque seulement l'ancien document comme mort ; quand les morts dépassent
+ * les vivants, l'index est compacté et renuméroté.
+ * <p>
+ * Une suppression laisse une pierre tombale : une version de la tâche lue avant la suppression (par la
+ * construction initiale, ou par un événement de modification traité en retard) ne la fait pas réapparaître.
+ * Un identifiant supprimé n'étant jamais réutilisé, la pierre tombale écarte toutes les versions ; elle est
+ * oubliée {@link #TOMBSTONE_RETENTION} après la suppression, une fois la construction terminée.
+ * <p>
+ * Le classement additionne pour chaque terme son idf pondéré par l'endroit où il apparaît
+ * (titre plutôt que description) ; à score égal, la version indexée la plus récente passe devant.
+ */
+@Component
+public class TodoSearchIndex {
+
+    /**
+     * Rang le plus profond accessible par pagination : la sélection garde {@code offset + limit} candidats
+     * en mémoire, qu'une page lointaine ne doit pas pouvoir faire grossir sans limite.
+     */
+    public static final int MAX_HITS = 10_000;
+
+    private static final byte IN_DESCRIPTION = 1;
+    private static final byte IN_TITRE = 2;
+    private static final int MIN_DEAD_FOR_COMPACTION = 1024;
+    private static final Duration TOMBSTONE_RETENTION = Duration.ofMinutes(1);
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Postings> postingsByTerm = new HashMap<>();
+    private final Map<UUID, Integer> docByTodo = new HashMap<>();
+    private final BitSet live = new BitSet();
+    private UUID[] todoByDoc = new UUID[1024];
+    private long[] versionByDoc = new long[1024];
+    private int nextDoc;
+    /** Date de suppression ({@link System#nanoTime()}) par tâche, dans l'ordre des suppressions. */
+    private final LinkedHashMap<UUID, Long> tombstones = new LinkedHashMap<>();
+    private int rebuilds;
+
+    /**
+     * Indexe ou réindexe une tâche. Une version plus ancienne que celle déjà indexée, ou une tâche supprimée
+     * entre-temps, est ignorée : la construction initiale peut ainsi croiser les écritures en cours.
+     */
+    public void index(UUID id, long version, String titre, String description) {
+        Map<String, Byte> terms = new HashMap<>();
+        TodoTextAnalyzer.terms(titre).forEach(term -> terms.merge(term, IN_TITRE, (a, b) -> (byte) (a | b)));
+        TodoTextAnalyzer.terms(description).forEach(term -> terms.merge(term, IN_DESCRIPTION, (a, b) -> (byte) (a | b)));
+
+        lock.writeLock().lock();
+        try {
+            if (tombstones.containsKey(id)) {
+                return;
+            }
+            Integer previous = docByTodo.get(id);
+            if (previous != null) {
+                if (versionByDoc[previous] > version) {
+                    return;
+                }
+                live.clear(previous);
+            }
+            int doc = nextDoc++;
+            if (doc == todoByDoc.length) {
+                todoByDoc = Arrays.copyOf(todoByDoc, doc * 2);
+                versionByDoc = Arrays.copyOf(versionByDoc, doc * 2);
+            }
+            todoByDoc[doc] = id;
+            versionByDoc[doc] = version;
+            live.set(doc);
+            docByTodo.put(id, doc);
+            terms.forEach((term, where) -> postingsByTerm.computeIfAbsent(term, t -> new Postings()).add(doc, where));
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(UUID id) {
+        lock.writeLock().lock();
+        try {
+            long now = System.nanoTime();
+            tombstones.remove(id);
+            tombstones.put(id, now);
+            expireTombstones(now);
+            Integer doc = docByTodo.remove(id);
+            if (doc != null) {
+                live.clear(doc);
+                compactIfNeeded();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Signale une construction complète en cours : les pierres tombales sont conservées jusqu'à
+     * {@link #endRebuild()}, quelle que soit sa durée.
+     */
+    public void beginRebuild() {
+        lock.writeLock().lock();
+        try {
+            rebuilds++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void endRebuild() {
+        lock.writeLock().lock();
+        try {
+            rebuilds--;
+            expireTombstones(System.nanoTime());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Tâches contenant tous les termes de la requête, des plus pertinentes aux moins pertinentes.
+     *
+     * @throws IllegalArgumentException si {@code offset + limit} dépasse {@link #MAX_HITS}
+     */
+    public SearchHits search(String query, int offset, int limit) {
+        if (offset < 0 || limit < 0 || (long) offset + limit > MAX_HITS) {
+            throw new IllegalArgumentException("Fenêtre de résultats hors bornes : " + offset + " + " + limit);
+        }
+        List<String> terms = new ArrayList<>(new LinkedHashSet<>(TodoTextAnalyzer.terms(query)));
+        if (terms.isEmpty()) {
+            return SearchHits.EMPTY;
+        }
+
+        lock.readLock().lock();
+        try {
+            Postings[] lists = new Postings[terms.size()];
+            for (int i = 0; i < lists.length; i++) {
+                lists[i] = postingsByTerm.get(terms.get(i));
+                if (lists[i] == null) {
+                    return SearchHits.EMPTY;
+                }
+            }
+            Arrays.sort(lists, Comparator.comparingInt(Postings::size));
+            int liveCount = docByTodo.size();
+            float[] idf = new float[lists.length];
+            for (int i = 0; i < lists.length; i++) {
+                idf[i] = idf(liveCount, lists[i].size());
+            }
+
+            int wanted = offset + limit;
+            TopKeys top = new TopKeys(wanted);
+            int[] cursors = new int[lists.length];
+            for (int i = 0; i < lists.length; i++) {
+                cursors[i] = lists[i].size() - 1;
+            }
+            long total = 0;
+            Postings rarest = lists[0];
+            // Du plus récent au plus ancien : à score égal, un document déjà retenu n'est jamais délogé
+            candidates:
+            for (int p = rarest.size() - 1; p >= 0; p--) {
+                int doc = rarest.docs[p];
+                if (!live.get(doc)) {
+                    continue;
+                }
+                float score = idf[0] * rarest.weights[p];
+                for (int i = 1; i < lists.length; i++) {
+                    int at = lists[i].seekDown(cursors[i], doc);
+                    cursors[i] = at;
+                    if (at < 0 || lists[i].docs[at] != doc) {
+                        continue candidates;
+                    }
+                    score += idf[i] * lists[i].weights[at];
+                }
+                total++;
+                // Clé = bits du score (positif, donc ordonné comme un entier) puis numéro de document
+                top.offer(((long) Float.floatToIntBits(score) << 32) | doc);
+            }
+
+            long[] ranked = top.sortedDescending();
+            List<UUID> ids = new ArrayList<>(Math.min(limit, ranked.length));
+            for (int i = offset; i < ranked.length; i++) {
+                ids.add(todoByDoc[(int) ranked[i]]);
+            }
+            return new SearchHits(total, ids);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docByTodo.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static float idf(int liveCount, int documentFrequency) {
+        // Les documents morts pas encore compactés peuvent porter la fréquence au-delà du nombre de vivants
+        return Math.max(0.01f, (float) Math.log(1 + (liveCount - documentFrequency + 0.5) / (documentFrequency + 0.5)));
+    }
+
+    // Appelé sous le verrou d'écriture
+    private void expireTombstones(long now) {
+        if (rebuilds > 0) {
+            return;
+        }
+        long cutoff = now - TOMBSTONE_RETENTION.toNanos();
+        for (Iterator<Long> it = tombstones.values().iterator(); it.hasNext(); ) {
+            if (it.next() - cutoff > 0) {
+                return;
+            }
+            it.remove();
+        }
+    }
+
+    // Appelé sous le verrou d'écriture
+    private void compactIfNeeded() {
+        int dead = nextDoc - docByTodo.size();
+        if (dead < MIN_DEAD_FOR_COMPACTION || dead < docByTodo.size()) {
+            return;
+        }
+        int[] remap = new int[nextDoc];
+        int liveCount = 0;
+        for (int doc = 0; doc < nextDoc; doc++) {
+            remap[doc] = live.get(doc) ? liveCount++ : -1;
+        }
+        for (Iterator<Postings> it = postingsByTerm.values().iterator(); it.hasNext(); ) {
+            Postings postings = it.next();
+            postings.retain(remap);
+            if (postings.size() == 0) {
+                it.remove();
+            }
+        }
+        UUID[] todos = new UUID[Math.max(1024, liveCount * 2)];
+        long[] versions = new long[todos.length];
+        for (int doc = 0; doc < nextDoc; doc++) {
+            if (remap[doc] >= 0) {
+                todos[remap[doc]] = todoByDoc[doc];
+                versions[remap[doc]] = versionByDoc[doc];
+            }
+        }
+        docByTodo.replaceAll((todo, doc) -> remap[doc]);
+        todoByDoc = todos;
+        versionByDoc = versions;
+        live.clear();
+        live.set(0, liveCount);
+        nextDoc = liveCount;
+    }
+
+    public record SearchHits(long total, List<UUID> ids) {
+
+        static final SearchHits EMPTY = new SearchHits(0, List.of());
+    }
+
+    /** Tas minimum des {@code capacity} meilleures clés, sans boxing. */
+    private static final class TopKeys {
+
+        private final long[] heap;
+        private int size;
+
+        TopKeys(int capacity) {
+            this.heap = new long[capacity];
+        }
+
+        void offer(long key) {
+            if (size < heap.length) {
+                heap[size] = key;
+                siftUp(size++);
+            } else if (size > 0 && key > heap[0]) {
+                heap[0] = key;
+                siftDown(0);
+            }
+        }
+
+        long[] sortedDescending() {
+            long[] keys = Arrays.copyOf(heap, size);
+            Arrays.sort(keys);
+            for (int i = 0, j = keys.length - 1; i < j; i++, j--) {
+                long swap = keys[i];
+                keys[i] = keys[j];
+                keys[j] = swap;
+            }
+            return keys;
+        }
+
+        private void siftUp(int at) {
+            while (at > 0) {
+                int parent = (at - 1) >>> 1;
+                if (heap[parent] <= heap[at]) {
+                    return;
+                }
+                swap(parent, at);
+                at = parent;
+            }
+        }
+
+        private void siftDown(int at) {
+            while (true) {
+                int smallest = at;
+                int left = 2 * at + 1;
+                int right = left + 1;
+                if (left < size && heap[left] < heap[smallest]) {
+                    smallest = left;
+                }
+                if (right < size && heap[right] < heap[smallest]) {
+                    smallest = right;
+                }
+                if (smallest == at) {
+                    return;
+                }
+                swap(at, smallest);
+                at = smallest;
+            }
+        }
+
+        private void swap(int i, int j) {
+            long tmp = heap[i];
+            heap[i] = heap[j];
+            heap[j] = tmp;
+        }
+    }
+
+    /** Documents contenant un terme, triés par numéro croissant, avec l'endroit où il apparaît. */
+    private static final class Postings {
+
+        private int[] docs = new int[4];
+        private byte[] weights = new byte[4];
+        private int size;
+
+        int size() {
+            return size;
+        }
+
+        void add(int doc, byte where) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                weights = Arrays.copyOf(weights, size * 2);
+            }
+            docs[size] = doc;
+            weights[size] = where;
+            size++;
+        }
+
+        /**
+         * Dernière position à partir de {@code from} (en descendant) dont le document est {@code <= doc},
+         * ou {@code -1}. Recherche galopante : quelques comparaisons quand les listes avancent au même rythme.
+         */
+        int seekDown(int from, int doc) {
+            if (from < 0 || docs[from] <= doc) {
+                return from;
+            }
+            int above = from;
+            int step = 1;
+            int below = from - step;
+            while (below >= 0 && docs[below] > doc) {
+                above = below;
+                step <<= 1;
+                below = from - step;
+            }
+            int at = Arrays.binarySearch(docs, Math.max(below, -1) + 1, above, doc);
+            return at >= 0 ? at : -at - 2;
+        }
+
+        void retain(int[] remap) {
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                int doc = remap[docs[i]];
+                if (doc >= 0) {
+                    docs[kept] = doc;
+                    weights[kept] = weights[i];
+                    kept++;
+                }
+            }
+            size = kept;
+            if (kept < docs.length / 4) {
+                docs = Arrays.copyOf(docs, Math.max(4, kept));
+                weights = Arrays.copyOf(weights, Math.max(4, kept));
+            }
+        }
+    }
+}
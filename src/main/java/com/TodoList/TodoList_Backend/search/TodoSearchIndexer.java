@@ -0,0 +1,53 @@
+package com.TodoList.TodoList_Backend.search;
+
+import com.TodoList.TodoList_Backend.datasource.DataSourceRouting;
+import com.TodoList.TodoList_Backend.event.TodoChangeType;
+import com.TodoList.TodoList_Backend.event.TodoChangedEvent;
+import com.TodoList.TodoList_Backend.service.TodoService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Alimente {@link TodoSearchIndex} : chargement complet au démarrage, puis mises à jour
+ * incrémentales après chaque commit d'écriture.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TodoSearchIndexer {
+
+    private final TodoSearchIndex index;
+    private final TodoService todoService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildIndex() {
+        long start = System.nanoTime();
+        // Lecture en flux sur la base principale : les écritures concurrentes passent par onTodoChanged,
+        // départagées par la version (les suppressions par une pierre tombale), ce qui suppose de ne pas relire
+        // une ligne plus ancienne sur une réplique
+        index.beginRebuild();
+        try {
+            DataSourceRouting.onPrimary(() ->
+                    todoService.forEachRow(row -> index.index(row.id(), row.version(), row.titre(), row.description())));
+        } finally {
+            index.endRebuild();
+        }
+        log.info("Index de recherche construit : {} tâches en {} ms",
+                index.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    // Hors transaction (moteur MEMORY), traité dès la publication
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTodoChanged(TodoChangedEvent event) {
+        if (event.type() == TodoChangeType.DELETED || event.type() == TodoChangeType.ARCHIVED) {
+            index.remove(event.id());
+        } else {
+            index.index(event.id(), event.todo().getVersion(), event.todo().getTitre(), event.todo().getDescription());
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.TodoList.TodoList_Backend.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Découpe un texte français en termes indexables : minuscules, accents retirés ({@code é → e},
+ * {@code œ → oe}), mots vides et termes d'une lettre ignorés, pluriel en {@code -s} ramené au singulier.
+ * La même analyse s'applique aux tâches et aux requêtes, si bien que « Tâches » trouve « tache ».
+ */
+final class TodoTextAnalyzer {
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "au", "aux", "avec", "ce", "ces", "dans", "de", "des", "du", "en", "et", "il", "la", "le", "les",
+            "leur", "mais", "ne", "ni", "on", "ou", "par", "pas", "pour", "qu", "que", "qui", "sa", "se", "ses",
+            "son", "sur", "un", "une");
+
+    private TodoTextAnalyzer() {
+    }
+
+    static List<String> terms(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return terms;
+        }
+        String folded = fold(text);
+        StringBuilder token = new StringBuilder();
+        for (int i = 0; i <= folded.length(); i++) {
+            char c = i < folded.length() ? folded.charAt(i) : ' ';
+            if (Character.isLetterOrDigit(c)) {
+                token.append(c);
+            } else if (!token.isEmpty()) {
+                addTerm(terms, token.toString());
+                token.setLength(0);
+            }
+        }
+        return terms;
+    }
+
+    private static void addTerm(List<String> terms, String token) {
+        if (token.length() < 2 || STOP_WORDS.contains(token)) {
+            return;
+        }
+        // Pluriel régulier : « taches » et « tache » partagent le même terme
+        if (token.length() > 3 && token.charAt(token.length() - 1) == 's') {
+            token = token.substring(0, token.length() - 1);
+        }
+        terms.add(token);
+    }
+
+    private static String fold(String text) {
+        String decomposed = Normalizer.normalize(text.toLowerCase(Locale.ROOT), Normalizer.Form.NFD);
+        StringBuilder folded = new StringBuilder(decomposed.length());
+        for (int i = 0; i < decomposed.length(); i++) {
+            char c = decomposed.charAt(i);
+            switch (Character.getType(c)) {
+                case Character.NON_SPACING_MARK, Character.COMBINING_SPACING_MARK, Character.ENCLOSING_MARK -> {
+                }
+                default -> {
+                    // Ligatures non décomposées par NFD
+                    if (c == 'œ') {
+                        folded.append("oe");
+                    } else if (c == 'æ') {
+                        folded.append("ae");
+                    } else {
+                        folded.append(c);
+                    }
+                }
+            }
+        }
+        return folded.toString();
+    }
+}
@@ -0,0 +1,337 @@
+package com.TodoList.TodoList_Backend.service;
+
+import com.TodoList.TodoList_Backend.dto.BulkItemResultDto;
+import com.TodoList.TodoList_Backend.dto.TodoBulkStatusDto;
+import com.TodoList.TodoList_Backend.dto.TodoBulkUpdateDto;
+import com.TodoList.TodoList_Backend.dto.TodoPageDto;
+import com.TodoList.TodoList_Backend.dto.TodoRequestDto;
+import com.TodoList.TodoList_Backend.dto.TodoResponseDto;
+import com.TodoList.TodoList_Backend.dto.TodoSearchResultDto;
+import com.TodoList.TodoList_Backend.dto.TodoStatsDto;
+import com.TodoList.TodoList_Backend.dto.TodoStatusDto;
+import com.TodoList.TodoList_Backend.entity.enums.TodoStatus;
+import com.TodoList.TodoList_Backend.event.TodoChangedEvent;
+import com.TodoList.TodoList_Backend.exception.BadRequestException;
+import com.TodoList.TodoList_Backend.exception.PreconditionFailedException;
+import com.TodoList.TodoList_Backend.exception.ResourceAlreadyExistsException;
+import com.TodoList.TodoList_Backend.exception.ResourceNotFoundException;
+import com.TodoList.TodoList_Backend.mapper.TodoMapper;
+import com.TodoList.TodoList_Backend.repository.TodoRow;
+import com.TodoList.TodoList_Backend.search.TodoSearchIndex;
+import com.TodoList.TodoList_Backend.storage.InMemoryTodoStore;
+import com.TodoList.TodoList_Backend.storage.TodoRecord;
+import io.micrometer.observation.annotation.Observed;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.id.uuid.UuidVersion7Strategy;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Moteur MEMORY ({@code todo.storage.engine=memory}) : mêmes règles que {@link TodoServiceImpl},
+ * appliquées à {@link InMemoryTodoStore}. Aucune lecture n'attend la base ou le disque ; une écriture
+ * n'attend que le verrou du store, et la persistance différée si sa file est pleine.
+ * <p>
+ * Les événements sont publiés sous le verrou d'écriture, donc dans l'ordre des écritures, et sans transaction :
+ * les écouteurs après commit s'exécutent aussitôt. L'outbox transactionnelle n'est pas alimentée.
+ * Une seule instance doit écrire dans la cible de persistance.
+ */
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "todo.storage.engine", havingValue = "memory")
+@Observed(name = "todo.service")
+public class InMemoryTodoService implements TodoService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final InMemoryTodoStore store;
+    private final TodoMapper todoMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TodoSearchIndex searchIndex;
+
+    @Override
+    public TodoResponseDto create(TodoRequestDto dto) {
+        return store.write(() -> {
+            if (store.titreOwner(dto.getTitre()) != null) {
+                throw new ResourceAlreadyExistsException(titreConflictMessage(dto.getTitre()));
+            }
+            return publish(TodoChangedEvent.created(insert(dto)));
+        });
+    }
+
+    @Override
+    public TodoResponseDto getById(UUID id) {
+        return todoMapper.toResponseDto(findById(id));
+    }
+
+    @Override
+    public List<TodoResponseDto> getAll() {
+        return store.scan(null, null).map(todoMapper::toResponseDto).toList();
+    }
+
+    @Override
+    public void forEachRow(Consumer<TodoRow> action) {
+        store.scan(null, null).forEach(todo -> action.accept(todo.toRow()));
+    }
+
+    @Override
+    public void exportAll(Consumer<TodoResponseDto> consumer) {
+        store.scan(null, null).forEach(todo -> consumer.accept(todoMapper.toResponseDto(todo)));
+    }
+
+    @Override
+    public TodoPageDto getPage(String cursor, int size, TodoStatus statut, String titrePrefix) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new BadRequestException(
+                    "La taille de page doit être comprise entre 1 et " + MAX_PAGE_SIZE);
+        }
+        List<TodoRecord> todos = store.scan(TodoCursor.decode(cursor), statut)
+                .filter(todo -> matchesPrefix(todo.titre(), titrePrefix))
+                .limit(size + 1L)
+                .toList();
+
+        boolean hasNext = todos.size() > size;
+        List<TodoRecord> page = hasNext ? todos.subList(0, size) : todos;
+        return TodoPageDto.builder()
+                .items(page.stream().map(todoMapper::toResponseDto).toList())
+                .size(page.size())
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? TodoCursor.encode(page.get(page.size() - 1).id()) : null)
+                .build();
+    }
+
+    @Override
+    public TodoSearchResultDto search(String query, int page, int size) {
+        if (query == null || query.isBlank()) {
+            throw new BadRequestException("Le texte recherché est obligatoire");
+        }
+        if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+            throw new BadRequestException(
+                    "La page doit être positive et la taille comprise entre 1 et " + MAX_PAGE_SIZE);
+        }
+        if ((long) (page + 1) * size > TodoSearchIndex.MAX_HITS) {
+            throw new BadRequestException("Seuls les " + TodoSearchIndex.MAX_HITS
+                    + " premiers résultats sont accessibles : précisez la recherche");
+        }
+        TodoSearchIndex.SearchHits hits = searchIndex.search(query, page * size, size);
+        List<TodoResponseDto> items = hits.ids().stream()
+                .map(store::get)
+                .filter(Objects::nonNull)
+                .map(todoMapper::toResponseDto)
+                .toList();
+        return TodoSearchResultDto.builder()
+                .items(items)
+                .total(hits.total())
+                .page(page)
+                .size(items.size())
+                .hasNext((long) (page + 1) * size < hits.total())
+                .build();
+    }
+
+    @Override
+    public TodoStatsDto getStats() {
+        Map<TodoStatus, Long> parStatut = store.countByStatut();
+        return TodoStatsDto.builder()
+                .total(parStatut.values().stream().mapToLong(Long::longValue).sum())
+                .parStatut(parStatut)
+                .build();
+    }
+
+    @Override
+    public TodoResponseDto update(UUID id, TodoRequestDto dto, Set<Long> expectedVersions) {
+        return store.write(() -> {
+            TodoRecord existing = findById(id);
+            checkVersion(existing, expectedVersions);
+            UUID owner = store.titreOwner(dto.getTitre());
+            if (owner != null && !owner.equals(id)) {
+                throw new ResourceAlreadyExistsException(titreConflictMessage(dto.getTitre()));
+            }
+            return publish(TodoChangedEvent.updated(replaceContent(existing, dto.getTitre(), dto.getDescription())));
+        });
+    }
+
+    @Override
+    public TodoResponseDto updateStatut(UUID id, TodoStatusDto dto, Set<Long> expectedVersions) {
+        return store.write(() -> {
+            TodoRecord existing = findById(id);
+            checkVersion(existing, expectedVersions);
+            if (existing.statut() == dto.getStatut()) {
+                throw new BadRequestException(
+                        "La tâche est déjà au statut " + dto.getStatut());
+            }
+            return publish(TodoChangedEvent.statusChanged(replaceStatut(existing, dto.getStatut()), existing.statut()));
+        });
+    }
+
+    @Override
+    public void delete(UUID id, Set<Long> expectedVersions) {
+        store.write(() -> {
+            TodoRecord existing = findById(id);
+            checkVersion(existing, expectedVersions);
+            if (existing.statut() != TodoStatus.TERMINEE) {
+                throw new BadRequestException("Seules les tâches terminées peuvent être supprimées");
+            }
+            store.remove(existing);
+            eventPublisher.publishEvent(TodoChangedEvent.deleted(id, existing.statut()));
+            return null;
+        });
+    }
+
+    @Override
+    public List<BulkItemResultDto> createAll(List<TodoRequestDto> dtos) {
+        if (dtos.isEmpty()) {
+            return List.of();
+        }
+        return store.write(() -> {
+            List<BulkItemResultDto> results = new ArrayList<>(dtos.size());
+            for (int i = 0; i < dtos.size(); i++) {
+                TodoRequestDto dto = dtos.get(i);
+                // Les tâches créées plus haut dans le lot sont déjà dans l'index des titres
+                if (store.titreOwner(dto.getTitre()) != null) {
+                    results.add(bulkResult(i, null, BulkItemResultDto.Outcome.CONFLICT,
+                            titreConflictMessage(dto.getTitre()), null));
+                    continue;
+                }
+                TodoResponseDto created = publish(TodoChangedEvent.created(insert(dto)));
+                results.add(bulkResult(i, created.getId(), BulkItemResultDto.Outcome.CREATED, null, created));
+            }
+            return results;
+        });
+    }
+
+    @Override
+    public List<BulkItemResultDto> updateAll(List<TodoBulkUpdateDto> dtos) {
+        if (dtos.isEmpty()) {
+            return List.of();
+        }
+        return store.write(() -> {
+            List<BulkItemResultDto> results = new ArrayList<>(dtos.size());
+            for (int i = 0; i < dtos.size(); i++) {
+                TodoBulkUpdateDto dto = dtos.get(i);
+                TodoRecord existing = store.get(dto.getId());
+                if (existing == null) {
+                    results.add(bulkResult(i, dto.getId(), BulkItemResultDto.Outcome.NOT_FOUND,
+                            notFoundMessage(dto.getId()), null));
+                    continue;
+                }
+                UUID owner = store.titreOwner(dto.getTitre());
+                if (owner != null && !owner.equals(existing.id())) {
+                    results.add(bulkResult(i, dto.getId(), BulkItemResultDto.Outcome.CONFLICT,
+                            titreConflictMessage(dto.getTitre()), null));
+                    continue;
+                }
+                results.add(bulkResult(i, dto.getId(), BulkItemResultDto.Outcome.UPDATED, null,
+                        publish(TodoChangedEvent.updated(
+                                replaceContent(existing, dto.getTitre(), dto.getDescription())))));
+            }
+            return results;
+        });
+    }
+
+    @Override
+    public List<BulkItemResultDto> updateStatutAll(List<TodoBulkStatusDto> dtos) {
+        if (dtos.isEmpty()) {
+            return List.of();
+        }
+        return store.write(() -> {
+            List<BulkItemResultDto> results = new ArrayList<>(dtos.size());
+            for (int i = 0; i < dtos.size(); i++) {
+                TodoBulkStatusDto dto = dtos.get(i);
+                TodoRecord existing = store.get(dto.getId());
+                if (existing == null) {
+                    results.add(bulkResult(i, dto.getId(), BulkItemResultDto.Outcome.NOT_FOUND,
+                            notFoundMessage(dto.getId()), null));
+                    continue;
+                }
+                if (existing.statut() == dto.getStatut()) {
+                    results.add(bulkResult(i, dto.getId(), BulkItemResultDto.Outcome.BAD_REQUEST,
+                            "La tâche est déjà au statut " + dto.getStatut(), null));
+                    continue;
+                }
+                results.add(bulkResult(i, dto.getId(), BulkItemResultDto.Outcome.UPDATED, null,
+                        publish(TodoChangedEvent.statusChanged(
+                                replaceStatut(existing, dto.getStatut()), existing.statut()))));
+            }
+            return results;
+        });
+    }
+
+    // Appelées sous le verrou d'écriture du store
+
+    private TodoResponseDto insert(TodoRequestDto dto) {
+        // Même générateur que @UuidGenerator(VERSION_7) de l'entité : ordre d'insertion et ordre des id coïncident
+        TodoRecord todo = new TodoRecord(UuidVersion7Strategy.INSTANCE.generateUuid(null), dto.getTitre(),
+                dto.getDescription(), TodoStatus.EN_COURS, 0L, Instant.now());
+        store.put(null, todo);
+        return todoMapper.toResponseDto(todo);
+    }
+
+    private TodoResponseDto replaceContent(TodoRecord existing, String titre, String description) {
+        // Comme le dirty checking d'Hibernate : sans changement, ni écriture ni nouvelle version
+        if (existing.titre().equals(titre) && Objects.equals(existing.description(), description)) {
+            return todoMapper.toResponseDto(existing);
+        }
+        TodoRecord updated = existing.withContent(titre, description);
+        store.put(existing, updated);
+        return todoMapper.toResponseDto(updated);
+    }
+
+    private TodoResponseDto replaceStatut(TodoRecord existing, TodoStatus statut) {
+        TodoRecord updated = existing.withStatut(statut);
+        store.put(existing, updated);
+        return todoMapper.toResponseDto(updated);
+    }
+
+    private TodoResponseDto publish(TodoChangedEvent event) {
+        eventPublisher.publishEvent(event);
+        return event.todo();
+    }
+
+    private TodoRecord findById(UUID id) {
+        TodoRecord todo = store.get(id);
+        if (todo == null) {
+            throw new ResourceNotFoundException("Todo", id);
+        }
+        return todo;
+    }
+
+    private static void checkVersion(TodoRecord todo, Set<Long> expectedVersions) {
+        if (expectedVersions != null && !expectedVersions.contains(todo.version())) {
+            throw new PreconditionFailedException(
+                    "La tâche a été modifiée entre-temps (version actuelle : " + todo.version() + ")");
+        }
+    }
+
+    /** {@code LIKE 'prefixe%'} sous une collation insensible à la casse, comme en base. */
+    private static boolean matchesPrefix(String titre, String prefix) {
+        return prefix == null || prefix.isEmpty() || titre.regionMatches(true, 0, prefix, 0, prefix.length());
+    }
+
+    private static BulkItemResultDto bulkResult(int index, UUID id, BulkItemResultDto.Outcome outcome,
+                                                String message, TodoResponseDto data) {
+        return BulkItemResultDto.builder()
+                .index(index)
+                .id(id)
+                .outcome(outcome)
+                .message(message)
+                .data(data)
+                .build();
+    }
+
+    private static String titreConflictMessage(String titre) {
+        return "Une tâche avec le titre '" + titre + "' existe déjà";
+    }
+
+    private static String notFoundMessage(UUID id) {
+        return "Todo non trouvé avec l'identifiant: " + id;
+    }
+}
@@ -0,0 +1,44 @@
+package com.TodoList.TodoList_Backend.service;
+
+import com.TodoList.TodoList_Backend.dto.ArchivedTodoPageDto;
+import com.TodoList.TodoList_Backend.exception.BadRequestException;
+import com.TodoList.TodoList_Backend.mapper.TodoMapper;
+import com.TodoList.TodoList_Backend.repository.ArchivedTodoRow;
+import com.TodoList.TodoList_Backend.repository.TodoArchiveRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Lecture de {@code todos_archive}, alimentée par {@code TodoArchiver}. L'archive a sa propre pagination
+ * par curseur, indépendante de celle de {@code GET /api/todos/page} : ses lectures ne touchent pas {@code todos}.
+ */
+@Service
+@RequiredArgsConstructor
+public class TodoArchiveService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final TodoArchiveRepository archiveRepository;
+    private final TodoMapper todoMapper;
+
+    @Transactional(readOnly = true)
+    public ArchivedTodoPageDto getPage(String cursor, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new BadRequestException(
+                    "La taille de page doit être comprise entre 1 et " + MAX_PAGE_SIZE);
+        }
+        List<ArchivedTodoRow> rows = archiveRepository.findPage(TodoCursor.decode(cursor), size + 1);
+
+        boolean hasNext = rows.size() > size;
+        List<ArchivedTodoRow> page = hasNext ? rows.subList(0, size) : rows;
+        return ArchivedTodoPageDto.builder()
+                .items(page.stream().map(todoMapper::toArchivedDto).toList())
+                .size(page.size())
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? TodoCursor.encode(page.get(page.size() - 1).id()) : null)
+                .build();
+    }
+}
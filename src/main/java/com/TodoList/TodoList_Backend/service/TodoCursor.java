@@ -0,0 +1,43 @@
+package com.TodoList.TodoList_Backend.service;
+
+import com.TodoList.TodoList_Backend.exception.BadRequestException;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Curseur opaque de pagination : l'identifiant de la dernière tâche renvoyée,
+ * encodé en Base64 URL-safe. Le client ne doit jamais l'interpréter.
+ */
+final class TodoCursor {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private TodoCursor() {
+    }
+
+    static String encode(UUID lastId) {
+        ByteBuffer buffer = ByteBuffer.allocate(16);
+        buffer.putLong(lastId.getMostSignificantBits());
+        buffer.putLong(lastId.getLeastSignificantBits());
+        return ENCODER.encodeToString(buffer.array());
+    }
+
+    static UUID decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            byte[] bytes = DECODER.decode(cursor);
+            if (bytes.length != 16) {
+                throw new BadRequestException("Curseur de pagination invalide");
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            return new UUID(buffer.getLong(), buffer.getLong());
+        } catch (IllegalArgumentException ex) {
+            throw new BadRequestException("Curseur de pagination invalide");
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.TodoList.TodoList_Backend.service;
+
+import com.TodoList.TodoList_Backend.config.TodoCacheProperties;
+import com.TodoList.TodoList_Backend.dto.TodoResponseDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Cache en lecture seule de {@link TodoResponseDto} par identifiant.
+ * <p>
+ * Le chargement passe par {@link Cache#get(Object, Function)}, qui verrouille la clé pendant la lecture en base ;
+ * l'invalidation attend donc la fin d'un chargement en cours au lieu de le laisser réinsérer une valeur périmée.
+ * Les écritures invalident la clé après le commit, jamais avant : une lecture concurrente ne peut pas
+ * recharger l'ancienne version entre l'invalidation et la validation de la transaction.
+ * <p>
+ * Les identifiants absents sont retenus à part ({@code todo.cache.negative}) pour répondre 404 sans requête.
+ * L'absence est enregistrée pendant le chargement, sous le verrou de la clé : l'invalidation après la création
+ * de la tâche passe forcément après elle et l'efface.
+ */
+@Component
+public class TodoResponseCache {
+
+    private final Cache<UUID, TodoResponseDto> cache;
+    private final Cache<UUID, Boolean> absent;
+
+    public TodoResponseCache(TodoCacheProperties properties, MeterRegistry meterRegistry) {
+        if (properties.isEnabled()) {
+            this.cache = Caffeine.newBuilder()
+                    .maximumSize(properties.getMaximumSize())
+                    .expireAfterWrite(properties.getTtl())
+                    .recordStats()
+                    .build();
+            CaffeineCacheMetrics.monitor(meterRegistry, cache, "todos");
+        } else {
+            this.cache = null;
+        }
+        if (properties.isEnabled() && properties.getNegative().isEnabled()) {
+            this.absent = Caffeine.newBuilder()
+                    .maximumSize(properties.getNegative().getMaximumSize())
+                    .expireAfterWrite(properties.getNegative().getTtl())
+                    .recordStats()
+                    .build();
+            CaffeineCacheMetrics.monitor(meterRegistry, absent, "todos-absent");
+        } else {
+            this.absent = null;
+        }
+    }
+
+    /** @param loader renvoie {@code null} si la tâche n'existe pas ; {@code get} renvoie alors {@code null} aussi */
+    public TodoResponseDto get(UUID id, Function<UUID, TodoResponseDto> loader) {
+        if (cache == null) {
+            return loader.apply(id);
+        }
+        if (absent == null) {
+            return cache.get(id, loader);
+        }
+        if (absent.getIfPresent(id) != null) {
+            return null;
+        }
+        return cache.get(id, key -> {
+            TodoResponseDto todo = loader.apply(key);
+            if (todo == null) {
+                absent.put(key, Boolean.TRUE);
+            }
+            return todo;
+        });
+    }
+
+    public void invalidateAfterCommit(UUID id) {
+        if (cache == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate(id);
+                }
+            });
+        } else {
+            invalidate(id);
+        }
+    }
+
+    private void invalidate(UUID id) {
+        // Dans cet ordre : la première invalidation attend un chargement en cours, qui a pu marquer l'absence
+        cache.invalidate(id);
+        if (absent != null) {
+            absent.invalidate(id);
+        }
+    }
+}
@@ -1,11 +1,21 @@
 package com.TodoList.TodoList_Backend.service;
 
+import com.TodoList.TodoList_Backend.dto.BulkItemResultDto;
+import com.TodoList.TodoList_Backend.dto.TodoBulkStatusDto;
+import com.TodoList.TodoList_Backend.dto.TodoBulkUpdateDto;
+import com.TodoList.TodoList_Backend.dto.TodoPageDto;
 import com.TodoList.TodoList_Backend.dto.TodoRequestDto;
 import com.TodoList.TodoList_Backend.dto.TodoResponseDto;
+import com.TodoList.TodoList_Backend.dto.TodoSearchResultDto;
+import com.TodoList.TodoList_Backend.dto.TodoStatsDto;
 import com.TodoList.TodoList_Backend.dto.TodoStatusDto;
+import com.TodoList.TodoList_Backend.entity.enums.TodoStatus;
+import com.TodoList.TodoList_Backend.repository.TodoRow;
 
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 public interface TodoService {
 
@@ -15,9 +25,25 @@ public interface TodoService {
 
     List<TodoResponseDto> getAll();
 
-    TodoResponseDto update(UUID id, TodoRequestDto dto);
+    void forEachRow(Consumer<TodoRow> action);
 
-    TodoResponseDto updateStatut(UUID id, TodoStatusDto dto);
+    void exportAll(Consumer<TodoResponseDto> consumer);
 
-    void delete(UUID id);
+    TodoPageDto getPage(String cursor, int size, TodoStatus statut, String titrePrefix);
+
+    TodoSearchResultDto search(String query, int page, int size);
+
+    TodoStatsDto getStats();
+
+    TodoResponseDto update(UUID id, TodoRequestDto dto, Set<Long> expectedVersions);
+
+    TodoResponseDto updateStatut(UUID id, TodoStatusDto dto, Set<Long> expectedVersions);
+
+    void delete(UUID id, Set<Long> expectedVersions);
+
+    List<BulkItemResultDto> createAll(List<TodoRequestDto> dtos);
+
+    List<BulkItemResultDto> updateAll(List<TodoBulkUpdateDto> dtos);
+
+    List<BulkItemResultDto> updateStatutAll(List<TodoBulkStatusDto> dtos);
 }
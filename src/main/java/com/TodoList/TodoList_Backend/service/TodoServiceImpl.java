@@ -1,89 +1,526 @@
 package com.TodoList.TodoList_Backend.service;
 
+import com.TodoList.TodoList_Backend.datasource.DataSourceRouting;
+import com.TodoList.TodoList_Backend.dto.BulkItemResultDto;
+import com.TodoList.TodoList_Backend.dto.TodoBulkStatusDto;
+import com.TodoList.TodoList_Backend.dto.TodoBulkUpdateDto;
+import com.TodoList.TodoList_Backend.dto.TodoPageDto;
 import com.TodoList.TodoList_Backend.dto.TodoRequestDto;
 import com.TodoList.TodoList_Backend.dto.TodoResponseDto;
+import com.TodoList.TodoList_Backend.dto.TodoSearchResultDto;
+import com.TodoList.TodoList_Backend.dto.TodoStatsDto;
 import com.TodoList.TodoList_Backend.dto.TodoStatusDto;
 import com.TodoList.TodoList_Backend.entity.Todo;
 import com.TodoList.TodoList_Backend.entity.enums.TodoStatus;
+import com.TodoList.TodoList_Backend.event.TodoChangedEvent;
 import com.TodoList.TodoList_Backend.exception.BadRequestException;
+import com.TodoList.TodoList_Backend.exception.PreconditionFailedException;
 import com.TodoList.TodoList_Backend.exception.ResourceAlreadyExistsException;
 import com.TodoList.TodoList_Backend.exception.ResourceNotFoundException;
 import com.TodoList.TodoList_Backend.mapper.TodoMapper;
 import com.TodoList.TodoList_Backend.repository.TodoRepository;
+import com.TodoList.TodoList_Backend.repository.TodoRow;
+import com.TodoList.TodoList_Backend.search.TodoSearchIndex;
+import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
+@ConditionalOnProperty(name = "todo.storage.engine", havingValue = "jpa", matchIfMissing = true)
+// Un timer par méthode (todo.service, tags class et method) et un span dès qu'un traceur est présent
+@Observed(name = "todo.service")
 public class TodoServiceImpl implements TodoService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final UUID FIRST_ID = new UUID(0, 0);
+    private static final int MAX_BULK_ATTEMPTS = 3;
+
     private final TodoRepository todoRepository;
     private final TodoMapper todoMapper;
+    private final TodoResponseCache todoCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TodoSearchIndex searchIndex;
+    private final TodoStatusCounters statusCounters;
+    private final TransactionTemplate transactionTemplate;
 
     @Override
     @Transactional
     public TodoResponseDto create(TodoRequestDto dto) {
-        if (todoRepository.existsByTitre(dto.getTitre())) {
-            throw new ResourceAlreadyExistsException(
-                    "Une tâche avec le titre '" + dto.getTitre() + "' existe déjà");
+        // Pas de vérification préalable : la contrainte d'unicité sur titre tranche en un seul aller-retour
+        Todo todo;
+        try {
+            todo = todoRepository.saveAndFlush(todoMapper.toEntity(dto));
+        } catch (DataIntegrityViolationException ex) {
+            throw translateTitreViolation(dto.getTitre(), ex);
         }
-        Todo todo = todoMapper.toEntity(dto);
-        return todoMapper.toResponseDto(todoRepository.save(todo));
+        todoCache.invalidateAfterCommit(todo.getId());
+        return publish(TodoChangedEvent.created(todoMapper.toResponseDto(todo)));
     }
 
     @Override
-    @Transactional(readOnly = true)
     public TodoResponseDto getById(UUID id) {
-        return todoMapper.toResponseDto(findTodoById(id));
+        // Hors transaction : un succès de cache ne doit pas emprunter de connexion.
+        // Chargé depuis la base principale : une ligne en retard sur la réplique resterait en cache jusqu'au TTL
+        TodoResponseDto todo = todoCache.get(id, key -> DataSourceRouting.onPrimary(() -> todoRepository.findRowById(key))
+                .map(todoMapper::toResponseDto)
+                .orElse(null));
+        if (todo == null) {
+            // Absente en base ou déjà connue comme telle par le cache négatif
+            throw new ResourceNotFoundException("Todo", id);
+        }
+        return todo;
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<TodoResponseDto> getAll() {
-        return todoMapper.toResponseDtoList(todoRepository.findAllTodos());
+        return todoMapper.rowsToResponseDtoList(todoRepository.findAllRows());
     }
 
     @Override
-    @Transactional
-    public TodoResponseDto update(UUID id, TodoRequestDto dto) {
-        if (todoRepository.existsByTitreAndIdNot(dto.getTitre(), id)) {
-            throw new ResourceAlreadyExistsException(
-                    "Une tâche avec le titre '" + dto.getTitre() + "' existe déjà");
+    @Transactional(readOnly = true)
+    public void forEachRow(Consumer<TodoRow> action) {
+        try (Stream<TodoRow> rows = todoRepository.streamAllRows()) {
+            rows.forEach(action);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportAll(Consumer<TodoResponseDto> consumer) {
+        // Projections : aucune entité n'entre dans le contexte de persistance, qui reste vide quel que soit le volume
+        try (Stream<TodoRow> rows = todoRepository.streamAllRows()) {
+            rows.forEach(row -> consumer.accept(todoMapper.toResponseDto(row)));
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TodoPageDto getPage(String cursor, int size, TodoStatus statut, String titrePrefix) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new BadRequestException(
+                    "La taille de page doit être comprise entre 1 et " + MAX_PAGE_SIZE);
+        }
+        // Une ligne de plus que demandé suffit à savoir s'il existe une page suivante
+        List<TodoRow> rows = findPage(TodoCursor.decode(cursor), statut, toLikePrefix(titrePrefix), Limit.of(size + 1));
+
+        boolean hasNext = rows.size() > size;
+        List<TodoRow> page = hasNext ? rows.subList(0, size) : rows;
+        return TodoPageDto.builder()
+                .items(todoMapper.rowsToResponseDtoList(page))
+                .size(page.size())
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? TodoCursor.encode(page.get(page.size() - 1).id()) : null)
+                .build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TodoSearchResultDto search(String query, int page, int size) {
+        if (query == null || query.isBlank()) {
+            throw new BadRequestException("Le texte recherché est obligatoire");
+        }
+        if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+            throw new BadRequestException(
+                    "La page doit être positive et la taille comprise entre 1 et " + MAX_PAGE_SIZE);
+        }
+        if ((long) (page + 1) * size > TodoSearchIndex.MAX_HITS) {
+            throw new BadRequestException("Seuls les " + TodoSearchIndex.MAX_HITS
+                    + " premiers résultats sont accessibles : précisez la recherche");
         }
+        TodoSearchIndex.SearchHits hits = searchIndex.search(query, page * size, size);
+
+        // L'index ne fournit que le classement : le contenu vient de la base, dans l'ordre des résultats.
+        // Base principale : l'index suit ses commits, une réplique en retard ferait disparaître des résultats
+        Map<UUID, TodoRow> rows = hits.ids().isEmpty() ? Map.of()
+                : DataSourceRouting.onPrimary(() -> todoRepository.findRowsByIds(hits.ids())).stream()
+                .collect(Collectors.toMap(TodoRow::id, Function.identity()));
+        List<TodoResponseDto> items = hits.ids().stream()
+                .map(rows::get)
+                .filter(Objects::nonNull)
+                .map(todoMapper::toResponseDto)
+                .toList();
+        // Supprimée entre-temps, l'index n'étant mis à jour qu'après le commit : ne compte plus dans le total
+        long removed = hits.ids().size() - items.size();
+        return TodoSearchResultDto.builder()
+                .items(items)
+                .total(hits.total() - removed)
+                .page(page)
+                .size(items.size())
+                .hasNext((long) (page + 1) * size < hits.total())
+                .build();
+    }
+
+    @Override
+    public TodoStatsDto getStats() {
+        // Compteurs en mémoire : ni transaction ni connexion
+        Map<TodoStatus, Long> parStatut = statusCounters.snapshot();
+        return TodoStatsDto.builder()
+                .total(parStatut.values().stream().mapToLong(Long::longValue).sum())
+                .parStatut(parStatut)
+                .build();
+    }
+
+    @Override
+    @Transactional
+    public TodoResponseDto update(UUID id, TodoRequestDto dto, Set<Long> expectedVersions) {
         Todo existing = findTodoById(id);
+        checkVersion(existing, expectedVersions);
         existing.setTitre(dto.getTitre());
         existing.setDescription(dto.getDescription());
-        return todoMapper.toResponseDto(todoRepository.save(existing));
+        try {
+            todoRepository.flush();
+        } catch (DataIntegrityViolationException ex) {
+            throw translateTitreViolation(dto.getTitre(), ex);
+        }
+        todoCache.invalidateAfterCommit(id);
+        return publish(TodoChangedEvent.updated(todoMapper.toResponseDto(existing)));
     }
 
     @Override
     @Transactional
-    public TodoResponseDto updateStatut(UUID id, TodoStatusDto dto) {
+    public TodoResponseDto updateStatut(UUID id, TodoStatusDto dto, Set<Long> expectedVersions) {
         Todo existing = findTodoById(id);
+        checkVersion(existing, expectedVersions);
 
         if (existing.getStatut() == dto.getStatut()) {
             throw new BadRequestException(
                     "La tâche est déjà au statut " + dto.getStatut());
         }
 
+        TodoStatus previous = existing.getStatut();
         existing.setStatut(dto.getStatut());
-        return todoMapper.toResponseDto(todoRepository.save(existing));
+        todoCache.invalidateAfterCommit(id);
+        // flush : la réponse (et son ETag) doit porter la version incrémentée
+        return publish(TodoChangedEvent.statusChanged(
+                todoMapper.toResponseDto(todoRepository.saveAndFlush(existing)), previous));
     }
 
     @Override
     @Transactional
-    public void delete(UUID id) {
+    public void delete(UUID id, Set<Long> expectedVersions) {
         Todo todo = findTodoById(id);
+        checkVersion(todo, expectedVersions);
         if (todo.getStatut() != TodoStatus.TERMINEE) {
             throw new BadRequestException("Seules les tâches terminées peuvent être supprimées");
         }
         todoRepository.delete(todo);
+        todoCache.invalidateAfterCommit(id);
+        eventPublisher.publishEvent(TodoChangedEvent.deleted(id, todo.getStatut()));
+    }
+
+    @Override
+    public List<BulkItemResultDto> createAll(List<TodoRequestDto> dtos) {
+        if (dtos.isEmpty()) {
+            return List.of();
+        }
+        return inBulkTransaction(() -> applyCreates(dtos));
+    }
+
+    private List<BulkItemResultDto> applyCreates(List<TodoRequestDto> dtos) {
+        // Une seule requête pour tout le lot ; le Set écarte aussi les doublons internes au lot
+        Set<String> takenTitres = new HashSet<>(todoRepository.findExistingTitres(
+                dtos.stream().map(TodoRequestDto::getTitre).collect(Collectors.toSet())));
+
+        List<BulkItemResultDto> results = new ArrayList<>(dtos.size());
+        List<BulkChange> applied = new ArrayList<>();
+        for (int i = 0; i < dtos.size(); i++) {
+            TodoRequestDto dto = dtos.get(i);
+            if (!takenTitres.add(dto.getTitre())) {
+                results.add(bulkResult(i, null, BulkItemResultDto.Outcome.CONFLICT,
+                        titreConflictMessage(dto.getTitre()), null));
+                continue;
+            }
+            // L'UUID est généré en mémoire par persist() : l'INSERT est différé jusqu'au flush groupé
+            Todo todo = todoRepository.save(todoMapper.toEntity(dto));
+            todoCache.invalidateAfterCommit(todo.getId());
+            results.add(null);
+            applied.add(new BulkChange(i, todo, null));
+        }
+        todoRepository.flush();
+        for (BulkChange change : applied) {
+            results.set(change.index(), bulkResult(change.index(), change.todo().getId(),
+                    BulkItemResultDto.Outcome.CREATED, null,
+                    publish(TodoChangedEvent.created(todoMapper.toResponseDto(change.todo())))));
+        }
+        return results;
+    }
+
+    @Override
+    public List<BulkItemResultDto> updateAll(List<TodoBulkUpdateDto> dtos) {
+        if (dtos.isEmpty()) {
+            return List.of();
+        }
+        return inBulkTransaction(() -> applyUpdates(dtos));
+    }
+
+    private List<BulkItemResultDto> applyUpdates(List<TodoBulkUpdateDto> dtos) {
+        Map<UUID, Todo> todos = findTodosByIds(dtos.stream().map(TodoBulkUpdateDto::getId));
+        Map<String, UUID> titreOwners = new HashMap<>();
+        todoRepository.findTodosByTitres(dtos.stream().map(TodoBulkUpdateDto::getTitre).collect(Collectors.toSet()))
+                .forEach(todo -> titreOwners.put(todo.getTitre(), todo.getId()));
+        Set<Integer> conflicts = titreConflicts(dtos, todos, titreOwners);
+
+        List<BulkItemResultDto> results = new ArrayList<>(dtos.size());
+        List<BulkChange> applied = new ArrayList<>();
+        Map<String, UUID> claimed = new HashMap<>();
+        for (int i = 0; i < dtos.size(); i++) {
+            TodoBulkUpdateDto dto = dtos.get(i);
+            Todo existing = todos.get(dto.getId());
+            if (existing == null) {
+                results.add(bulkResult(i, dto.getId(), BulkItemResultDto.Outcome.NOT_FOUND,
+                        notFoundMessage(dto.getId()), null));
+                continue;
+            }
+            if (conflicts.contains(i)) {
+                results.add(bulkResult(i, dto.getId(), BulkItemResultDto.Outcome.CONFLICT,
+                        titreConflictMessage(dto.getTitre()), null));
+                continue;
+            }
+            claimed.put(dto.getTitre(), existing.getId());
+            results.add(null);
+            applied.add(new BulkChange(i, existing, null));
+        }
+
+        // L'unicité est vérifiée ligne par ligne : un titre repris par une autre tâche du lot (échange,
+        // permutation) est d'abord libéré, au prix d'une version supplémentaire pour la tâche qui le cède
+        boolean released = false;
+        for (BulkChange change : applied) {
+            Todo todo = change.todo();
+            UUID next = claimed.get(todo.getTitre());
+            if (next != null && !next.equals(todo.getId())) {
+                todo.setTitre(releasedTitre(todo.getId()));
+                released = true;
+            }
+        }
+        if (released) {
+            todoRepository.flush();
+        }
+        for (BulkChange change : applied) {
+            TodoBulkUpdateDto dto = dtos.get(change.index());
+            change.todo().setTitre(dto.getTitre());
+            change.todo().setDescription(dto.getDescription());
+            todoCache.invalidateAfterCommit(change.todo().getId());
+        }
+        todoRepository.flush();
+        for (BulkChange change : applied) {
+            results.set(change.index(), bulkResult(change.index(), change.todo().getId(),
+                    BulkItemResultDto.Outcome.UPDATED, null,
+                    publish(TodoChangedEvent.updated(todoMapper.toResponseDto(change.todo())))));
+        }
+        return results;
+    }
+
+    @Override
+    @Transactional
+    public List<BulkItemResultDto> updateStatutAll(List<TodoBulkStatusDto> dtos) {
+        if (dtos.isEmpty()) {
+            return List.of();
+        }
+        Map<UUID, Todo> todos = findTodosByIds(dtos.stream().map(TodoBulkStatusDto::getId));
+
+        List<BulkItemResultDto> results = new ArrayList<>(dtos.size());
+        List<BulkChange> applied = new ArrayList<>();
+        for (int i = 0; i < dtos.size(); i++) {
+            TodoBulkStatusDto dto = dtos.get(i);
+            Todo existing = todos.get(dto.getId());
+            if (existing == null) {
+                results.add(bulkResult(i, dto.getId(), BulkItemResultDto.Outcome.NOT_FOUND,
+                        notFoundMessage(dto.getId()), null));
+                continue;
+            }
+            if (existing.getStatut() == dto.getStatut()) {
+                results.add(bulkResult(i, dto.getId(), BulkItemResultDto.Outcome.BAD_REQUEST,
+                        "La tâche est déjà au statut " + dto.getStatut(), null));
+                continue;
+            }
+            TodoStatus previous = existing.getStatut();
+            existing.setStatut(dto.getStatut());
+            todoCache.invalidateAfterCommit(existing.getId());
+            results.add(null);
+            applied.add(new BulkChange(i, existing, previous));
+        }
+        todoRepository.flush();
+        for (BulkChange change : applied) {
+            results.set(change.index(), bulkResult(change.index(), change.todo().getId(),
+                    BulkItemResultDto.Outcome.UPDATED, null,
+                    publish(TodoChangedEvent.statusChanged(todoMapper.toResponseDto(change.todo()), change.previous()))));
+        }
+        return results;
+    }
+
+    /**
+     * Exécute un lot dans sa propre transaction. Les titres déjà pris sont écartés avant d'écrire, mais une
+     * écriture concurrente peut en prendre un entre-temps : la contrainte d'unicité fait alors échouer le flush.
+     * La transaction est annulée et le lot rejoué ; relu, le titre fait cette fois de l'élément un {@code CONFLICT}.
+     */
+    private List<BulkItemResultDto> inBulkTransaction(Supplier<List<BulkItemResultDto>> batch) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> batch.get());
+            } catch (DataIntegrityViolationException ex) {
+                // Dans la transaction d'un appelant, déjà marquée pour annulation, rejouer ne servirait à rien
+                if (!isUniqueViolation(ex) || attempt == MAX_BULK_ATTEMPTS
+                        || TransactionSynchronizationManager.isActualTransactionActive()) {
+                    throw ex;
+                }
+                log.debug("Titre pris par une écriture concurrente, lot rejoué (tentative {})", attempt + 1);
+            }
+        }
+    }
+
+    /**
+     * Éléments dont le titre reste pris une fois le lot appliqué : par une tâche hors du lot, par une tâche
+     * du lot qui le garde, ou par un élément précédent. Écarter un élément peut laisser à sa tâche un titre
+     * qu'un autre élément visait : on recommence jusqu'à ce que plus aucun élément ne soit écarté.
+     */
+    private static Set<Integer> titreConflicts(List<TodoBulkUpdateDto> dtos, Map<UUID, Todo> todos,
+                                               Map<String, UUID> titreOwners) {
+        Set<Integer> conflicts = new HashSet<>();
+        boolean changed;
+        do {
+            Map<UUID, String> finalTitres = new HashMap<>();
+            for (int i = 0; i < dtos.size(); i++) {
+                if (todos.containsKey(dtos.get(i).getId()) && !conflicts.contains(i)) {
+                    finalTitres.put(dtos.get(i).getId(), dtos.get(i).getTitre());
+                }
+            }
+            Map<String, UUID> holders = new HashMap<>();
+            titreOwners.forEach((titre, owner) -> {
+                if (titre.equals(finalTitres.getOrDefault(owner, titre))) {
+                    holders.put(titre, owner);
+                }
+            });
+            changed = false;
+            for (int i = 0; i < dtos.size(); i++) {
+                TodoBulkUpdateDto dto = dtos.get(i);
+                if (!todos.containsKey(dto.getId()) || conflicts.contains(i)) {
+                    continue;
+                }
+                UUID holder = holders.putIfAbsent(dto.getTitre(), dto.getId());
+                if (holder != null && !holder.equals(dto.getId())) {
+                    conflicts.add(i);
+                    changed = true;
+                }
+            }
+        } while (changed);
+        return conflicts;
+    }
+
+    /**
+     * Élément du lot modifié en mémoire. Son événement n'est publié qu'après le flush groupé, pour porter
+     * la version incrémentée : celle de l'ETag renvoyé au client.
+     */
+    private record BulkChange(int index, Todo todo, TodoStatus previous) {
+    }
+
+    private TodoResponseDto publish(TodoChangedEvent event) {
+        // Outbox dans la transaction ; flux SSE, index de recherche et compteurs après le commit uniquement
+        eventPublisher.publishEvent(event);
+        return event.todo();
+    }
+
+    private Map<UUID, Todo> findTodosByIds(Stream<UUID> ids) {
+        return todoRepository.findTodosByIds(ids.collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(Todo::getId, Function.identity()));
+    }
+
+    private static BulkItemResultDto bulkResult(int index, UUID id, BulkItemResultDto.Outcome outcome,
+                                                String message, TodoResponseDto data) {
+        return BulkItemResultDto.builder()
+                .index(index)
+                .id(id)
+                .outcome(outcome)
+                .message(message)
+                .data(data)
+                .build();
+    }
+
+    private static void checkVersion(Todo todo, Set<Long> expectedVersions) {
+        // Le contrôle final reste le WHERE version = ? d'Hibernate au flush : aucun verrou pessimiste n'est pris
+        if (expectedVersions != null && !expectedVersions.contains(todo.getVersion())) {
+            throw new PreconditionFailedException(
+                    "La tâche a été modifiée entre-temps (version actuelle : " + todo.getVersion() + ")");
+        }
+    }
+
+    private static RuntimeException translateTitreViolation(String titre, DataIntegrityViolationException ex) {
+        return isUniqueViolation(ex) ? new ResourceAlreadyExistsException(titreConflictMessage(titre)) : ex;
+    }
+
+    private static boolean isUniqueViolation(DataIntegrityViolationException ex) {
+        // titre est la seule colonne unique de todos en dehors de l'identifiant généré
+        if (ex instanceof DuplicateKeyException) {
+            return true;
+        }
+        for (Throwable cause = ex.getCause(); cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation) {
+                return violation.getKind() == ConstraintViolationException.ConstraintKind.UNIQUE;
+            }
+        }
+        return false;
+    }
+
+    /** Titre provisoire, plus long que les 100 caractères admis par l'API : aucun vrai titre ne peut l'égaler. */
+    private static String releasedTitre(UUID id) {
+        return id + "~".repeat(114);
+    }
+
+    private static String titreConflictMessage(String titre) {
+        return "Une tâche avec le titre '" + titre + "' existe déjà";
+    }
+
+    private static String notFoundMessage(UUID id) {
+        return "Todo non trouvé avec l'identifiant: " + id;
+    }
+
+    private List<TodoRow> findPage(UUID after, TodoStatus statut, String prefix, Limit limit) {
+        // Première page : après le plus petit identifiant possible, qu'aucune tâche ne porte (UUID v7)
+        UUID from = after == null ? FIRST_ID : after;
+        if (prefix == null) {
+            return statut == null
+                    ? todoRepository.findPage(from, limit)
+                    : todoRepository.findPageByStatut(from, statut, limit);
+        }
+        return statut == null
+                ? todoRepository.findPageByTitrePrefix(from, prefix, limit)
+                : todoRepository.findPageByStatutAndTitrePrefix(from, statut, prefix, limit);
+    }
+
+    private static String toLikePrefix(String titrePrefix) {
+        if (titrePrefix == null || titrePrefix.isEmpty()) {
+            return null;
+        }
+        return titrePrefix.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_") + "%";
     }
 
     private Todo findTodoById(UUID id) {
@@ -0,0 +1,157 @@
+package com.TodoList.TodoList_Backend.service;
+
+import com.TodoList.TodoList_Backend.datasource.DataSourceRouting;
+import com.TodoList.TodoList_Backend.entity.enums.TodoStatus;
+import com.TodoList.TodoList_Backend.event.TodoChangeType;
+import com.TodoList.TodoList_Backend.event.TodoChangedEvent;
+import com.TodoList.TodoList_Backend.repository.TodoRepository;
+import com.TodoList.TodoList_Backend.repository.TodoStatutCount;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Nombre de tâches par statut, tenu en mémoire : la lecture ne coûte qu'une somme de {@link LongAdder}.
+ * <p>
+ * Les compteurs sont initialisés par un {@code GROUP BY} avant l'ouverture du serveur, suivent ensuite
+ * les écritures validées, puis sont périodiquement recalés sur la base. Le recalage n'est appliqué que
+ * si aucune transaction n'était en cours de validation pendant la requête : validée mais pas encore comptée,
+ * elle serait à la fois dans le {@code GROUP BY} et comptée ensuite. Sinon il est retenté au passage suivant.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "todo.storage.engine", havingValue = "jpa", matchIfMissing = true)
+public class TodoStatusCounters implements SmartInitializingSingleton {
+
+    private static final int STARTUP_ATTEMPTS = 5;
+
+    private final TodoRepository todoRepository;
+    private final Map<TodoStatus, LongAdder> counts = new EnumMap<>(TodoStatus.class);
+    // Les écritures comptées se partagent le verrou de lecture ; le recalage prend le verrou d'écriture
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    // Transactions entre BEFORE_COMMIT et la fin de leur validation : le comptage peut les voir ou non
+    private final AtomicInteger committing = new AtomicInteger();
+    private final LongAdder startedCommits = new LongAdder();
+
+    public TodoStatusCounters(TodoRepository todoRepository, MeterRegistry meterRegistry) {
+        this.todoRepository = todoRepository;
+        for (TodoStatus statut : TodoStatus.values()) {
+            LongAdder count = new LongAdder();
+            counts.put(statut, count);
+            Gauge.builder("todo.status.count", count, LongAdder::sum)
+                    .tag("statut", statut.name())
+                    .register(meterRegistry);
+        }
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        for (int attempt = 1; attempt <= STARTUP_ATTEMPTS && !reconcile(); attempt++) {
+            log.debug("Initialisation des compteurs de statut perturbée par des écritures, essai {}", attempt);
+        }
+    }
+
+    public Map<TodoStatus, Long> snapshot() {
+        Map<TodoStatus, Long> snapshot = new EnumMap<>(TodoStatus.class);
+        counts.forEach((statut, count) -> snapshot.put(statut, count.sum()));
+        return snapshot;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onTodoCommitting(TodoChangedEvent event) {
+        if (event.type() == TodoChangeType.UPDATED) {
+            return;
+        }
+        // committing d'abord : reconcile lit startedCommits puis committing, et voit donc l'un ou l'autre
+        committing.incrementAndGet();
+        startedCommits.increment();
+        // afterCompletion passe après tous les afterCommit, donc après onTodoChanged
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                committing.decrementAndGet();
+            }
+        });
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTodoChanged(TodoChangedEvent event) {
+        switch (event.type()) {
+            case CREATED -> apply(null, event.todo().getStatut());
+            case STATUS_CHANGED -> apply(event.previousStatut(), event.todo().getStatut());
+            case DELETED, ARCHIVED -> apply(event.previousStatut(), null);
+            case UPDATED -> {
+            }
+        }
+    }
+
+    @Scheduled(initialDelayString = "${todo.stats.reconcile-interval:5m}",
+            fixedDelayString = "${todo.stats.reconcile-interval:5m}")
+    public void scheduledReconcile() {
+        if (!reconcile()) {
+            log.debug("Recalage des compteurs de statut reporté : écritures pendant le comptage");
+        }
+    }
+
+    /** @return {@code false} si des écritures étaient en cours de validation pendant la requête et que rien n'a été modifié */
+    boolean reconcile() {
+        long before = startedCommits.sum();
+        if (committing.get() > 0) {
+            return false;
+        }
+        Map<TodoStatus, Long> database = new EnumMap<>(TodoStatus.class);
+        for (TodoStatus statut : TodoStatus.values()) {
+            database.put(statut, 0L);
+        }
+        // Base principale : un comptage en retard sur la réplique défairait des écritures déjà comptées
+        for (TodoStatutCount row : DataSourceRouting.onPrimary(todoRepository::countByStatut)) {
+            database.put(row.statut(), row.total());
+        }
+
+        lock.writeLock().lock();
+        try {
+            if (startedCommits.sum() != before) {
+                return false;
+            }
+            database.forEach((statut, total) -> {
+                LongAdder count = counts.get(statut);
+                long drift = total - count.sum();
+                if (drift != 0) {
+                    log.info("Compteur {} recalé sur la base : écart de {}", statut, drift);
+                    count.add(drift);
+                }
+            });
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void apply(TodoStatus removed, TodoStatus added) {
+        lock.readLock().lock();
+        try {
+            if (removed != null) {
+                counts.get(removed).decrement();
+            }
+            if (added != null) {
+                counts.get(added).increment();
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.TodoList.TodoList_Backend.storage;
+
+import com.TodoList.TodoList_Backend.entity.enums.TodoStatus;
+
+import java.text.Normalizer;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Tâches tenues en mémoire : table par identifiant, index unique des titres, identifiants triés
+ * par statut pour la pagination, compteurs par statut.
+ * <p>
+ * Les lectures ne prennent aucun verrou. Les écritures sont sérialisées par un verrou qui ne couvre que
+ * des opérations en mémoire : la persistance est confiée à {@link TodoWriteBehind}, hors de ce verrou.
+ * Un index peut avoir un temps d'avance sur la table pendant une écriture ; les lecteurs revérifient donc
+ * le statut de chaque tâche qu'ils en tirent.
+ */
+public class InMemoryTodoStore {
+
+    /** Ordre de {@code ORDER BY id} sur la colonne BINARY(16) : octets non signés, poids fort d'abord. */
+    public static final Comparator<UUID> ID_ORDER = Comparator
+            .comparing(UUID::getMostSignificantBits, Long::compareUnsigned)
+            .thenComparing(UUID::getLeastSignificantBits, Long::compareUnsigned);
+
+    private final ConcurrentMap<UUID, TodoRecord> todos = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListSet<UUID> ids = new ConcurrentSkipListSet<>(ID_ORDER);
+    private final Map<TodoStatus, ConcurrentSkipListSet<UUID>> idsByStatut = new EnumMap<>(TodoStatus.class);
+    private final Map<TodoStatus, AtomicLong> countByStatut = new EnumMap<>(TodoStatus.class);
+    /** Titre replié (casse, accents) vers identifiant : l'unicité telle que la voit la collation MySQL. */
+    private final ConcurrentMap<String, UUID> titres = new ConcurrentHashMap<>();
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final TodoWriteBehind writeBehind;
+
+    public InMemoryTodoStore(Collection<TodoRecord> initial, TodoWriteBehind writeBehind) {
+        this.writeBehind = writeBehind;
+        for (TodoStatus statut : TodoStatus.values()) {
+            idsByStatut.put(statut, new ConcurrentSkipListSet<>(ID_ORDER));
+            countByStatut.put(statut, new AtomicLong());
+        }
+        initial.forEach(this::index);
+    }
+
+    public TodoRecord get(UUID id) {
+        return todos.get(id);
+    }
+
+    /** @return la tâche qui porte déjà ce titre (à la casse et aux accents près), ou {@code null} */
+    public UUID titreOwner(String titre) {
+        return titres.get(titreKey(titre));
+    }
+
+    /** Tâches d'identifiant strictement supérieur à {@code after} (toutes si {@code null}), dans l'ordre des id. */
+    public Stream<TodoRecord> scan(UUID after, TodoStatus statut) {
+        ConcurrentSkipListSet<UUID> source = statut == null ? ids : idsByStatut.get(statut);
+        return (after == null ? source : source.tailSet(after, false)).stream()
+                .map(todos::get)
+                .filter(Objects::nonNull)
+                .filter(todo -> statut == null || todo.statut() == statut);
+    }
+
+    public Map<TodoStatus, Long> countByStatut() {
+        Map<TodoStatus, Long> counts = new EnumMap<>(TodoStatus.class);
+        countByStatut.forEach((statut, count) -> counts.put(statut, count.get()));
+        return counts;
+    }
+
+    public int size() {
+        return todos.size();
+    }
+
+    /**
+     * Exécute une écriture composée (vérifications puis {@link #put}/{@link #remove}) de façon atomique
+     * vis-à-vis des autres écritures. Attend d'abord de la place dans la file de persistance.
+     */
+    public <T> T write(Supplier<T> operation) {
+        writeBehind.awaitCapacity();
+        writeLock.lock();
+        try {
+            return operation.get();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /** Crée ({@code previous == null}) ou remplace une tâche ; titre déjà vérifié par l'appelant. */
+    public void put(TodoRecord previous, TodoRecord next) {
+        requireWriteLock();
+        String key = titreKey(next.titre());
+        titres.put(key, next.id());
+        todos.put(next.id(), next);
+        if (previous == null) {
+            ids.add(next.id());
+            idsByStatut.get(next.statut()).add(next.id());
+            countByStatut.get(next.statut()).incrementAndGet();
+        } else {
+            String previousKey = titreKey(previous.titre());
+            if (!previousKey.equals(key)) {
+                titres.remove(previousKey, previous.id());
+            }
+            if (previous.statut() != next.statut()) {
+                // Ajout avant retrait : un parcours concurrent voit la tâche en double (écartée par son statut), jamais absente
+                idsByStatut.get(next.statut()).add(next.id());
+                idsByStatut.get(previous.statut()).remove(previous.id());
+                countByStatut.get(next.statut()).incrementAndGet();
+                countByStatut.get(previous.statut()).decrementAndGet();
+            }
+        }
+        writeBehind.enqueue(next.id(), next);
+    }
+
+    public void remove(TodoRecord existing) {
+        requireWriteLock();
+        todos.remove(existing.id());
+        ids.remove(existing.id());
+        idsByStatut.get(existing.statut()).remove(existing.id());
+        countByStatut.get(existing.statut()).decrementAndGet();
+        titres.remove(titreKey(existing.titre()), existing.id());
+        writeBehind.enqueue(existing.id(), null);
+    }
+
+    private void index(TodoRecord todo) {
+        todos.put(todo.id(), todo);
+        ids.add(todo.id());
+        idsByStatut.get(todo.statut()).add(todo.id());
+        countByStatut.get(todo.statut()).incrementAndGet();
+        titres.put(titreKey(todo.titre()), todo.id());
+    }
+
+    private void requireWriteLock() {
+        if (!writeLock.isHeldByCurrentThread()) {
+            throw new IllegalStateException("Écriture hors de InMemoryTodoStore.write");
+        }
+    }
+
+    static String titreKey(String titre) {
+        String decomposed = Normalizer.normalize(titre.toLowerCase(Locale.ROOT), Normalizer.Form.NFD);
+        StringBuilder key = new StringBuilder(decomposed.length());
+        for (int i = 0; i < decomposed.length(); i++) {
+            char c = decomposed.charAt(i);
+            if (Character.getType(c) != Character.NON_SPACING_MARK) {
+                key.append(c);
+            }
+        }
+        return key.toString();
+    }
+}
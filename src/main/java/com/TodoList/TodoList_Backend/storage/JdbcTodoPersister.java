@@ -0,0 +1,138 @@
+package com.TodoList.TodoList_Backend.storage;
+
+import com.TodoList.TodoList_Backend.entity.enums.TodoStatus;
+import com.TodoList.TodoList_Backend.storage.TodoPersister.Change;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.ByteBuffer;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Persiste le moteur en mémoire dans la table {@code todos}, celle du moteur JPA.
+ * <p>
+ * Chaque lot est une transaction : suppressions, UPDATE des tâches déjà présentes, INSERT des autres,
+ * par lots JDBC de {@code batch-size}. Pas d'{@code INSERT ... ON DUPLICATE KEY UPDATE} : sur un conflit
+ * de titre, MySQL mettrait à jour l'autre ligne au lieu d'échouer.
+ * Si deux tâches du lot ont échangé leurs titres, l'ordre des UPDATE viole l'unicité ; le lot est alors
+ * rejoué en libérant d'abord les titres concernés. Un second refus tient au contenu du lot (titres distincts
+ * en mémoire mais égaux pour la collation de la base, par exemple) : il est signalé par {@link RejectedBatchException}.
+ */
+@Slf4j
+public class JdbcTodoPersister implements TodoPersister {
+
+    private static final String UPDATE = "UPDATE todos SET titre = ?, description = ?, statut = ?, version = ? "
+            + "WHERE id = ?";
+    private static final String INSERT = "INSERT INTO todos (id, titre, description, statut, version, created_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public JdbcTodoPersister(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate, int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public List<TodoRecord> loadAll() {
+        return jdbcTemplate.query("SELECT id, titre, description, statut, version, created_at FROM todos",
+                (rs, i) -> new TodoRecord(toUuid(rs.getBytes("id")), rs.getString("titre"),
+                        rs.getString("description"), TodoStatus.valueOf(rs.getString("statut")),
+                        rs.getLong("version"), rs.getTimestamp("created_at").toInstant()));
+    }
+
+    @Override
+    public void persist(List<Change> changes) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> apply(changes, false));
+        } catch (DataIntegrityViolationException e) {
+            log.debug("Conflit de titre dans le lot, nouvel essai en libérant les titres : {}", e.getMessage());
+            try {
+                transactionTemplate.executeWithoutResult(status -> apply(changes, true));
+            } catch (DataIntegrityViolationException again) {
+                throw new RejectedBatchException("Lot de " + changes.size() + " tâche(s) refusé par la base", again);
+            }
+        }
+    }
+
+    private void apply(List<Change> changes, boolean releaseTitres) {
+        List<UUID> deletes = new ArrayList<>();
+        List<TodoRecord> upserts = new ArrayList<>();
+        for (Change change : changes) {
+            if (change.isDelete()) {
+                deletes.add(change.id());
+            } else {
+                upserts.add(change.todo());
+            }
+        }
+        jdbcTemplate.batchUpdate("DELETE FROM todos WHERE id = ?", deletes, batchSize,
+                (ps, id) -> ps.setBytes(1, toBytes(id)));
+        if (upserts.isEmpty()) {
+            return;
+        }
+
+        Set<UUID> existing = existingIds(upserts);
+        if (releaseTitres) {
+            // Titre provisoire unique par tâche : les UPDATE suivants ne croisent plus aucun ancien titre du lot
+            jdbcTemplate.batchUpdate("UPDATE todos SET titre = ? WHERE id = ?",
+                    upserts.stream().filter(todo -> existing.contains(todo.id())).toList(), batchSize,
+                    (ps, todo) -> {
+                        ps.setString(1, "\u0001" + todo.id());
+                        ps.setBytes(2, toBytes(todo.id()));
+                    });
+        }
+        jdbcTemplate.batchUpdate(UPDATE, upserts.stream().filter(todo -> existing.contains(todo.id())).toList(),
+                batchSize, (ps, todo) -> {
+                    ps.setString(1, todo.titre());
+                    ps.setString(2, todo.description());
+                    ps.setString(3, todo.statut().name());
+                    ps.setLong(4, todo.version());
+                    ps.setBytes(5, toBytes(todo.id()));
+                });
+        jdbcTemplate.batchUpdate(INSERT, upserts.stream().filter(todo -> !existing.contains(todo.id())).toList(),
+                batchSize, (ps, todo) -> {
+                    ps.setBytes(1, toBytes(todo.id()));
+                    ps.setString(2, todo.titre());
+                    ps.setString(3, todo.description());
+                    ps.setString(4, todo.statut().name());
+                    ps.setLong(5, todo.version());
+                    ps.setTimestamp(6, Timestamp.from(todo.createdAt()));
+                });
+    }
+
+    private Set<UUID> existingIds(List<TodoRecord> upserts) {
+        Set<UUID> existing = new HashSet<>();
+        for (int from = 0; from < upserts.size(); from += batchSize) {
+            List<TodoRecord> chunk = upserts.subList(from, Math.min(from + batchSize, upserts.size()));
+            jdbcTemplate.query("SELECT id FROM todos WHERE id IN ("
+                            + String.join(", ", Collections.nCopies(chunk.size(), "?")) + ")",
+                    (RowCallbackHandler) rs -> existing.add(toUuid(rs.getBytes(1))),
+                    chunk.stream().map(todo -> toBytes(todo.id())).toArray());
+        }
+        return existing;
+    }
+
+    private static byte[] toBytes(UUID id) {
+        return ByteBuffer.allocate(16)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits())
+                .array();
+    }
+
+    private static UUID toUuid(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+}
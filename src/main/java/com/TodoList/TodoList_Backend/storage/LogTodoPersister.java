@@ -0,0 +1,150 @@
+package com.TodoList.TodoList_Backend.storage;
+
+import com.TodoList.TodoList_Backend.entity.enums.TodoStatus;
+import com.TodoList.TodoList_Backend.storage.TodoPersister.Change;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.extern.slf4j.Slf4j;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Journal local en ajout seul ({@code todo.storage.write-behind.log-file}), une ligne NDJSON par modification :
+ * {@code PUT} avec l'état complet de la tâche, ou {@code DEL}. Chaque lot est forcé sur disque avant d'être
+ * considéré comme persisté.
+ * <p>
+ * Au démarrage, le journal est rejoué (la dernière ligne d'une tâche l'emporte) puis réécrit avec les seules
+ * tâches vivantes ; une dernière ligne tronquée par un arrêt brutal est ignorée.
+ */
+@Slf4j
+public class LogTodoPersister implements TodoPersister, AutoCloseable {
+
+    private static final String PUT = "PUT";
+    private static final String DEL = "DEL";
+
+    private final Path file;
+    private final JsonMapper jsonMapper;
+    private FileChannel channel;
+
+    public LogTodoPersister(Path file, JsonMapper jsonMapper) {
+        this.file = file;
+        this.jsonMapper = jsonMapper;
+    }
+
+    @Override
+    public synchronized List<TodoRecord> loadAll() throws IOException {
+        Map<UUID, TodoRecord> todos = new LinkedHashMap<>();
+        if (Files.exists(file)) {
+            replay(todos);
+        }
+        compact(todos.values());
+        channel = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        return new ArrayList<>(todos.values());
+    }
+
+    @Override
+    public synchronized void persist(List<Change> changes) throws IOException {
+        if (channel == null) {
+            throw new IllegalStateException("Journal non ouvert : loadAll() doit être appelé au démarrage");
+        }
+        ByteArrayOutputStream lines = new ByteArrayOutputStream(changes.size() * 128);
+        for (Change change : changes) {
+            jsonMapper.writeValue(lines, change.isDelete()
+                    ? new Entry(DEL, change.id(), null, null, null, null, null)
+                    : Entry.put(change.todo()));
+            lines.write('\n');
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(lines.toByteArray());
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        channel.force(false);
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (channel != null) {
+            channel.close();
+        }
+    }
+
+    private void replay(Map<UUID, TodoRecord> todos) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            int lineNumber = 0;
+            String line = reader.readLine();
+            while (line != null) {
+                lineNumber++;
+                String next = reader.readLine();
+                if (!line.isBlank()) {
+                    Entry entry;
+                    try {
+                        entry = jsonMapper.readValue(line, Entry.class);
+                    } catch (JacksonException e) {
+                        if (next != null) {
+                            throw new IOException("Ligne " + lineNumber + " illisible dans " + file, e);
+                        }
+                        log.warn("Dernière ligne du journal {} tronquée, ignorée", file);
+                        break;
+                    }
+                    if (DEL.equals(entry.op())) {
+                        todos.remove(entry.id());
+                    } else {
+                        todos.put(entry.id(), entry.toRecord());
+                    }
+                }
+                line = next;
+            }
+            log.info("Journal {} rejoué : {} ligne(s), {} tâche(s)", file, lineNumber, todos.size());
+        }
+    }
+
+    private void compact(Iterable<TodoRecord> todos) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path compacted = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+        try (FileChannel out = FileChannel.open(compacted, StandardOpenOption.WRITE)) {
+            ByteArrayOutputStream lines = new ByteArrayOutputStream();
+            for (TodoRecord todo : todos) {
+                jsonMapper.writeValue(lines, Entry.put(todo));
+                lines.write('\n');
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(lines.toByteArray());
+            while (buffer.hasRemaining()) {
+                out.write(buffer);
+            }
+            out.force(false);
+        }
+        // Remplacement atomique : un arrêt pendant la compaction laisse l'ancien journal intact
+        Files.move(compacted, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record Entry(String op, UUID id, String titre, String description, TodoStatus statut, Long version,
+                 Instant createdAt) {
+
+        static Entry put(TodoRecord todo) {
+            return new Entry(PUT, todo.id(), todo.titre(), todo.description(), todo.statut(), todo.version(),
+                    todo.createdAt());
+        }
+
+        TodoRecord toRecord() {
+            return new TodoRecord(id, titre, description, statut, version, createdAt);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.TodoList.TodoList_Backend.storage;
+
+/**
+ * La cible refuse le contenu du lot lui-même (contrainte violée), et non par indisponibilité :
+ * le représenter tel quel échouerait encore. {@link TodoWriteBehind} isole alors les changements en cause.
+ */
+public class RejectedBatchException extends RuntimeException {
+
+    public RejectedBatchException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
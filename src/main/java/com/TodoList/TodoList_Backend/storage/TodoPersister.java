@@ -0,0 +1,30 @@
+package com.TodoList.TodoList_Backend.storage;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Cible durable du moteur en mémoire : relue entière au démarrage, puis alimentée par lots
+ * par {@link TodoWriteBehind}.
+ */
+public interface TodoPersister {
+
+    List<TodoRecord> loadAll() throws IOException;
+
+    /**
+     * Applique un lot d'un seul tenant : en cas d'exception, rien n'est considéré comme persisté
+     * et le lot entier est représenté au flush suivant.
+     *
+     * @throws RejectedBatchException si le contenu du lot est refusé, quel que soit le nombre d'essais
+     */
+    void persist(List<Change> changes) throws IOException;
+
+    /** Dernier état connu d'une tâche ; {@code todo} vaut {@code null} pour une suppression. */
+    record Change(UUID id, TodoRecord todo) {
+
+        public boolean isDelete() {
+            return todo == null;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.TodoList.TodoList_Backend.storage;
+
+import com.TodoList.TodoList_Backend.entity.enums.TodoStatus;
+import com.TodoList.TodoList_Backend.repository.TodoRow;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * État immuable d'une tâche dans {@link InMemoryTodoStore} : chaque écriture remplace l'instance,
+ * un lecteur ne voit donc jamais une tâche à moitié modifiée.
+ */
+public record TodoRecord(UUID id, String titre, String description, TodoStatus statut, long version,
+                         Instant createdAt) {
+
+    public TodoRecord withContent(String titre, String description) {
+        return new TodoRecord(id, titre, description, statut, version + 1, createdAt);
+    }
+
+    public TodoRecord withStatut(TodoStatus statut) {
+        return new TodoRecord(id, titre, description, statut, version + 1, createdAt);
+    }
+
+    public TodoRow toRow() {
+        return new TodoRow(id, titre, description, statut, version);
+    }
+}
@@ -0,0 +1,276 @@
+package com.TodoList.TodoList_Backend.storage;
+
+import com.TodoList.TodoList_Backend.config.TodoStorageProperties;
+import com.TodoList.TodoList_Backend.exception.ServiceUnavailableException;
+import com.TodoList.TodoList_Backend.storage.TodoPersister.Change;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * File d'écriture différée du moteur en mémoire : les écritures ne font que noter le dernier état
+ * de la tâche modifiée, un thread dédié le persiste par lots toutes les {@code flush-interval}.
+ * <p>
+ * Plusieurs écritures sur une même tâche entre deux flushs n'en font qu'une. Le retard est borné par
+ * {@code max-pending} : au-delà, les écritures attendent le flush (puis 503 après {@code max-wait}),
+ * ce qui évite de perdre plus que ce volume si le processus est tué. À l'arrêt, tout ce qui reste est persisté
+ * après la fermeture du serveur web et avant celle de la base.
+ * <p>
+ * Un lot dont la cible refuse le contenu ({@link RejectedBatchException}) est coupé en deux jusqu'à isoler
+ * les changements refusés : le reste est persisté, les refusés sont journalisés en erreur, comptés
+ * ({@code todo.storage.write_behind.dead_letters}) et retirés de la file, qu'ils bloqueraient sinon indéfiniment.
+ */
+@Slf4j
+public class TodoWriteBehind implements SmartLifecycle {
+
+    private static final int SHUTDOWN_ATTEMPTS = 3;
+    /** Refus isolés au-delà desquels on ne cherche plus lequel empêche les autres de passer. */
+    private static final int LEAVE_ONE_OUT_LIMIT = 32;
+
+    private final TodoPersister persister;
+    private final long flushIntervalNanos;
+    private final int batchSize;
+    private final int maxPending;
+    private final long maxWaitNanos;
+    private final ConcurrentMap<UUID, Change> pending = new ConcurrentHashMap<>();
+    /** Date (nanoTime) de la plus ancienne modification non persistée, 0 si aucune. */
+    private final AtomicLong oldestPending = new AtomicLong();
+    // ReentrantLock plutôt que synchronized : une écriture en attente ne bloque pas son thread porteur (threads virtuels)
+    private final ReentrantLock capacityLock = new ReentrantLock();
+    private final Condition capacityAvailable = capacityLock.newCondition();
+    private final Timer flushTimer;
+    private final Counter failures;
+    private final Counter deadLetters;
+
+    private volatile Thread flusher;
+    private volatile boolean running;
+
+    public TodoWriteBehind(TodoPersister persister, TodoStorageProperties.WriteBehind properties,
+                           MeterRegistry meterRegistry) {
+        this.persister = persister;
+        this.flushIntervalNanos = properties.getFlushInterval().toNanos();
+        this.batchSize = properties.getBatchSize();
+        this.maxPending = properties.getMaxPending();
+        this.maxWaitNanos = properties.getMaxWait().toNanos();
+        this.flushTimer = Timer.builder("todo.storage.write_behind.flush")
+                .description("Durée d'un flush de la file d'écriture différée")
+                .register(meterRegistry);
+        this.failures = Counter.builder("todo.storage.write_behind.failures")
+                .description("Flushs échoués, représentés au passage suivant")
+                .register(meterRegistry);
+        this.deadLetters = Counter.builder("todo.storage.write_behind.dead_letters")
+                .description("Changements refusés par la cible et retirés de la file")
+                .register(meterRegistry);
+        Gauge.builder("todo.storage.write_behind.pending", pending, ConcurrentMap::size)
+                .description("Tâches modifiées en attente de persistance")
+                .register(meterRegistry);
+        Gauge.builder("todo.storage.write_behind.lag", this, w -> w.lag().toMillis() / 1000.0)
+                .description("Âge de la plus ancienne modification non persistée")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Attend qu'il reste de la place dans la file ; appelé avant de prendre le verrou d'écriture du store,
+     * pour que les lecteurs et les autres écritures ne restent jamais bloqués derrière une persistance lente.
+     */
+    public void awaitCapacity() {
+        if (pending.size() < maxPending) {
+            return;
+        }
+        LockSupport.unpark(flusher);
+        capacityLock.lock();
+        try {
+            long remaining = maxWaitNanos;
+            while (pending.size() >= maxPending) {
+                if (remaining <= 0) {
+                    throw new ServiceUnavailableException(
+                            "Écritures en attente de persistance, réessayez dans un instant");
+                }
+                remaining = capacityAvailable.awaitNanos(remaining);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException("Interrompu en attendant la persistance des écritures");
+        } finally {
+            capacityLock.unlock();
+        }
+    }
+
+    /** Note le nouvel état d'une tâche ({@code todo == null} : supprimée) ; ne fait aucune entrée-sortie. */
+    public void enqueue(UUID id, TodoRecord todo) {
+        pending.put(id, new Change(id, todo));
+        oldestPending.compareAndSet(0, System.nanoTime());
+        if (pending.size() >= batchSize) {
+            LockSupport.unpark(flusher);
+        }
+    }
+
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    public Duration lag() {
+        long since = oldestPending.get();
+        return since == 0 ? Duration.ZERO : Duration.ofNanos(System.nanoTime() - since);
+    }
+
+    /**
+     * Persiste tout ce qui est en attente.
+     *
+     * @return {@code false} si la cible a refusé le lot, laissé en file pour le passage suivant
+     */
+    public synchronized boolean flush() {
+        if (pending.isEmpty()) {
+            return true;
+        }
+        // Instantané faiblement cohérent : une écriture qui le croise reste en file et part au flush suivant.
+        // Tout part dans le même lot, pour qu'un titre libéré par une tâche et repris par une autre le soit ensemble
+        List<Change> batch = new ArrayList<>(pending.values());
+        List<Change> rejected;
+        long start = System.nanoTime();
+        try {
+            rejected = persistIsolatingRejects(batch);
+        } catch (Exception e) {
+            failures.increment();
+            log.warn("Échec de la persistance de {} tâche(s), nouvel essai dans {} ms : {}",
+                    batch.size(), TimeUnit.NANOSECONDS.toMillis(flushIntervalNanos), e.getMessage());
+            return false;
+        } finally {
+            flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+        rejected.forEach(this::deadLetter);
+        // Retirée seulement si elle n'a pas été remplacée par une écriture plus récente pendant le flush
+        batch.forEach(change -> pending.remove(change.id(), change));
+        oldestPending.set(pending.isEmpty() ? 0 : start);
+        capacityLock.lock();
+        try {
+            capacityAvailable.signalAll();
+        } finally {
+            capacityLock.unlock();
+        }
+        return true;
+    }
+
+    /**
+     * Persiste le lot ; s'il est refusé, persiste tout ce qui peut l'être et renvoie les changements en cause.
+     * Une erreur autre qu'un refus (cible indisponible) remonte : le lot reste alors en file, et les parties déjà
+     * écrites seront réécrites à l'identique au passage suivant.
+     */
+    private List<Change> persistIsolatingRejects(List<Change> batch) throws IOException {
+        try {
+            persister.persist(batch);
+            return List.of();
+        } catch (RejectedBatchException e) {
+            log.warn("Lot de {} tâche(s) refusé par la cible, recherche des changements en cause : {}",
+                    batch.size(), e.getMessage());
+        }
+        List<Change> refused = new ArrayList<>();
+        bisect(batch, refused);
+        if (refused.size() <= 1) {
+            return refused;
+        }
+        // Deux tâches qui échangent leurs titres, séparées par la bissection, sont refusées chacune seule
+        if (tryPersist(refused)) {
+            return List.of();
+        }
+        if (refused.size() <= LEAVE_ONE_OUT_LIMIT) {
+            for (Change suspect : refused) {
+                List<Change> others = new ArrayList<>(refused);
+                others.remove(suspect);
+                if (tryPersist(others)) {
+                    return List.of(suspect);
+                }
+            }
+        }
+        return refused;
+    }
+
+    /** {@code changes} vient d'être refusé : chaque moitié est retentée, et redécoupée si elle l'est aussi. */
+    private void bisect(List<Change> changes, List<Change> refused) throws IOException {
+        if (changes.size() == 1) {
+            refused.add(changes.get(0));
+            return;
+        }
+        int middle = changes.size() / 2;
+        for (List<Change> half : List.of(changes.subList(0, middle), changes.subList(middle, changes.size()))) {
+            if (!tryPersist(half)) {
+                bisect(half, refused);
+            }
+        }
+    }
+
+    private boolean tryPersist(List<Change> changes) throws IOException {
+        try {
+            persister.persist(changes);
+            return true;
+        } catch (RejectedBatchException e) {
+            return false;
+        }
+    }
+
+    private void deadLetter(Change change) {
+        deadLetters.increment();
+        // La mémoire garde cet état : la base ne le recevra qu'avec une prochaine écriture acceptée sur la tâche
+        log.error("Changement refusé par la cible, retiré de la file d'écriture différée : {}",
+                change.isDelete() ? "suppression de " + change.id() : change.todo());
+    }
+
+    private void run() {
+        while (running) {
+            LockSupport.parkNanos(this, flushIntervalNanos);
+            flush();
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        flusher = Thread.ofPlatform().name("todo-write-behind").daemon().start(this::run);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        Thread thread = flusher;
+        LockSupport.unpark(thread);
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        for (int attempt = 1; attempt <= SHUTDOWN_ATTEMPTS && !flush(); attempt++) {
+            LockSupport.parkNanos(flushIntervalNanos);
+        }
+        if (!pending.isEmpty()) {
+            log.error("{} tâche(s) modifiée(s) non persistée(s) à l'arrêt", pending.size());
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        // Arrêté après le serveur web (DEFAULT_PHASE - 2048) : plus aucune écriture n'arrive pendant le dernier flush
+        return DEFAULT_PHASE - 4096;
+    }
+}
@@ -0,0 +1,30 @@
+package com.TodoList.TodoList_Backend.throttling;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Identifie le client d'une requête, pour la limitation de débit comme pour le rejeu {@code Idempotency-Key} :
+ * l'adresse IP de la connexion, ou l'en-tête {@code client-id-header} s'il est configuré.
+ * <p>
+ * Cet en-tête ne doit être configuré que s'il est posé (et écrasé) par une passerelle de confiance : un client
+ * qui le choisit lui-même pourrait en changer à chaque requête, ou emprunter l'identité d'un autre.
+ */
+public class ClientIdResolver {
+
+    private static final int MAX_CLIENT_ID_LENGTH = 64;
+
+    private final String header;
+
+    public ClientIdResolver(String header) {
+        this.header = header == null || header.isBlank() ? null : header;
+    }
+
+    public String resolve(HttpServletRequest request) {
+        String value = header == null ? null : request.getHeader(header);
+        if (value != null && !value.isBlank()) {
+            String id = value.strip();
+            return "id:" + (id.length() > MAX_CLIENT_ID_LENGTH ? id.substring(0, MAX_CLIENT_ID_LENGTH) : id);
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+}
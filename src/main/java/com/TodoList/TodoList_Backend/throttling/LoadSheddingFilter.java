@@ -0,0 +1,104 @@
+package com.TodoList.TodoList_Backend.throttling;
+
+import com.TodoList.TodoList_Backend.config.TodoThrottlingProperties;
+import com.TodoList.TodoList_Backend.response.ErrorResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Borne le nombre de requêtes {@code /api/todos/**} en cours de traitement. Au-delà, la requête est refusée
+ * immédiatement en 503 plutôt que d'attendre une connexion du pool et de ralentir toutes les autres.
+ * <p>
+ * Une réponse asynchrone (liste ou export en flux) reste comptée jusqu'à sa fin ; le flux SSE
+ * {@code /api/todos/events}, ouvert pour des heures sans tenir de connexion, ne l'est pas.
+ */
+public class LoadSheddingFilter extends OncePerRequestFilter {
+
+    static final String EVENTS_PATH = "/api/todos/events";
+
+    private final int maxConcurrent;
+    private final long retryAfterSeconds;
+    private final JsonMapper jsonMapper;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Counter rejected;
+
+    public LoadSheddingFilter(TodoThrottlingProperties.LoadShedding properties, JsonMapper jsonMapper,
+                              MeterRegistry meterRegistry) {
+        this.maxConcurrent = properties.getMaxConcurrent();
+        this.retryAfterSeconds = properties.getRetryAfter().toSeconds();
+        this.jsonMapper = jsonMapper;
+        this.rejected = Counter.builder("todo.throttling.rejected")
+                .description("Requêtes refusées avant traitement")
+                .tag("reason", "overload")
+                .register(meterRegistry);
+        Gauge.builder("todo.throttling.in.flight", inFlight, AtomicInteger::get)
+                .description("Requêtes en cours de traitement")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return EVENTS_PATH.equals(request.getRequestURI());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (inFlight.incrementAndGet() > maxConcurrent) {
+            inFlight.decrementAndGet();
+            rejected.increment();
+            Rejections.write(response, jsonMapper,
+                    ErrorResponse.serviceUnavailable("Service surchargé, réessayez dans un instant"), retryAfterSeconds);
+            return;
+        }
+        boolean async = false;
+        try {
+            chain.doFilter(request, response);
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new ReleaseOnComplete());
+                async = true;
+            }
+        } finally {
+            if (!async) {
+                inFlight.decrementAndGet();
+            }
+        }
+    }
+
+    int inFlight() {
+        return inFlight.get();
+    }
+
+    /** {@code onComplete} est toujours appelé, y compris après une erreur ou un dépassement de délai. */
+    private final class ReleaseOnComplete implements AsyncListener {
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            inFlight.decrementAndGet();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+}
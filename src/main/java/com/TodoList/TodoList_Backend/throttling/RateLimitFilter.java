@@ -0,0 +1,72 @@
+package com.TodoList.TodoList_Backend.throttling;
+
+import com.TodoList.TodoList_Backend.config.TodoThrottlingProperties;
+import com.TodoList.TodoList_Backend.response.ErrorResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limite le débit de chaque client sur {@code /api/todos/**}. Chaque requête coûte un nombre de jetons
+ * fonction de l'endpoint : une liste complète coûte bien plus qu'une lecture par identifiant.
+ * Au-delà, la requête est refusée en 429 avec {@code Retry-After}, avant tout accès à la base.
+ * <p>
+ * Le client est identifié par {@link ClientIdResolver} : l'adresse IP, sauf en-tête de passerelle configuré.
+ * Un en-tête choisi par le client lui donnerait un seau neuf à chaque requête, et remplirait la table des seaux
+ * au détriment des autres clients.
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final TokenBucketRateLimiter limiter;
+    private final Map<String, Integer> costs;
+    private final ClientIdResolver clientIds;
+    private final JsonMapper jsonMapper;
+    private final Counter rejected;
+
+    public RateLimitFilter(TodoThrottlingProperties.RateLimit properties, JsonMapper jsonMapper, MeterRegistry meterRegistry) {
+        this.limiter = new TokenBucketRateLimiter(
+                properties.getCapacity(), properties.getRefillPerSecond(), properties.getMaxClients());
+        this.costs = Map.copyOf(properties.getCosts());
+        this.clientIds = new ClientIdResolver(properties.getClientIdHeader());
+        this.jsonMapper = jsonMapper;
+        this.rejected = Counter.builder("todo.throttling.rejected")
+                .description("Requêtes refusées avant traitement")
+                .tag("reason", "rate-limit")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        int cost = costs.getOrDefault(request.getMethod() + " " + normalizedPath(request), 1);
+        long waitNanos = limiter.tryAcquire(clientIds.resolve(request), cost);
+        if (waitNanos == 0) {
+            chain.doFilter(request, response);
+            return;
+        }
+        rejected.increment();
+        long retryAfter = TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1);
+        Rejections.write(response, jsonMapper,
+                ErrorResponse.tooManyRequests("Trop de requêtes, réessayez dans " + Math.max(1, retryAfter) + " s"),
+                retryAfter);
+    }
+
+    /** {@code /api/todos/} et {@code /api/todos} coûtent autant. */
+    private static String normalizedPath(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        int end = path.length();
+        while (end > 1 && path.charAt(end - 1) == '/') {
+            end--;
+        }
+        return path.substring(0, end);
+    }
+}
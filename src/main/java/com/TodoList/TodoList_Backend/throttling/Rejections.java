@@ -0,0 +1,25 @@
+package com.TodoList.TodoList_Backend.throttling;
+
+import com.TodoList.TodoList_Backend.response.ErrorResponse;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+
+/** Réponse de refus écrite par les filtres, au même format que {@code GlobalExceptionHandler}. */
+final class Rejections {
+
+    private Rejections() {
+    }
+
+    static void write(HttpServletResponse response, JsonMapper jsonMapper, ErrorResponse body, long retryAfterSeconds)
+            throws IOException {
+        response.setStatus(body.getStatus());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(Math.max(1, retryAfterSeconds)));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        jsonMapper.writeValue(response.getOutputStream(), body);
+    }
+}
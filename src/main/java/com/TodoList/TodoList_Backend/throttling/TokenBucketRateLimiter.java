@@ -0,0 +1,72 @@
+package com.TodoList.TodoList_Backend.throttling;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Seau à jetons par client, sans verrou.
+ * <p>
+ * L'état d'un seau tient dans un seul {@code long} : l'instant théorique où il serait de nouveau plein
+ * (algorithme GCRA). Prendre {@code n} jetons repousse cet instant de {@code n} intervalles de recharge ;
+ * la demande est refusée si l'instant dépasse maintenant de plus que la capacité. Une acquisition coûte
+ * donc une lecture de la table et un compare-and-set, et le refus indique exactement quand réessayer.
+ * <p>
+ * Un seau inutilisé pendant le temps d'une recharge complète est de nouveau plein : il peut être oublié
+ * sans changer le résultat, ce qui borne la table par l'expiration plutôt que par un nettoyage.
+ */
+public class TokenBucketRateLimiter {
+
+    private final int capacity;
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final LongSupplier clock;
+    private final Cache<String, AtomicLong> buckets;
+
+    public TokenBucketRateLimiter(int capacity, double refillPerSecond, int maxClients) {
+        this(capacity, refillPerSecond, maxClients, System::nanoTime);
+    }
+
+    TokenBucketRateLimiter(int capacity, double refillPerSecond, int maxClients, LongSupplier clock) {
+        if (capacity < 1 || refillPerSecond <= 0) {
+            throw new IllegalArgumentException("La capacité et le débit de recharge doivent être positifs");
+        }
+        this.capacity = capacity;
+        this.intervalNanos = Math.max(1, (long) (1_000_000_000L / refillPerSecond));
+        this.burstNanos = capacity * intervalNanos;
+        this.clock = clock;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxClients)
+                .expireAfterAccess(Duration.ofNanos(burstNanos))
+                .build();
+    }
+
+    /**
+     * Prend {@code cost} jetons dans le seau de {@code client} (au plus la capacité).
+     *
+     * @return {@code 0} si la demande passe, sinon le délai en nanosecondes avant qu'elle puisse passer
+     */
+    public long tryAcquire(String client, int cost) {
+        long now = clock.getAsLong();
+        long increment = Math.min(cost, capacity) * intervalNanos;
+        AtomicLong fullAt = buckets.getIfPresent(client);
+        if (fullAt == null) {
+            // Hors du chemin courant : la lambda capture now et alloue
+            fullAt = buckets.get(client, key -> new AtomicLong(now));
+        }
+        while (true) {
+            long current = fullAt.get();
+            long next = Math.max(current, now) + increment;
+            long excess = next - now - burstNanos;
+            if (excess > 0) {
+                return excess;
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,13 @@
+-- Verrouillage optimiste (ETag / If-Match) : les tâches existantes partent de la version 0
+ALTER TABLE todos ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+-- Outbox transactionnelle, écrite dans la transaction de chaque modification de tâche
+CREATE TABLE todo_outbox (
+    id         BINARY(16)  NOT NULL,
+    todo_id    BINARY(16)  NOT NULL,
+    type       VARCHAR(32) NOT NULL,
+    payload    LONGTEXT    NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    attempts   INT         NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
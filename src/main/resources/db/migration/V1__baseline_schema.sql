@@ -0,0 +1,14 @@
+-- ============================================
+-- Schéma tel que le créait ddl-auto: update avant Flyway : la seule table todos, sur quatre colonnes.
+-- Sur une base existante, Flyway le marque comme appliqué sans l'exécuter (baseline-on-migrate) :
+-- tout ajout postérieur doit donc passer par une migration suivante.
+-- ============================================
+
+CREATE TABLE todos (
+    id          BINARY(16)                    NOT NULL,
+    titre       VARCHAR(255)                  NOT NULL,
+    description VARCHAR(255),
+    statut      ENUM ('EN_COURS', 'TERMINEE') NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_todos_titre UNIQUE (titre)
+) ENGINE = InnoDB;
@@ -0,0 +1,6 @@
+-- Date de création ; les tâches existantes prennent la date de la migration
+ALTER TABLE todos ADD COLUMN created_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6);
+
+-- Filtre par statut de GET /api/todos/page (WHERE statut = ? AND id > ? ORDER BY id) et GROUP BY statut des compteurs :
+-- parcours d'index au lieu d'un balayage complet de la table
+CREATE INDEX idx_todos_statut_id ON todos (statut, id);
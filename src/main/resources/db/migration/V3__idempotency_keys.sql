@@ -0,0 +1,16 @@
+-- Clés Idempotency-Key partagées entre nœuds (todo.idempotency.store: jdbc)
+-- key_hash : SHA-256 de « MÉTHODE chemin clé » ; fingerprint : SHA-256 de la requête (méthode, chemin, corps)
+-- status NULL : requête en cours sur un nœud ; sinon réponse à rejouer jusqu'à expires_at
+CREATE TABLE idempotency_keys (
+    key_hash     BINARY(32)    NOT NULL,
+    fingerprint  BINARY(32)    NOT NULL,
+    status       INT,
+    content_type VARCHAR(255),
+    location     VARCHAR(2048),
+    etag         VARCHAR(255),
+    body         LONGBLOB,
+    expires_at   DATETIME(6)   NOT NULL,
+    PRIMARY KEY (key_hash)
+) ENGINE = InnoDB;
+
+CREATE INDEX idx_idempotency_keys_expires_at ON idempotency_keys (expires_at);
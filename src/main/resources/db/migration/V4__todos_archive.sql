@@ -0,0 +1,18 @@
+-- Date de dernière modification, tenue par la base à chaque UPDATE ; les tâches existantes prennent la date de la migration.
+-- Une tâche terminée n'est archivée qu'après être restée intacte pendant todo.archive.min-age
+ALTER TABLE todos ADD COLUMN updated_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6);
+
+-- Sélection de l'archiveur (WHERE statut = 'TERMINEE' AND updated_at < ? ORDER BY updated_at, id) : parcours d'index
+CREATE INDEX idx_todos_statut_updated_at ON todos (statut, updated_at);
+
+-- Tâches terminées retirées de todos par l'archiveur ; sans contrainte d'unicité, le titre redevient libre dans todos
+CREATE TABLE todos_archive (
+    id          BINARY(16)   NOT NULL,
+    titre       VARCHAR(255) NOT NULL,
+    description VARCHAR(255),
+    version     BIGINT       NOT NULL,
+    created_at  DATETIME(6)  NOT NULL,
+    updated_at  DATETIME(6)  NOT NULL,
+    archived_at DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
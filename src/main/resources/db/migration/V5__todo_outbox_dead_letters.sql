@@ -0,0 +1,4 @@
+-- Événements refusés par la destination au-delà de todo.outbox.max-attempts : conservés mais plus réservés par le dispatcher.
+-- Pour les relivrer : UPDATE todo_outbox SET dead_at = NULL, last_error = NULL, attempts = 0 WHERE ...
+ALTER TABLE todo_outbox ADD COLUMN dead_at DATETIME(6) NULL;
+ALTER TABLE todo_outbox ADD COLUMN last_error VARCHAR(500) NULL;
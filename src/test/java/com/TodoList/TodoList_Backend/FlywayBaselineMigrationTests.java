@@ -0,0 +1,78 @@
+package com.TodoList.TodoList_Backend;
+
+import com.TodoList.TodoList_Backend.dto.TodoResponseDto;
+import com.TodoList.TodoList_Backend.dto.TodoStatusDto;
+import com.TodoList.TodoList_Backend.entity.enums.TodoStatus;
+import com.TodoList.TodoList_Backend.service.TodoService;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.ByteBuffer;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Base créée par l'application d'avant Flyway ({@code ddl-auto: update}) : quatre colonnes dans {@code todos},
+ * contrainte d'unicité au nom généré par Hibernate. Au premier démarrage, elle est marquée en version 1 puis
+ * reçoit toutes les migrations suivantes ; Hibernate valide ensuite le schéma obtenu.
+ */
+class FlywayBaselineMigrationTests {
+
+    private static final String URL = "jdbc:h2:mem:baseline_" + UUID.randomUUID().toString().replace("-", "")
+            + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+
+    @Test
+    void databaseCreatedByDdlAutoIsBaselinedThenMigrated() throws Exception {
+        UUID existing = UUID.randomUUID();
+        try (Connection connection = DriverManager.getConnection(URL, "sa", "");
+             Statement statement = connection.createStatement()) {
+            statement.execute("create table todos (id binary(16) not null, description varchar(255), "
+                    + "statut enum ('EN_COURS','TERMINEE') not null, titre varchar(255) not null, primary key (id))");
+            statement.execute("alter table todos add constraint UKmqeuu6ywr8cqn0g3nlvyvbam0 unique (titre)");
+            try (PreparedStatement insert = connection.prepareStatement(
+                    "insert into todos (id, titre, description, statut) values (?, ?, ?, 'EN_COURS')")) {
+                insert.setBytes(1, toBytes(existing));
+                insert.setString(2, "Tâche d'avant Flyway");
+                insert.setString(3, "Créée par ddl-auto: update");
+                insert.executeUpdate();
+            }
+        }
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(TodoListBackendApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .run("--spring.datasource.url=" + URL, "--logging.level.root=WARN")) {
+            JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+            // V1 marquée sans être exécutée, toutes les suivantes appliquées
+            assertThat(jdbcTemplate.queryForList("SELECT \"version\" || ' ' || \"type\" FROM \"flyway_schema_history\" "
+                    + "WHERE \"version\" IS NOT NULL AND \"success\" ORDER BY \"installed_rank\"", String.class))
+                    .containsExactly("1 BASELINE", "1.1 SQL", "2 SQL", "3 SQL", "4 SQL", "5 SQL");
+
+            TodoService todoService = context.getBean(TodoService.class);
+            TodoResponseDto before = todoService.getById(existing);
+            assertThat(before.getTitre()).isEqualTo("Tâche d'avant Flyway");
+            assertThat(before.getVersion()).isZero();
+
+            TodoResponseDto after = todoService.updateStatut(existing, new TodoStatusDto(TodoStatus.TERMINEE), Set.of(0L));
+            assertThat(after.getVersion()).isEqualTo(1);
+            assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM todo_outbox WHERE todo_id = ?",
+                    Long.class, (Object) toBytes(existing))).isEqualTo(1);
+        }
+    }
+
+    private static byte[] toBytes(UUID id) {
+        return ByteBuffer.allocate(16)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits())
+                .array();
+    }
+}
@@ -0,0 +1,97 @@
+package com.TodoList.TodoList_Backend;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Temps jusqu'à la première réponse avec le profil {@code prod}, sur une base H2 vierge (migrations Flyway comprises).
+ * <p>
+ * Comparé à la référence {@code startup/startup-baseline.properties}, mesurée en lançant ce test seul (JVM froide) :
+ * échoue au-delà de {@code startup.regression-factor} fois la référence (1,5 par défaut). Le test détecte une
+ * régression (bean coûteux ajouté au démarrage, validation du schéma réactivée), pas le temps d'un démarrage à froid
+ * en production. Mesure d'horloge dépendante de la machine : hors de la suite par défaut, comme les bancs de charge
+ * ({@code ./mvnw test -Pbenchmark -Dtest=StartupTimeTests}). Après un changement volontaire (ou sur une autre
+ * machine), {@code -Dstartup.baseline.update=true} réécrit la référence dans {@code src/test/resources}.
+ */
+@Tag("benchmark")
+class StartupTimeTests {
+
+    private static final double REGRESSION_FACTOR =
+            Double.parseDouble(System.getProperty("startup.regression-factor", "1.5"));
+    private static final boolean UPDATE_BASELINE = Boolean.getBoolean("startup.baseline.update");
+    private static final String BASELINE = "startup/startup-baseline.properties";
+
+    @Test
+    void prodProfileServesFirstRequestWithinBaseline(TestReporter reporter) throws Exception {
+        long start = System.nanoTime();
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(TodoListBackendApplication.class)
+                .profiles("prod", "test")
+                .run("--server.port=0",
+                        "--spring.datasource.url=jdbc:h2:mem:startup;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1")) {
+            long refreshed = System.nanoTime();
+            String base = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+
+            HttpResponse<String> first = client.send(HttpRequest.newBuilder(URI.create(base + "/api/todos/stats")).build(),
+                    HttpResponse.BodyHandlers.ofString());
+            long firstResponseMillis = (System.nanoTime() - start) / 1_000_000;
+
+            reporter.publishEntry("contexte.ms", String.valueOf((refreshed - start) / 1_000_000));
+            reporter.publishEntry("premiere-reponse.ms", String.valueOf(firstResponseMillis));
+            assertThat(first.statusCode()).isEqualTo(200);
+            Long baseline = baseline(firstResponseMillis, reporter);
+            if (baseline != null) {
+                assertThat(firstResponseMillis)
+                        .as("Première réponse en %d ms, référence %d ms", firstResponseMillis, baseline)
+                        .isLessThanOrEqualTo(Math.round(baseline * REGRESSION_FACTOR));
+            }
+
+            HttpResponse<String> apiDocs = client.send(HttpRequest.newBuilder(URI.create(base + "/api-docs")).build(),
+                    HttpResponse.BodyHandlers.ofString());
+            assertThat(apiDocs.statusCode()).as("springdoc désactivé en production").isEqualTo(404);
+        }
+    }
+
+    /** @return la référence en millisecondes, ou {@code null} si elle vient d'être réécrite ou n'existe pas */
+    private static Long baseline(long firstResponseMillis, TestReporter reporter) throws IOException {
+        if (UPDATE_BASELINE) {
+            Path file = Path.of("src/test/resources", BASELINE);
+            Files.createDirectories(file.getParent());
+            Properties baseline = new Properties();
+            baseline.setProperty("first-response.ms", String.valueOf(firstResponseMillis));
+            try (Writer out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+                baseline.store(out, "StartupTimeTests lancé seul, H2 en mémoire : -Dstartup.baseline.update=true");
+            }
+            reporter.publishEntry("reference", "réécrite : " + file.toAbsolutePath());
+            return null;
+        }
+        Properties baseline = new Properties();
+        try (InputStream in = StartupTimeTests.class.getClassLoader().getResourceAsStream(BASELINE)) {
+            if (in == null) {
+                reporter.publishEntry("reference", "aucune référence " + BASELINE + " : comparaison ignorée");
+                return null;
+            }
+            baseline.load(new InputStreamReader(in, StandardCharsets.UTF_8));
+        }
+        return Long.parseLong(baseline.getProperty("first-response.ms"));
+    }
+}
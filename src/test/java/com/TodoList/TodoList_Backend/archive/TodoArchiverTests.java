@@ -0,0 +1,176 @@
+package com.TodoList.TodoList_Backend.archive;
+
+import com.TodoList.TodoList_Backend.dto.TodoRequestDto;
+import com.TodoList.TodoList_Backend.dto.TodoStatusDto;
+import com.TodoList.TodoList_Backend.entity.enums.TodoStatus;
+import com.TodoList.TodoList_Backend.service.TodoService;
+import com.TodoList.TodoList_Backend.service.TodoStatusCounters;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import javax.sql.DataSource;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.sql.Connection;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "todo.archive.chunk-size=2",
+        "todo.archive.pause=0s"
+})
+@ActiveProfiles("test")
+class TodoArchiverTests {
+
+    private static final Instant LONG_AGO = Instant.now().minus(Duration.ofDays(60));
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TodoArchiver archiver;
+
+    @Autowired
+    private TodoService todoService;
+
+    @Autowired
+    private TodoStatusCounters counters;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JsonMapper jsonMapper;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    @Test
+    void onlyOldCompletedTodosLeaveTheTable() throws Exception {
+        String prefix = "Archivage " + UUID.randomUUID() + " ";
+        UUID oldCompleted = completed(prefix + "ancienne terminée");
+        UUID oldInProgress = todoService.create(request(prefix + "ancienne en cours")).getId();
+        UUID recentCompleted = completed(prefix + "récente terminée");
+        age(oldCompleted);
+        age(oldInProgress);
+        long completedBefore = counters.snapshot().get(TodoStatus.TERMINEE);
+
+        assertThat(archiver.archive()).isEqualTo(1);
+
+        assertThat(get("/api/todos/" + oldCompleted).statusCode()).isEqualTo(404);
+        assertThat(get("/api/todos/" + oldInProgress).statusCode()).isEqualTo(200);
+        assertThat(get("/api/todos/" + recentCompleted).statusCode()).isEqualTo(200);
+        assertThat(jdbcTemplate.queryForObject("SELECT titre FROM todos_archive WHERE id = ?", String.class,
+                toBytes(oldCompleted))).isEqualTo(prefix + "ancienne terminée");
+        assertThat(counters.snapshot().get(TodoStatus.TERMINEE)).isEqualTo(completedBefore - 1);
+        // Le titre d'une tâche archivée redevient disponible
+        assertThat(todoService.create(request(prefix + "ancienne terminée")).getId()).isNotEqualTo(oldCompleted);
+    }
+
+    @Test
+    void archiveIsMovedInChunksAndPagedThroughItsOwnCursor() throws Exception {
+        String prefix = "Archivage paginé " + UUID.randomUUID() + " ";
+        Set<UUID> archived = new HashSet<>();
+        for (int i = 0; i < 5; i++) {
+            UUID id = completed(prefix + i);
+            age(id);
+            archived.add(id);
+        }
+
+        // Lots de 2 : trois transactions pour cinq tâches
+        assertThat(archiver.archive()).isEqualTo(5);
+
+        List<UUID> paged = new ArrayList<>();
+        String cursor = "";
+        JsonNode page;
+        do {
+            HttpResponse<String> response = get("/api/todos/archive?size=2&cursor=" + cursor);
+            assertThat(response.statusCode()).isEqualTo(200);
+            page = jsonMapper.readTree(response.body()).get("data");
+            assertThat(page.get("size").asInt()).isLessThanOrEqualTo(2);
+            page.get("items").forEach(item -> {
+                paged.add(UUID.fromString(item.get("id").asString()));
+                assertThat(item.get("archivedAt").isNull()).isFalse();
+            });
+            cursor = page.path("nextCursor").asString("");
+        } while (page.get("hasNext").asBoolean());
+
+        assertThat(paged).doesNotHaveDuplicates().containsAll(archived);
+        assertThat(paged).isSorted();
+        assertThat(get("/api/todos/archive?cursor=pas-un-curseur").statusCode()).isEqualTo(400);
+    }
+
+    @Test
+    void busyConnectionPoolDefersArchivingToTheNextRun() throws Exception {
+        UUID id = completed("Archivage différé " + UUID.randomUUID());
+        age(id);
+        HikariDataSource pool = dataSource.unwrap(HikariDataSource.class);
+
+        // Plus de la moitié du pool empruntée, comme par des requêtes en cours
+        List<Connection> held = new ArrayList<>();
+        try {
+            for (int i = 0; i <= pool.getMaximumPoolSize() / 2; i++) {
+                held.add(dataSource.getConnection());
+            }
+            assertThat(archiver.archive()).isZero();
+            assertThat(get("/api/todos/" + id).statusCode()).isEqualTo(200);
+        } finally {
+            for (Connection connection : held) {
+                connection.close();
+            }
+        }
+
+        assertThat(archiver.archive()).isEqualTo(1);
+        assertThat(get("/api/todos/" + id).statusCode()).isEqualTo(404);
+    }
+
+    private UUID completed(String titre) {
+        UUID id = todoService.create(request(titre)).getId();
+        todoService.updateStatut(id, new TodoStatusDto(TodoStatus.TERMINEE), null);
+        return id;
+    }
+
+    /** Une affectation explicite l'emporte sur le ON UPDATE de la colonne. */
+    private void age(UUID id) {
+        jdbcTemplate.update("UPDATE todos SET updated_at = ? WHERE id = ?", Timestamp.from(LONG_AGO), toBytes(id));
+    }
+
+    private HttpResponse<String> get(String path) throws Exception {
+        return httpClient.send(HttpRequest.newBuilder(URI.create("http://localhost:" + port + path)).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static TodoRequestDto request(String titre) {
+        TodoRequestDto dto = new TodoRequestDto();
+        dto.setTitre(titre);
+        dto.setDescription("Tâche à archiver");
+        return dto;
+    }
+
+    private static byte[] toBytes(UUID id) {
+        return ByteBuffer.allocate(16)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits())
+                .array();
+    }
+}
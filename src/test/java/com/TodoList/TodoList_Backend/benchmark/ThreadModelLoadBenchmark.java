@@ -0,0 +1,201 @@
+package com.TodoList.TodoList_Backend.benchmark;
+
+import com.TodoList.TodoList_Backend.TodoListBackendApplication;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Banc de charge comparant le pool de threads plateforme de Tomcat et les threads virtuels
+ * sur un trafic mixte (80 % GET par id, 10 % création, 10 % changement de statut).
+ * <p>
+ * Lancement : {@code ./mvnw test -Pbenchmark -Dtest=ThreadModelLoadBenchmark}.
+ * Par défaut la base est H2 en mémoire ; pour mesurer l'effet des appels bloquants réels, pointer sur MySQL avec
+ * {@code -Dbenchmark.db.url=... -Dbenchmark.db.username=... -Dbenchmark.db.password=...}.
+ * Le cache de lecture est désactivé pour que chaque GET atteigne la base.
+ */
+@Tag("benchmark")
+class ThreadModelLoadBenchmark {
+
+    private static final int CLIENTS = Integer.getInteger("benchmark.clients", 200);
+    private static final int SEED_TODOS = Integer.getInteger("benchmark.seed", 1000);
+    private static final Duration WARMUP = Duration.ofSeconds(Long.getLong("benchmark.warmup", 5));
+    private static final Duration MEASURE = Duration.ofSeconds(Long.getLong("benchmark.duration", 20));
+    private static final Pattern ID = Pattern.compile("\"id\":\"([0-9a-f-]{36})\"");
+
+    @Test
+    void compareThreadModels() throws Exception {
+        Result platform = run(false);
+        Result virtual = run(true);
+
+        System.out.printf("%n%-10s %12s %10s %10s %10s %8s%n", "mode", "req/s", "p50 ms", "p99 ms", "max ms", "errors");
+        System.out.println(platform);
+        System.out.println(virtual);
+    }
+
+    private Result run(boolean virtualThreads) throws Exception {
+        String mode = virtualThreads ? "virtual" : "platform";
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(TodoListBackendApplication.class)
+                .profiles("test")
+                .properties(databaseProperties(mode))
+                .properties(
+                        "server.port=0",
+                        "spring.threads.virtual.enabled=" + virtualThreads,
+                        "todo.cache.enabled=false")
+                .run()) {
+            int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+            LoadClient client = new LoadClient(port);
+            List<String> ids = client.seed(SEED_TODOS);
+
+            client.drive(ids, WARMUP);
+            return client.drive(ids, MEASURE).named(mode);
+        }
+    }
+
+    private static String[] databaseProperties(String mode) {
+        String url = System.getProperty("benchmark.db.url");
+        if (url == null) {
+            return new String[]{"spring.datasource.url=jdbc:h2:mem:bench_" + mode + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1"};
+        }
+        return new String[]{
+                "spring.datasource.url=" + url,
+                "spring.datasource.username=" + System.getProperty("benchmark.db.username", ""),
+                "spring.datasource.password=" + System.getProperty("benchmark.db.password", ""),
+                "spring.datasource.driver-class-name=com.mysql.cj.jdbc.Driver",
+                "spring.jpa.hibernate.ddl-auto=update"
+        };
+    }
+
+    private static final class LoadClient {
+
+        private final String baseUrl;
+        private final HttpClient http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        private final AtomicLong titleSequence = new AtomicLong();
+
+        LoadClient(int port) {
+            this.baseUrl = "http://localhost:" + port + "/api/todos";
+        }
+
+        List<String> seed(int count) throws Exception {
+            List<String> ids = new ArrayList<>(count);
+            for (int offset = 0; offset < count; offset += 500) {
+                StringBuilder body = new StringBuilder("[");
+                for (int i = offset; i < Math.min(count, offset + 500); i++) {
+                    body.append(i == offset ? "" : ",").append("{\"titre\":\"seed-").append(i).append("\"}");
+                }
+                String json = send("POST", "/bulk", body.append(']').toString()).body();
+                Matcher matcher = ID.matcher(json);
+                while (matcher.find()) {
+                    ids.add(matcher.group(1));
+                }
+            }
+            // Chaque id apparaît deux fois (résultat + data) : on dédoublonne
+            return ids.stream().distinct().toList();
+        }
+
+        Result drive(List<String> ids, Duration duration) throws Exception {
+            long deadline = System.nanoTime() + duration.toNanos();
+            AtomicLong errors = new AtomicLong();
+            List<Future<long[]>> workers = new ArrayList<>(CLIENTS);
+            try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int c = 0; c < CLIENTS; c++) {
+                    workers.add(clients.submit(() -> {
+                        long[] latencies = new long[1024];
+                        int n = 0;
+                        ThreadLocalRandom random = ThreadLocalRandom.current();
+                        while (System.nanoTime() < deadline) {
+                            long start = System.nanoTime();
+                            int status = nextRequest(ids, random);
+                            long elapsed = System.nanoTime() - start;
+                            if (status >= 500) {
+                                errors.incrementAndGet();
+                            }
+                            if (n == latencies.length) {
+                                latencies = Arrays.copyOf(latencies, n * 2);
+                            }
+                            latencies[n++] = elapsed;
+                        }
+                        return Arrays.copyOf(latencies, n);
+                    }));
+                }
+            }
+            List<long[]> all = new ArrayList<>();
+            for (Future<long[]> worker : workers) {
+                all.add(worker.get());
+            }
+            return Result.of(all, duration, errors.get());
+        }
+
+        private int nextRequest(List<String> ids, ThreadLocalRandom random) throws Exception {
+            int dice = random.nextInt(100);
+            String id = ids.get(random.nextInt(ids.size()));
+            if (dice < 80) {
+                return send("GET", "/" + id, null).statusCode();
+            }
+            if (dice < 90) {
+                return send("POST", "", "{\"titre\":\"load-" + titleSequence.incrementAndGet() + "\"}").statusCode();
+            }
+            String statut = random.nextBoolean() ? "TERMINEE" : "EN_COURS";
+            return send("PATCH", "/" + id + "/status", "{\"statut\":\"" + statut + "\"}").statusCode();
+        }
+
+        private HttpResponse<String> send(String method, String path, String json) throws Exception {
+            HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                    .timeout(Duration.ofSeconds(30));
+            if (json == null) {
+                request.method(method, HttpRequest.BodyPublishers.noBody());
+            } else {
+                request.header("Content-Type", "application/json")
+                        .method(method, HttpRequest.BodyPublishers.ofString(json));
+            }
+            return http.send(request.build(), HttpResponse.BodyHandlers.ofString());
+        }
+    }
+
+    private record Result(String mode, double throughput, double p50Millis, double p99Millis,
+                          double maxMillis, long errors) {
+
+        static Result of(List<long[]> perClient, Duration duration, long errors) {
+            long[] all = perClient.stream().flatMapToLong(Arrays::stream).sorted().toArray();
+            if (all.length == 0) {
+                return new Result("", 0, 0, 0, 0, errors);
+            }
+            return new Result("", all.length / (double) duration.toSeconds(),
+                    percentile(all, 0.50), percentile(all, 0.99), all[all.length - 1] / 1e6, errors);
+        }
+
+        private static double percentile(long[] sorted, double p) {
+            return sorted[(int) Math.min(sorted.length - 1, Math.ceil(p * sorted.length) - 1)] / 1e6;
+        }
+
+        Result named(String name) {
+            return new Result(name, throughput, p50Millis, p99Millis, maxMillis, errors);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-10s %12.0f %10.2f %10.2f %10.2f %8d",
+                    mode, throughput, p50Millis, p99Millis, maxMillis, errors);
+        }
+    }
+}
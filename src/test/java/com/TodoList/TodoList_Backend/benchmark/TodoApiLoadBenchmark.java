@@ -0,0 +1,421 @@
+package com.TodoList.TodoList_Backend.benchmark;
+
+import com.TodoList.TodoList_Backend.TodoListBackendApplication;
+import com.TodoList.TodoList_Backend.entity.enums.TodoStatus;
+import com.TodoList.TodoList_Backend.repository.TodoRepository;
+import com.TodoList.TodoList_Backend.repository.TodoStatutCount;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Banc de charge de l'API sur H2 en mémoire : {@code benchmark.clients} clients concurrents enchaînent un trafic
+ * mixte sur les mêmes tâches (lectures, pages, créations dont des titres en double, bascules de statut,
+ * modifications et suppressions qui se croisent), puis le banc vérifie la cohérence du résultat.
+ * <p>
+ * Échoue sur :
+ * <ul>
+ *     <li>un code HTTP inattendu pour l'opération (tout 5xx, un 409 sur un titre unique...) ;</li>
+ *     <li>une incohérence finale : titre en double créé deux fois, tâche supprimée encore lisible, suppression
+ *     acceptée deux fois, compteurs de {@code /stats} différents de la base ;</li>
+ *     <li>une régression par rapport à {@code benchmark/todo-api-load-baseline.properties} : débit divisé ou
+ *     p99 multiplié par plus de {@code benchmark.regression-factor} (2 par défaut).</li>
+ * </ul>
+ * Lancement : {@code ./mvnw test -Pbenchmark -Dtest=TodoApiLoadBenchmark}. Après un changement volontaire
+ * (ou sur une autre machine), {@code -Dbenchmark.baseline.update=true} réécrit la référence dans
+ * {@code src/test/resources}.
+ */
+@Tag("benchmark")
+class TodoApiLoadBenchmark {
+
+    private static final int CLIENTS = Integer.getInteger("benchmark.clients", 50);
+    private static final int SEED_TODOS = Integer.getInteger("benchmark.seed", 2000);
+    private static final Duration WARMUP = Duration.ofSeconds(Long.getLong("benchmark.warmup", 10));
+    private static final Duration MEASURE = Duration.ofSeconds(Long.getLong("benchmark.duration", 20));
+    private static final double REGRESSION_FACTOR =
+            Double.parseDouble(System.getProperty("benchmark.regression-factor", "2"));
+    private static final boolean UPDATE_BASELINE = Boolean.getBoolean("benchmark.baseline.update");
+    private static final String BASELINE = "benchmark/todo-api-load-baseline.properties";
+    private static final int DUPLICATE_TITRES = 20;
+    private static final Pattern ID = Pattern.compile("\"id\":\"([0-9a-f-]{36})\"");
+
+    /** Opérations tirées au sort, avec leur poids et les seuls codes HTTP acceptables sous concurrence. */
+    enum Operation {
+        GET(55, Set.of(200, 404)),
+        PAGE(10, Set.of(200)),
+        CREATE(8, Set.of(201)),
+        CREATE_DUPLICATE(7, Set.of(201, 409)),
+        TOGGLE(10, Set.of(200, 400, 404, 412)),
+        UPDATE(5, Set.of(200, 404, 412)),
+        DELETE(5, Set.of(200, 400, 404, 412));
+
+        final int weight;
+        final Set<Integer> expected;
+
+        Operation(int weight, Set<Integer> expected) {
+            this.weight = weight;
+            this.expected = expected;
+        }
+
+        static Operation pick(int dice) {
+            for (Operation operation : values()) {
+                dice -= operation.weight;
+                if (dice < 0) {
+                    return operation;
+                }
+            }
+            throw new IllegalStateException("Poids des opérations différents de 100");
+        }
+    }
+
+    @Test
+    void mixedTrafficStaysConsistentAndWithinBaseline() throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(TodoListBackendApplication.class)
+                .profiles("test")
+                .run("--server.port=0",
+                        "--spring.datasource.url=jdbc:h2:mem:bench_api;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                        // 412 et 409 sont attendus par milliers : pas une ligne de journal par conflit
+                        "--logging.level.com.TodoList.TodoList_Backend.exception=ERROR")) {
+            int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+            LoadClient client = new LoadClient(port, context.getBean(JsonMapper.class));
+            client.seed(SEED_TODOS);
+
+            Report warmup = client.drive(WARMUP);
+            Report report = client.drive(MEASURE);
+            System.out.println(report);
+
+            List<String> violations = new ArrayList<>(warmup.unexpected());
+            violations.addAll(report.unexpected());
+            violations.addAll(client.verify(context.getBean(TodoRepository.class),
+                    context.getBean(JdbcTemplate.class)));
+            violations.addAll(compareWithBaseline(report));
+            assertThat(violations).isEmpty();
+        }
+    }
+
+    private static List<String> compareWithBaseline(Report report) throws IOException {
+        if (UPDATE_BASELINE) {
+            Path file = Path.of("src/test/resources", BASELINE);
+            Files.createDirectories(file.getParent());
+            try (Writer out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+                report.toBaseline().store(out, "TodoApiLoadBenchmark, H2 en mémoire : -Dbenchmark.baseline.update=true");
+            }
+            System.out.println("Référence réécrite : " + file.toAbsolutePath());
+            return List.of();
+        }
+        Properties baseline = new Properties();
+        try (InputStream in = TodoApiLoadBenchmark.class.getClassLoader().getResourceAsStream(BASELINE)) {
+            if (in == null) {
+                System.out.println("Aucune référence " + BASELINE + " : comparaison ignorée");
+                return List.of();
+            }
+            baseline.load(new InputStreamReader(in, StandardCharsets.UTF_8));
+        }
+        if (Integer.parseInt(baseline.getProperty("clients")) != CLIENTS) {
+            System.out.println("Référence mesurée avec " + baseline.getProperty("clients")
+                    + " clients : comparaison ignorée");
+            return List.of();
+        }
+
+        List<String> regressions = new ArrayList<>();
+        double throughput = Double.parseDouble(baseline.getProperty("total.throughput"));
+        if (report.total().throughput() * REGRESSION_FACTOR < throughput) {
+            regressions.add(String.format("Débit %.0f req/s contre %.0f en référence",
+                    report.total().throughput(), throughput));
+        }
+        List<Stats> all = new ArrayList<>(report.rows());
+        all.add(report.total());
+        for (Stats stats : all) {
+            String p99 = baseline.getProperty(stats.name() + ".p99");
+            if (p99 != null && stats.p99Millis() > Double.parseDouble(p99) * REGRESSION_FACTOR) {
+                regressions.add(String.format("p99 %s : %.2f ms contre %s ms en référence",
+                        stats.name(), stats.p99Millis(), p99));
+            }
+        }
+        return regressions;
+    }
+
+    private static final class LoadClient {
+
+        private final String baseUrl;
+        private final JsonMapper jsonMapper;
+        private final HttpClient http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        private final AtomicLong titleSequence = new AtomicLong();
+        /** Tâches visées par les lectures et les écritures : les graines, puis chaque tâche créée. */
+        private final AtomicReferenceArray<String> ids = new AtomicReferenceArray<>(1 << 20);
+        private final AtomicInteger idCount = new AtomicInteger();
+        private final Map<String, AtomicInteger> acceptedDeletes = new ConcurrentHashMap<>();
+        private final AtomicInteger duplicateCreated = new AtomicInteger();
+        private final String duplicatePrefix = "dup-" + System.nanoTime() + "-";
+
+        LoadClient(int port, JsonMapper jsonMapper) {
+            this.baseUrl = "http://localhost:" + port + "/api/todos";
+            this.jsonMapper = jsonMapper;
+        }
+
+        void seed(int count) throws Exception {
+            for (int offset = 0; offset < count; offset += 500) {
+                StringBuilder body = new StringBuilder("[");
+                for (int i = offset; i < Math.min(count, offset + 500); i++) {
+                    body.append(i == offset ? "" : ",").append("{\"titre\":\"seed-").append(i).append("\"}");
+                }
+                // Chaque id apparaît deux fois (résultat + data) : une seule fois sur deux est retenue
+                Matcher matcher = ID.matcher(send("POST", "/bulk", body.append(']').toString()).body());
+                boolean keep = true;
+                while (matcher.find()) {
+                    if (keep) {
+                        add(matcher.group(1));
+                    }
+                    keep = !keep;
+                }
+            }
+        }
+
+        Report drive(Duration duration) throws Exception {
+            long deadline = System.nanoTime() + duration.toNanos();
+            List<Future<Recorder>> workers = new ArrayList<>(CLIENTS);
+            try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int c = 0; c < CLIENTS; c++) {
+                    workers.add(clients.submit(() -> {
+                        Recorder recorder = new Recorder();
+                        ThreadLocalRandom random = ThreadLocalRandom.current();
+                        while (System.nanoTime() < deadline) {
+                            Operation operation = Operation.pick(random.nextInt(100));
+                            long start = System.nanoTime();
+                            int status = execute(operation, random);
+                            recorder.record(operation, status, System.nanoTime() - start);
+                        }
+                        return recorder;
+                    }));
+                }
+            }
+            List<Recorder> recorders = new ArrayList<>();
+            for (Future<Recorder> worker : workers) {
+                recorders.add(worker.get());
+            }
+            return Report.of(recorders, duration);
+        }
+
+        private int execute(Operation operation, ThreadLocalRandom random) throws Exception {
+            String id;
+            do {
+                // Une case réservée par add() peut être lue juste avant d'être remplie
+                id = ids.get(random.nextInt(idCount.get()));
+            } while (id == null);
+            return switch (operation) {
+                case GET -> send("GET", "/" + id, null).statusCode();
+                case PAGE -> send("GET", "/page?size=20", null).statusCode();
+                case CREATE -> {
+                    HttpResponse<String> created = send("POST", "",
+                            "{\"titre\":\"load-" + titleSequence.incrementAndGet() + "\"}");
+                    Matcher matcher = ID.matcher(created.body());
+                    if (created.statusCode() == 201 && matcher.find()) {
+                        add(matcher.group(1));
+                    }
+                    yield created.statusCode();
+                }
+                case CREATE_DUPLICATE -> {
+                    int status = send("POST", "", "{\"titre\":\"" + duplicatePrefix
+                            + random.nextInt(DUPLICATE_TITRES) + "\"}").statusCode();
+                    if (status == 201) {
+                        duplicateCreated.incrementAndGet();
+                    }
+                    yield status;
+                }
+                case TOGGLE -> send("PATCH", "/" + id + "/status", "{\"statut\":\""
+                        + (random.nextBoolean() ? "TERMINEE" : "EN_COURS") + "\"}").statusCode();
+                case UPDATE -> send("PUT", "/" + id, "{\"titre\":\"load-"
+                        + titleSequence.incrementAndGet() + "\"}").statusCode();
+                case DELETE -> {
+                    int status = send("DELETE", "/" + id, null).statusCode();
+                    if (status == 200) {
+                        acceptedDeletes.computeIfAbsent(id, key -> new AtomicInteger()).incrementAndGet();
+                    }
+                    yield status;
+                }
+            };
+        }
+
+        List<String> verify(TodoRepository todoRepository, JdbcTemplate jdbcTemplate) throws Exception {
+            List<String> violations = new ArrayList<>();
+            Integer duplicateRows = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM todos WHERE titre LIKE ?", Integer.class, duplicatePrefix + "%");
+            if (duplicateRows == null || duplicateRows != duplicateCreated.get()) {
+                violations.add("Titres en double : " + duplicateRows + " ligne(s) en base pour "
+                        + duplicateCreated.get() + " création(s) acceptée(s), " + DUPLICATE_TITRES + " titres");
+            }
+            for (Map.Entry<String, AtomicInteger> deleted : acceptedDeletes.entrySet()) {
+                if (deleted.getValue().get() > 1) {
+                    violations.add("Tâche " + deleted.getKey() + " supprimée " + deleted.getValue() + " fois");
+                }
+                int status = send("GET", "/" + deleted.getKey(), null).statusCode();
+                if (status != 404) {
+                    violations.add("Tâche supprimée " + deleted.getKey() + " encore servie (" + status + ")");
+                }
+            }
+
+            Map<TodoStatus, Long> database = new EnumMap<>(TodoStatus.class);
+            for (TodoStatus statut : TodoStatus.values()) {
+                database.put(statut, 0L);
+            }
+            for (TodoStatutCount count : todoRepository.countByStatut()) {
+                database.put(count.statut(), count.total());
+            }
+            JsonNode parStatut = jsonMapper.readTree(send("GET", "/stats", null).body()).get("data").get("parStatut");
+            for (TodoStatus statut : TodoStatus.values()) {
+                if (parStatut.get(statut.name()).asLong() != database.get(statut)) {
+                    violations.add("Compteur " + statut + " : " + parStatut.get(statut.name()).asLong()
+                            + " contre " + database.get(statut) + " en base");
+                }
+            }
+            return violations;
+        }
+
+        private void add(String id) {
+            ids.set(idCount.getAndIncrement(), id);
+        }
+
+        private HttpResponse<String> send(String method, String path, String json) throws Exception {
+            HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                    .timeout(Duration.ofSeconds(30));
+            if (json == null) {
+                request.method(method, HttpRequest.BodyPublishers.noBody());
+            } else {
+                request.header("Content-Type", "application/json")
+                        .method(method, HttpRequest.BodyPublishers.ofString(json));
+            }
+            return http.send(request.build(), HttpResponse.BodyHandlers.ofString());
+        }
+    }
+
+    /** Latences et codes d'un client, sans partage entre clients pendant la mesure. */
+    private static final class Recorder {
+
+        private final Map<Operation, long[]> latencies = new EnumMap<>(Operation.class);
+        private final Map<Operation, Integer> counts = new EnumMap<>(Operation.class);
+        private final Map<String, Integer> unexpected = new TreeMap<>();
+
+        void record(Operation operation, int status, long nanos) {
+            int n = counts.getOrDefault(operation, 0);
+            long[] values = latencies.computeIfAbsent(operation, key -> new long[256]);
+            if (n == values.length) {
+                values = Arrays.copyOf(values, n * 2);
+                latencies.put(operation, values);
+            }
+            values[n] = nanos;
+            counts.put(operation, n + 1);
+            if (!operation.expected.contains(status)) {
+                unexpected.merge(operation + " -> " + status, 1, Integer::sum);
+            }
+        }
+
+        long[] latencies(Operation operation) {
+            return Arrays.copyOf(latencies.getOrDefault(operation, new long[0]), counts.getOrDefault(operation, 0));
+        }
+    }
+
+    private record Stats(String name, long count, double throughput, double p50Millis, double p95Millis,
+                         double p99Millis, double maxMillis) {
+
+        static Stats of(String name, long[] sorted, Duration duration) {
+            if (sorted.length == 0) {
+                return new Stats(name, 0, 0, 0, 0, 0, 0);
+            }
+            return new Stats(name, sorted.length, sorted.length / (double) duration.toSeconds(),
+                    percentile(sorted, 0.50), percentile(sorted, 0.95), percentile(sorted, 0.99),
+                    sorted[sorted.length - 1] / 1e6);
+        }
+
+        private static double percentile(long[] sorted, double p) {
+            return sorted[(int) Math.min(sorted.length - 1, Math.ceil(p * sorted.length) - 1)] / 1e6;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-17s %9d %10.0f %9.2f %9.2f %9.2f %9.2f",
+                    name, count, throughput, p50Millis, p95Millis, p99Millis, maxMillis);
+        }
+    }
+
+    private record Report(List<Stats> rows, Stats total, List<String> unexpected) {
+
+        static Report of(List<Recorder> recorders, Duration duration) {
+            List<Stats> rows = new ArrayList<>();
+            List<long[]> all = new ArrayList<>();
+            Map<String, Integer> unexpected = new TreeMap<>();
+            for (Operation operation : Operation.values()) {
+                long[] sorted = recorders.stream()
+                        .flatMapToLong(recorder -> Arrays.stream(recorder.latencies(operation)))
+                        .sorted()
+                        .toArray();
+                rows.add(Stats.of(operation.name(), sorted, duration));
+                all.add(sorted);
+            }
+            recorders.forEach(recorder -> recorder.unexpected.forEach((key, n) -> unexpected.merge(key, n, Integer::sum)));
+            long[] total = all.stream().flatMapToLong(Arrays::stream).sorted().toArray();
+            return new Report(rows, Stats.of("TOTAL", total, duration), unexpected.entrySet().stream()
+                    .map(entry -> "Code inattendu " + entry.getKey() + " (" + entry.getValue() + " fois)")
+                    .toList());
+        }
+
+        Properties toBaseline() {
+            Properties baseline = new Properties();
+            baseline.setProperty("clients", String.valueOf(CLIENTS));
+            baseline.setProperty("total.throughput", String.format(Locale.ROOT, "%.0f", total.throughput()));
+            baseline.setProperty("TOTAL.p99", String.format(Locale.ROOT, "%.2f", total.p99Millis()));
+            for (Stats stats : rows) {
+                baseline.setProperty(stats.name() + ".p99", String.format(Locale.ROOT, "%.2f", stats.p99Millis()));
+            }
+            return baseline;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder out = new StringBuilder(String.format("%n%-17s %9s %10s %9s %9s %9s %9s%n",
+                    "opération", "requêtes", "req/s", "p50 ms", "p95 ms", "p99 ms", "max ms"));
+            rows.forEach(row -> out.append(row).append('\n'));
+            return out.append(total).append('\n').toString();
+        }
+    }
+}
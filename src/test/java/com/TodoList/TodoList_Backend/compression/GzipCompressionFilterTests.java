@@ -0,0 +1,129 @@
+package com.TodoList.TodoList_Backend.compression;
+
+import com.TodoList.TodoList_Backend.config.TodoCompressionProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class GzipCompressionFilterTests {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JsonMapper jsonMapper;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    @BeforeEach
+    void createEnoughTodosToCrossTheThreshold() throws Exception {
+        for (int i = 0; i < 30; i++) {
+            HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/todos"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString("{\"titre\":\"Compressée " + UUID.randomUUID()
+                            + "\",\"description\":\"Une description assez longue pour remplir la réponse\"}"))
+                    .build();
+            assertThat(httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode()).isEqualTo(201);
+        }
+    }
+
+    @Test
+    void streamedListIsGzippedForClientsThatAcceptIt() throws Exception {
+        HttpResponse<byte[]> plain = get("/api/todos", null);
+        HttpResponse<byte[]> gzipped = get("/api/todos", "br;q=1.0, gzip;q=0.8");
+
+        assertThat(gzipped.statusCode()).isEqualTo(200);
+        assertThat(gzipped.headers().firstValue("Content-Encoding")).hasValue("gzip");
+        assertThat(gzipped.headers().allValues("Vary")).anyMatch(vary -> vary.contains("Accept-Encoding"));
+        assertThat(gzipped.body().length).isLessThan(plain.body().length / 2);
+
+        JsonNode json = jsonMapper.readTree(gunzip(gzipped.body()));
+        assertThat(json.get("success").asBoolean()).isTrue();
+        assertThat(json.get("data").size()).isGreaterThanOrEqualTo(30);
+    }
+
+    @Test
+    void exportIsGzippedAsItStreams() throws Exception {
+        HttpResponse<byte[]> gzipped = get("/api/todos/export", "gzip");
+
+        assertThat(gzipped.headers().firstValue("Content-Encoding")).hasValue("gzip");
+        String[] lines = new String(gunzip(gzipped.body()), StandardCharsets.UTF_8).split("\n");
+        assertThat(lines.length).isGreaterThanOrEqualTo(30);
+        assertThat(jsonMapper.readTree(lines[lines.length - 1]).has("titre")).isTrue();
+    }
+
+    @Test
+    void asyncResponseEndingInTimeoutGivesItsEncoderBack() throws Exception {
+        GzipCompressionFilter filter = new GzipCompressionFilter(new TodoCompressionProperties(), new SimpleMeterRegistry());
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/todos/export");
+        request.addHeader("Accept-Encoding", "gzip");
+        request.setAsyncSupported(true);
+
+        // Le corps franchit le seuil puis la réponse passe en asynchrone, sans jamais revenir par un dispatch
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            res.setContentType("application/x-ndjson");
+            res.getOutputStream().write(new byte[4096]);
+            req.startAsync();
+        });
+        assertThat(filter.idleEncoders()).isZero();
+
+        MockAsyncContext asyncContext = (MockAsyncContext) request.getAsyncContext();
+        for (AsyncListener listener : asyncContext.getListeners()) {
+            listener.onTimeout(new AsyncEvent(asyncContext));
+        }
+        for (AsyncListener listener : asyncContext.getListeners()) {
+            listener.onComplete(new AsyncEvent(asyncContext));
+        }
+        assertThat(filter.idleEncoders()).isEqualTo(1);
+    }
+
+    @Test
+    void smallOrRefusedResponsesAreSentAsIs() throws Exception {
+        HttpResponse<byte[]> small = get("/api/todos/stats", "gzip");
+        assertThat(small.headers().firstValue("Content-Encoding")).isEmpty();
+        assertThat(small.headers().firstValueAsLong("Content-Length")).hasValue(small.body().length);
+        assertThat(jsonMapper.readTree(small.body()).get("success").asBoolean()).isTrue();
+
+        HttpResponse<byte[]> refused = get("/api/todos", "gzip;q=0, identity");
+        assertThat(refused.headers().firstValue("Content-Encoding")).isEmpty();
+        assertThat(jsonMapper.readTree(refused.body()).get("data").size()).isGreaterThanOrEqualTo(30);
+    }
+
+    private HttpResponse<byte[]> get(String path, String acceptEncoding) throws Exception {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path)).GET();
+        if (acceptEncoding != null) {
+            builder.header("Accept-Encoding", acceptEncoding);
+        }
+        return httpClient.send(builder.build(), HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    private static byte[] gunzip(byte[] body) throws Exception {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return in.readAllBytes();
+        }
+    }
+}
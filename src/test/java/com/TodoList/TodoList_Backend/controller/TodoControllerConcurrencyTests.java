@@ -0,0 +1,297 @@
+package com.TodoList.TodoList_Backend.controller;
+
+import com.TodoList.TodoList_Backend.entity.enums.TodoStatus;
+import com.TodoList.TodoList_Backend.repository.TodoRepository;
+import com.TodoList.TodoList_Backend.repository.TodoStatutCount;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class TodoControllerConcurrencyTests {
+
+    private static final int CLIENTS = 16;
+    private static final int ROUNDS = 10;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JsonMapper jsonMapper;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    @Test
+    void parallelDuplicateCreatesYieldOneCreatedAndOnlyConflicts() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(CLIENTS);
+        try {
+            for (int round = 0; round < ROUNDS; round++) {
+                String body = "{\"titre\":\"Tâche concurrente " + round + "\"}";
+                CountDownLatch start = new CountDownLatch(1);
+                List<Future<Integer>> statuses = new ArrayList<>();
+                for (int i = 0; i < CLIENTS; i++) {
+                    statuses.add(executor.submit(() -> {
+                        start.await();
+                        return post("/api/todos", body).statusCode();
+                    }));
+                }
+                start.countDown();
+
+                List<Integer> codes = new ArrayList<>();
+                for (Future<Integer> status : statuses) {
+                    codes.add(status.get());
+                }
+                Map<Integer, Long> byCode = codes.stream()
+                        .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+                assertThat(byCode).containsOnlyKeys(201, 409);
+                assertThat(byCode.get(201)).isEqualTo(1L);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void parallelBulkCreatesReportEachTakenTitreAsAnItemConflict() throws Exception {
+        String prefix = "Lot concurrent " + UUID.randomUUID() + " ";
+        String body = "[{\"titre\":\"" + prefix + "A\"},{\"titre\":\"" + prefix + "B\"},{\"titre\":\"" + prefix + "C\"}]";
+        ExecutorService executor = Executors.newFixedThreadPool(CLIENTS);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<HttpResponse<String>>> responses = new ArrayList<>();
+            for (int i = 0; i < CLIENTS; i++) {
+                responses.add(executor.submit(() -> {
+                    start.await();
+                    return post("/api/todos/bulk", body);
+                }));
+            }
+            start.countDown();
+
+            // Le flush qui bute sur un titre pris entre-temps ne fait pas échouer le lot entier
+            Map<String, Long> outcomes = new HashMap<>();
+            for (Future<HttpResponse<String>> response : responses) {
+                assertThat(response.get().statusCode()).isEqualTo(200);
+                data(response.get()).forEach(item -> outcomes.merge(item.get("outcome").asString(), 1L, Long::sum));
+            }
+            assertThat(outcomes).containsOnly(Map.entry("CREATED", 3L), Map.entry("CONFLICT", 3L * (CLIENTS - 1)));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void bulkUpdateSwapsTitresWithinTheBatch() throws Exception {
+        String prefix = "Échange " + UUID.randomUUID() + " ";
+        String first = data(post("/api/todos", "{\"titre\":\"" + prefix + "x\"}")).get("id").asString();
+        String second = data(post("/api/todos", "{\"titre\":\"" + prefix + "y\"}")).get("id").asString();
+
+        HttpResponse<String> response = send("PUT", "/api/todos/bulk", "[{\"id\":\"" + first + "\",\"titre\":\"" + prefix
+                + "y\"},{\"id\":\"" + second + "\",\"titre\":\"" + prefix + "x\"}]");
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(data(response)).extracting(item -> item.get("outcome").asString()).containsExactly("UPDATED", "UPDATED");
+        assertThat(data(send("GET", "/api/todos/" + first, null)).get("titre").asString()).isEqualTo(prefix + "y");
+        assertThat(data(send("GET", "/api/todos/" + second, null)).get("titre").asString()).isEqualTo(prefix + "x");
+    }
+
+    @Test
+    void ifMatchListSucceedsWhenAnyStrongTagIsCurrent() throws Exception {
+        HttpResponse<String> created = post("/api/todos", "{\"titre\":\"Liste If-Match " + UUID.randomUUID() + "\"}");
+        String id = data(created).get("id").asString();
+        long current = version(created);
+
+        assertThat(patchStatus(id, "TERMINEE", "\"" + (current + 5) + "\", W/\"" + current + "\"").statusCode())
+                .isEqualTo(412);
+        HttpResponse<String> updated = patchStatus(id, "TERMINEE", "\"" + (current + 5) + "\", \"" + current + "\"");
+        assertThat(updated.statusCode()).isEqualTo(200);
+        assertThat(version(updated)).isEqualTo(current + 1);
+    }
+
+    @Test
+    void concurrentStatusTogglesBumpTheVersionOncePerSuccess() throws Exception {
+        HttpResponse<String> created = post("/api/todos", "{\"titre\":\"Bascule " + UUID.randomUUID() + "\"}");
+        String id = data(created).get("id").asString();
+        long initialVersion = version(created);
+        Map<TodoStatus, Long> drift = statsDrift();
+
+        ExecutorService executor = Executors.newFixedThreadPool(CLIENTS);
+        List<Integer> codes = new ArrayList<>();
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<List<Integer>>> clients = new ArrayList<>();
+            for (int c = 0; c < CLIENTS; c++) {
+                int client = c;
+                clients.add(executor.submit(() -> {
+                    start.await();
+                    List<Integer> mine = new ArrayList<>();
+                    for (int round = 0; round < ROUNDS; round++) {
+                        String statut = (client + round) % 2 == 0 ? "TERMINEE" : "EN_COURS";
+                        mine.add(send("PATCH", "/api/todos/" + id + "/status", "{\"statut\":\"" + statut + "\"}")
+                                .statusCode());
+                    }
+                    return mine;
+                }));
+            }
+            start.countDown();
+            for (Future<List<Integer>> client : clients) {
+                codes.addAll(client.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // 400 : déjà au statut demandé ; 412 : version dépassée par une bascule concurrente. Jamais de 5xx
+        assertThat(codes).isSubsetOf(200, 400, 412);
+        long successes = codes.stream().filter(code -> code == 200).count();
+        assertThat(successes).isPositive();
+
+        HttpResponse<String> current = send("GET", "/api/todos/" + id, null);
+        assertThat(version(current)).isEqualTo(initialVersion + successes);
+        assertThat(data(current).get("statut").asString())
+                .isEqualTo(successes % 2 == 1 ? "TERMINEE" : "EN_COURS");
+        assertThat(statsDrift()).isEqualTo(drift);
+    }
+
+    @Test
+    void deletesRacingWithUpdatesNeverLeaveAStaleTodo() throws Exception {
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < ROUNDS; i++) {
+            String id = data(post("/api/todos", "{\"titre\":\"Course " + UUID.randomUUID() + "\"}")).get("id").asString();
+            assertThat(send("PATCH", "/api/todos/" + id + "/status", "{\"statut\":\"TERMINEE\"}").statusCode())
+                    .isEqualTo(200);
+            ids.add(id);
+        }
+        Map<TodoStatus, Long> drift = statsDrift();
+
+        ExecutorService executor = Executors.newFixedThreadPool(CLIENTS);
+        Map<String, List<Future<Integer>>> deletes = new HashMap<>();
+        Map<String, List<Future<Integer>>> updates = new HashMap<>();
+        Map<String, Set<String>> titres = new HashMap<>();
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            for (String id : ids) {
+                titres.put(id, new HashSet<>());
+                for (int i = 0; i < 2; i++) {
+                    String titre = "Course modifiée " + UUID.randomUUID();
+                    titres.get(id).add(titre);
+                    deletes.computeIfAbsent(id, key -> new ArrayList<>()).add(executor.submit(() -> {
+                        start.await();
+                        return send("DELETE", "/api/todos/" + id, null).statusCode();
+                    }));
+                    updates.computeIfAbsent(id, key -> new ArrayList<>()).add(executor.submit(() -> {
+                        start.await();
+                        return send("PUT", "/api/todos/" + id, "{\"titre\":\"" + titre + "\"}").statusCode();
+                    }));
+                }
+            }
+            start.countDown();
+
+            for (String id : ids) {
+                List<Integer> deleteCodes = statuses(deletes.get(id));
+                List<Integer> updateCodes = statuses(updates.get(id));
+                // 404 : l'autre requête a supprimé la tâche avant la lecture ; 412 : après la lecture
+                assertThat(deleteCodes).isSubsetOf(200, 404, 412);
+                assertThat(updateCodes).isSubsetOf(200, 404, 412);
+                assertThat(deleteCodes.stream().filter(code -> code == 200).count()).isLessThanOrEqualTo(1);
+
+                HttpResponse<String> current = send("GET", "/api/todos/" + id, null);
+                if (deleteCodes.contains(200)) {
+                    // Ni le cache de lecture ni une modification concurrente ne doivent ressusciter la tâche
+                    assertThat(current.statusCode()).isEqualTo(404);
+                } else {
+                    assertThat(current.statusCode()).isEqualTo(200);
+                    assertThat(updateCodes).contains(200);
+                    assertThat(titres.get(id)).contains(data(current).get("titre").asString());
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(statsDrift()).isEqualTo(drift);
+    }
+
+    /**
+     * Écart entre {@code /stats} et la base, par statut. La base H2 est partagée avec d'autres contextes de test
+     * dont les écritures échappent aux compteurs de celui-ci : on compare l'écart avant et après le scénario.
+     */
+    private Map<TodoStatus, Long> statsDrift() throws Exception {
+        Map<TodoStatus, Long> drift = new EnumMap<>(TodoStatus.class);
+        JsonNode parStatut = data(send("GET", "/api/todos/stats", null)).get("parStatut");
+        for (TodoStatus statut : TodoStatus.values()) {
+            drift.put(statut, parStatut.get(statut.name()).asLong());
+        }
+        for (TodoStatutCount count : todoRepository.countByStatut()) {
+            drift.merge(count.statut(), -count.total(), Long::sum);
+        }
+        return drift;
+    }
+
+    private static List<Integer> statuses(List<Future<Integer>> futures) throws Exception {
+        List<Integer> codes = new ArrayList<>();
+        for (Future<Integer> future : futures) {
+            codes.add(future.get());
+        }
+        return codes;
+    }
+
+    private JsonNode data(HttpResponse<String> response) {
+        return jsonMapper.readTree(response.body()).get("data");
+    }
+
+    private static long version(HttpResponse<String> response) {
+        return Long.parseLong(response.headers().firstValue("ETag").orElseThrow().replace("\"", ""));
+    }
+
+    private HttpResponse<String> patchStatus(String id, String statut, String ifMatch) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/todos/" + id + "/status"))
+                .header("Content-Type", "application/json")
+                .header("If-Match", ifMatch)
+                .method("PATCH", HttpRequest.BodyPublishers.ofString("{\"statut\":\"" + statut + "\"}"))
+                .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpResponse<String> post(String path, String json) throws Exception {
+        return send("POST", path, json);
+    }
+
+    private HttpResponse<String> send(String method, String path, String json) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path));
+        if (json == null) {
+            request.method(method, HttpRequest.BodyPublishers.noBody());
+        } else {
+            request.header("Content-Type", "application/json")
+                    .method(method, HttpRequest.BodyPublishers.ofString(json));
+        }
+        return httpClient.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+}
@@ -0,0 +1,132 @@
+package com.TodoList.TodoList_Backend.controller;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class TodoControllerContentNegotiationTests {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JsonMapper jsonMapper;
+
+    @Autowired
+    private CBORMapper cborMapper;
+
+    @Autowired
+    private SmileMapper smileMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    @Test
+    void streamedListMatchesTheConvertedSingleTodoInEachFormat() throws Exception {
+        String titre = "Binaire " + UUID.randomUUID();
+        HttpRequest create = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/todos"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"titre\":\"" + titre + "\"}"))
+                .build();
+        UUID id = UUID.fromString(jsonMapper.readTree(httpClient.send(create, HttpResponse.BodyHandlers.ofString()).body())
+                .get("data").get("id").asString());
+
+        for (String format : new String[]{"application/cbor", "application/x-jackson-smile"}) {
+            HttpResponse<byte[]> list = get("/api/todos", format);
+            HttpResponse<byte[]> single = get("/api/todos/" + id, format);
+            assertThat(list.headers().firstValue("Content-Type")).hasValue(format);
+            assertThat(single.headers().firstValue("Content-Type")).hasValue(format);
+
+            JsonNode listed = null;
+            for (JsonNode todo : decode(format, list.body()).get("data")) {
+                if (titre.equals(todo.get("titre").asString())) {
+                    listed = todo;
+                }
+            }
+            JsonNode converted = decode(format, single.body()).get("data");
+            // Identifiant en 16 octets binaires, comme l'écrit Jackson pour ces formats
+            assertThat(listed.get("id").isBinary()).isTrue();
+            assertThat(asUuid(listed.get("id").binaryValue())).isEqualTo(id);
+            assertThat(listed).isEqualTo(converted);
+        }
+    }
+
+    @Test
+    void jsonRemainsTheDefaultAndQualityValuesAreHonoured() throws Exception {
+        assertThat(get("/api/todos", "*/*").headers().firstValue("Content-Type")).hasValue("application/json");
+        assertThat(get("/api/todos", "application/json;q=0.5, application/cbor").headers().firstValue("Content-Type"))
+                .hasValue("application/cbor");
+        assertThat(get("/api/todos/stats", "application/x-jackson-smile").headers().firstValue("Content-Type"))
+                .hasValue("application/x-jackson-smile");
+        assertThat(get("/api/todos", "text/csv").statusCode()).isEqualTo(406);
+    }
+
+    @Test
+    void unacceptableFormatIsNotCountedAsAnInternalError() throws Exception {
+        double internalErrors = handled("handleGeneric");
+        double notAcceptable = handled("handleNotAcceptable");
+
+        HttpResponse<byte[]> response = get("/api/todos/stats", "text/csv");
+
+        assertThat(response.statusCode()).isEqualTo(406);
+        assertThat(response.body()).isEmpty();
+        assertThat(handled("handleNotAcceptable")).isEqualTo(notAcceptable + 1);
+        assertThat(handled("handleGeneric")).isEqualTo(internalErrors);
+    }
+
+    @Test
+    void zeroQualityExcludesAFormat() throws Exception {
+        assertThat(get("/api/todos", "application/cbor;q=0, application/json;q=0.1").headers().firstValue("Content-Type"))
+                .hasValue("application/json");
+        assertThat(get("/api/todos", "*/*, application/json;q=0").headers().firstValue("Content-Type"))
+                .hasValue("application/cbor");
+    }
+
+    @Test
+    void listVariesOnAccept() throws Exception {
+        assertThat(get("/api/todos", "application/json").headers().allValues("Vary")).contains("Accept");
+    }
+
+    private double handled(String handler) {
+        return meterRegistry.find("todo.exceptions.handled").tag("handler", handler).counters().stream()
+                .mapToDouble(counter -> counter.count())
+                .sum();
+    }
+
+    private JsonNode decode(String format, byte[] body) {
+        return format.contains("cbor") ? cborMapper.readTree(body) : smileMapper.readTree(body);
+    }
+
+    private static UUID asUuid(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+
+    private HttpResponse<byte[]> get(String path, String accept) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("Accept", accept)
+                .GET()
+                .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+    }
+}
@@ -0,0 +1,145 @@
+package com.TodoList.TodoList_Backend.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class TodoControllerEventsTests {
+
+    @LocalServerPort
+    private int port;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    @Test
+    void committedCreateIsPushedToSubscribers() throws Exception {
+        try (EventStream stream = subscribe(null)) {
+            assertThat(post("{\"titre\":\"Tâche diffusée\"}").statusCode()).isEqualTo(201);
+
+            List<String> event = stream.nextEvent();
+            assertThat(event).contains("event:created");
+            assertThat(event).anyMatch(line -> line.startsWith("data:") && line.contains("Tâche diffusée"));
+        }
+    }
+
+    @Test
+    void rejectedWriteIsNotPushed() throws Exception {
+        try (EventStream stream = subscribe(null)) {
+            post("{\"titre\":\"Tâche unique diffusée\"}");
+            assertThat(stream.nextEvent()).contains("event:created");
+
+            assertThat(post("{\"titre\":\"Tâche unique diffusée\"}").statusCode()).isEqualTo(409);
+            post("{\"titre\":\"Tâche suivante\"}");
+            assertThat(stream.nextEvent()).anyMatch(line -> line.contains("Tâche suivante"));
+        }
+    }
+
+    @Test
+    void reconnectWithLastEventIdReplaysMissedEvents() throws Exception {
+        String lastEventId;
+        try (EventStream stream = subscribe(null)) {
+            post("{\"titre\":\"Avant coupure\"}");
+            lastEventId = idOf(stream.nextEvent());
+        }
+        post("{\"titre\":\"Pendant coupure 1\"}");
+        post("{\"titre\":\"Pendant coupure 2\"}");
+
+        try (EventStream stream = subscribe(lastEventId)) {
+            assertThat(stream.nextEvent()).anyMatch(line -> line.contains("Pendant coupure 1"));
+            assertThat(stream.nextEvent()).anyMatch(line -> line.contains("Pendant coupure 2"));
+        }
+    }
+
+    @Test
+    void unknownLastEventIdRequestsReset() throws Exception {
+        try (EventStream stream = subscribe("instance-precedente-42")) {
+            assertThat(stream.nextEvent()).contains("event:reset");
+        }
+    }
+
+    private static String idOf(List<String> event) {
+        return event.stream()
+                .filter(line -> line.startsWith("id:"))
+                .map(line -> line.substring("id:".length()))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private EventStream subscribe(String lastEventId) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/todos/events"))
+                .header("Accept", "text/event-stream")
+                .GET();
+        if (lastEventId != null) {
+            request.header("Last-Event-ID", lastEventId);
+        }
+        HttpResponse<Stream<String>> response = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofLines());
+        assertThat(response.statusCode()).isEqualTo(200);
+        return new EventStream(response.body());
+    }
+
+    private HttpResponse<String> post(String json) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/todos"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    /** Lit le flux SSE sur un thread dédié et le découpe en événements (blocs séparés par une ligne vide). */
+    private static final class EventStream implements AutoCloseable {
+
+        private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+        private final Stream<String> lines;
+        private final BlockingQueue<String> received = new LinkedBlockingQueue<>();
+
+        private EventStream(Stream<String> lines) {
+            this.lines = lines;
+            Thread.ofVirtual().start(() -> {
+                try {
+                    lines.forEach(received::add);
+                } catch (RuntimeException ignored) {
+                    // flux fermé par close()
+                }
+            });
+        }
+
+        /** Prochain événement nommé ; les commentaires (lignes ":") sont ignorés. */
+        List<String> nextEvent() throws InterruptedException {
+            List<String> event = new ArrayList<>();
+            while (true) {
+                String line = received.poll(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+                assertThat(line).as("événement SSE attendu").isNotNull();
+                if (!line.isEmpty()) {
+                    if (!line.startsWith(":")) {
+                        event.add(line);
+                    }
+                } else if (!event.isEmpty()) {
+                    return event;
+                }
+            }
+        }
+
+        @Override
+        public void close() {
+            lines.close();
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.TodoList.TodoList_Backend.datasource;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Deux bases H2 distinctes : la « réplique » ne reçoit jamais les écritures de la base principale,
+ * ce qui rend visible de quelle base vient chaque lecture (une réplique infiniment en retard).
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "todo.datasource.replica.url=" + ReadReplicaRoutingTests.REPLICA_URL,
+        "todo.datasource.replica.username=sa",
+        "todo.datasource.read-your-writes-window=1m"
+})
+@ActiveProfiles("test")
+class ReadReplicaRoutingTests {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:todolist_replica;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+
+    private static final JdbcTemplate replica = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+
+    @LocalServerPort
+    private int port;
+
+    // Sans gestionnaire de cookies : chaque requête est celle d'un client qui n'a rien écrit
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+    private String replicaOnlyTitre;
+
+    @BeforeAll
+    static void migrateReplica() {
+        Flyway.configure().dataSource(REPLICA_URL, "sa", "").load().migrate();
+    }
+
+    @BeforeEach
+    void seedReplica() {
+        replicaOnlyTitre = "Seulement sur la réplique " + UUID.randomUUID();
+        replica.update("INSERT INTO todos (id, titre, statut, version) VALUES (?, ?, 'EN_COURS', 0)",
+                bytes(UUID.randomUUID()), replicaOnlyTitre);
+    }
+
+    @Test
+    void readOnlyTransactionsAreServedByTheReplica() throws Exception {
+        String titre = "Écrite sur la base principale " + UUID.randomUUID();
+        assertThat(post(titre).statusCode()).isEqualTo(201);
+
+        String list = get("/api/todos", null).body();
+        assertThat(list).contains(replicaOnlyTitre).doesNotContain(titre);
+    }
+
+    @Test
+    void clientReadsItsOwnWritesFromThePrimaryWithinTheWindow() throws Exception {
+        String titre = "Relue par son auteur " + UUID.randomUUID();
+        HttpResponse<String> created = post(titre);
+        assertThat(created.statusCode()).isEqualTo(201);
+        String cookie = created.headers().firstValue("Set-Cookie").orElseThrow();
+        assertThat(cookie).startsWith(ReadYourWritesFilter.COOKIE + "=");
+
+        String list = get("/api/todos", cookie.substring(0, cookie.indexOf(';'))).body();
+        assertThat(list).contains(titre).doesNotContain(replicaOnlyTitre);
+    }
+
+    @Test
+    void searchLoadsIndexedHitsFromThePrimary() throws Exception {
+        String term = "r" + UUID.randomUUID().toString().replace("-", "");
+        assertThat(post("Indexée " + term).statusCode()).isEqualTo(201);
+
+        // L'index suit les commits de la base principale : la réplique ne connaît pas encore la tâche
+        String result = get("/api/todos/search?q=" + term, null).body();
+        assertThat(result).contains("Indexée " + term).contains("\"total\":1");
+    }
+
+    @Test
+    void deadlineBeyondTheWindowIsIgnored() throws Exception {
+        long farFuture = System.currentTimeMillis() + 3_600_000;
+
+        String list = get("/api/todos", ReadYourWritesFilter.COOKIE + "=" + farFuture).body();
+        assertThat(list).contains(replicaOnlyTitre);
+    }
+
+    private HttpResponse<String> post(String titre) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/todos"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"titre\":\"" + titre + "\"}"))
+                .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpResponse<String> get(String path, String cookie) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path)).GET();
+        if (cookie != null) {
+            request.header("Cookie", cookie);
+        }
+        HttpResponse<String> response = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofString());
+        assertThat(response.statusCode()).isEqualTo(200);
+        return response;
+    }
+
+    private static byte[] bytes(UUID id) {
+        return ByteBuffer.allocate(16)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits())
+                .array();
+    }
+}
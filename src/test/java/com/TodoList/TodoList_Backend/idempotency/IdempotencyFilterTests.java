@@ -0,0 +1,220 @@
+package com.TodoList.TodoList_Backend.idempotency;
+
+import com.TodoList.TodoList_Backend.config.TodoIdempotencyProperties;
+import com.TodoList.TodoList_Backend.throttling.ClientIdResolver;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "todo.throttling.rate-limit.client-id-header=X-Client-Id",
+        "todo.idempotency.max-body-size=4KB"
+})
+@ActiveProfiles("test")
+class IdempotencyFilterTests {
+
+    @LocalServerPort
+    private int port;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    @Test
+    void repeatedCreateReplaysTheOriginalResponse() throws Exception {
+        String key = UUID.randomUUID().toString();
+        String body = "{\"titre\":\"Idempotente " + key + "\"}";
+
+        HttpResponse<String> first = send("POST", "/api/todos", key, body);
+        HttpResponse<String> second = send("POST", "/api/todos", key, body);
+
+        assertThat(first.statusCode()).isEqualTo(201);
+        assertThat(first.headers().firstValue(IdempotencyFilter.REPLAYED_HEADER)).isEmpty();
+        assertThat(second.statusCode()).isEqualTo(201);
+        assertThat(second.headers().firstValue(IdempotencyFilter.REPLAYED_HEADER)).hasValue("true");
+        assertThat(second.headers().firstValue("ETag")).isEqualTo(first.headers().firstValue("ETag"));
+        assertThat(second.body()).isEqualTo(first.body());
+
+        // Sans clé, le même corps est une nouvelle création : titre déjà pris
+        assertThat(send("POST", "/api/todos", null, body).statusCode()).isEqualTo(409);
+    }
+
+    @Test
+    void retryAcceptingAnotherFormatIsNotReplayedInTheStoredOne() throws Exception {
+        String key = UUID.randomUUID().toString();
+        String body = "{\"titre\":\"Idempotente CBOR " + key + "\"}";
+
+        HttpResponse<byte[]> first = send("POST", "/api/todos", key, body, "application/cbor");
+        assertThat(first.statusCode()).isEqualTo(201);
+        assertThat(first.headers().firstValue("Content-Type")).hasValue("application/cbor");
+
+        HttpResponse<byte[]> json = send("POST", "/api/todos", key, body, "application/json");
+        assertThat(json.statusCode()).isEqualTo(406);
+        assertThat(json.headers().allValues("Vary")).contains("Accept");
+
+        HttpResponse<byte[]> cbor = send("POST", "/api/todos", key, body, "application/cbor, application/json;q=0.5");
+        assertThat(cbor.statusCode()).isEqualTo(201);
+        assertThat(cbor.headers().firstValue(IdempotencyFilter.REPLAYED_HEADER)).hasValue("true");
+        assertThat(cbor.headers().allValues("Vary")).contains("Accept");
+        assertThat(cbor.body()).isEqualTo(first.body());
+    }
+
+    @Test
+    void sameKeyWithAnotherBodyIsRejected() throws Exception {
+        String key = UUID.randomUUID().toString();
+        assertThat(send("POST", "/api/todos", key, "{\"titre\":\"Première " + key + "\"}").statusCode())
+                .isEqualTo(201);
+
+        HttpResponse<String> reused = send("POST", "/api/todos", key, "{\"titre\":\"Seconde " + key + "\"}");
+
+        assertThat(reused.statusCode()).isEqualTo(422);
+        assertThat(reused.body()).contains("IDEMPOTENCY_KEY_REUSED");
+    }
+
+    @Test
+    void concurrentRequestsWithTheSameKeyExecuteOnce() throws Exception {
+        String key = UUID.randomUUID().toString();
+        String body = "{\"titre\":\"Simultanée " + key + "\"}";
+
+        List<CompletableFuture<HttpResponse<String>>> responses = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            responses.add(httpClient.sendAsync(request("POST", "/api/todos", key, body),
+                    HttpResponse.BodyHandlers.ofString()));
+        }
+
+        List<HttpResponse<String>> completed = responses.stream().map(CompletableFuture::join).toList();
+        assertThat(completed).allSatisfy(response -> {
+            assertThat(response.statusCode()).isEqualTo(201);
+            assertThat(response.body()).isEqualTo(completed.getFirst().body());
+        });
+        assertThat(completed.stream()
+                .filter(response -> response.headers().firstValue(IdempotencyFilter.REPLAYED_HEADER).isEmpty()))
+                .hasSize(1);
+    }
+
+    @Test
+    void validationErrorsAreReplayedButNotOtherEndpoints() throws Exception {
+        String key = UUID.randomUUID().toString();
+
+        assertThat(send("POST", "/api/todos/bulk", key, "[]").statusCode()).isEqualTo(400);
+        assertThat(send("POST", "/api/todos/bulk", key, "[]").headers()
+                .firstValue(IdempotencyFilter.REPLAYED_HEADER)).hasValue("true");
+
+        // PUT /api/todos/{id} n'est pas concerné : la clé est ignorée
+        String path = "/api/todos/" + UUID.randomUUID();
+        send("PUT", path, key, "{\"titre\":\"Absente\"}");
+        assertThat(send("PUT", path, key, "{\"titre\":\"Absente\"}").headers()
+                .firstValue(IdempotencyFilter.REPLAYED_HEADER)).isEmpty();
+    }
+
+    @Test
+    void keyPresentedByAnotherClientDoesNotReplayItsResponse() throws Exception {
+        String key = UUID.randomUUID().toString();
+        String body = "{\"titre\":\"Propre au client " + key + "\"}";
+        assertThat(httpClient.send(request("POST", "/api/todos", key, body, "client-a"),
+                HttpResponse.BodyHandlers.ofString()).statusCode()).isEqualTo(201);
+
+        HttpResponse<String> other = httpClient.send(request("POST", "/api/todos", key, body, "client-b"),
+                HttpResponse.BodyHandlers.ofString());
+
+        // Exécutée pour son propre compte : titre déjà pris, sans la tâche ni la Location du premier client
+        assertThat(other.statusCode()).isEqualTo(409);
+        assertThat(other.headers().firstValue(IdempotencyFilter.REPLAYED_HEADER)).isEmpty();
+        assertThat(other.headers().firstValue("Location")).isEmpty();
+    }
+
+    @Test
+    void oversizedBodyIsRejectedWith413() throws Exception {
+        String body = "{\"titre\":\"Trop long\",\"description\":\"" + "x".repeat(5000) + "\"}";
+
+        HttpResponse<String> response = send("POST", "/api/todos", UUID.randomUUID().toString(), body);
+
+        assertThat(response.statusCode()).isEqualTo(413);
+        assertThat(response.body()).contains("PAYLOAD_TOO_LARGE");
+    }
+
+    @Test
+    void cachedBodyCanBeReadThroughAReadListener() throws Exception {
+        TodoIdempotencyProperties properties = new TodoIdempotencyProperties();
+        IdempotencyFilter filter = new IdempotencyFilter(new InMemoryIdempotencyStore(properties),
+                JsonMapper.builder().build(), properties, new ClientIdResolver(null), new SimpleMeterRegistry());
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/todos");
+        request.addHeader(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, UUID.randomUUID().toString());
+        request.setContent("{\"titre\":\"Lue sans bloquer\"}".getBytes(StandardCharsets.UTF_8));
+        ByteArrayOutputStream read = new ByteArrayOutputStream();
+        AtomicBoolean allRead = new AtomicBoolean();
+
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            ServletInputStream in = req.getInputStream();
+            in.setReadListener(new ReadListener() {
+                @Override
+                public void onDataAvailable() throws IOException {
+                    while (in.isReady() && !in.isFinished()) {
+                        read.write(in.read());
+                    }
+                }
+
+                @Override
+                public void onAllDataRead() {
+                    allRead.set(true);
+                }
+
+                @Override
+                public void onError(Throwable t) {
+                    throw new AssertionError(t);
+                }
+            });
+            ((HttpServletResponse) res).setStatus(201);
+        });
+
+        assertThat(read.toString(StandardCharsets.UTF_8)).isEqualTo("{\"titre\":\"Lue sans bloquer\"}");
+        assertThat(allRead).isTrue();
+    }
+
+    private HttpResponse<String> send(String method, String path, String key, String body) throws Exception {
+        return httpClient.send(request(method, path, key, body), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpResponse<byte[]> send(String method, String path, String key, String body, String accept) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(request(method, path, key, body), (name, value) -> true)
+                .header("Accept", accept)
+                .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    private HttpRequest request(String method, String path, String key, String body) {
+        return request(method, path, key, body, "client-test");
+    }
+
+    private HttpRequest request(String method, String path, String key, String body, String client) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("Content-Type", "application/json")
+                .header("X-Client-Id", client)
+                .method(method, HttpRequest.BodyPublishers.ofString(body));
+        if (key != null) {
+            builder.header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, key);
+        }
+        return builder.build();
+    }
+}
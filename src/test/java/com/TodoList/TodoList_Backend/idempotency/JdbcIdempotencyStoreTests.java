@@ -0,0 +1,68 @@
+package com.TodoList.TodoList_Backend.idempotency;
+
+import com.TodoList.TodoList_Backend.idempotency.IdempotencyStore.IdempotencyEntry;
+import com.TodoList.TodoList_Backend.idempotency.IdempotencyStore.StoredResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "todo.idempotency.store=jdbc")
+@ActiveProfiles("test")
+class JdbcIdempotencyStoreTests {
+
+    @Autowired
+    private IdempotencyStore store;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final byte[] fingerprint = IdempotencyFilter.sha256("requête");
+
+    @Test
+    void claimedKeyIsSharedUntilCompletedThenReplayed() {
+        String key = "POST /api/todos " + UUID.randomUUID();
+        assertThat(store).isInstanceOf(JdbcIdempotencyStore.class);
+
+        assertThat(store.claim(key, fingerprint)).isNull();
+        IdempotencyEntry pending = store.claim(key, fingerprint);
+        assertThat(pending.fingerprint()).isEqualTo(fingerprint);
+        assertThat(pending.response()).isNull();
+
+        byte[] body = "{\"success\":true}".getBytes(StandardCharsets.UTF_8);
+        store.complete(key, fingerprint, new StoredResponse(201, "application/json", null, "\"0\"", body));
+
+        StoredResponse replayed = store.claim(key, fingerprint).response();
+        assertThat(replayed.status()).isEqualTo(201);
+        assertThat(replayed.etag()).isEqualTo("\"0\"");
+        assertThat(replayed.location()).isNull();
+        assertThat(replayed.body()).isEqualTo(body);
+    }
+
+    @Test
+    void releasedOrExpiredKeyCanBeClaimedAgain() {
+        String key = "PATCH /api/todos/bulk/status " + UUID.randomUUID();
+        assertThat(store.claim(key, fingerprint)).isNull();
+        store.release(key);
+        assertThat(store.claim(key, fingerprint)).isNull();
+
+        // Réservation abandonnée par un nœud tombé : reprise une fois son délai écoulé
+        jdbcTemplate.update("UPDATE idempotency_keys SET expires_at = ? WHERE key_hash = ?",
+                Timestamp.from(Instant.now().minusSeconds(1)), IdempotencyFilter.sha256(key));
+        byte[] other = IdempotencyFilter.sha256("autre requête");
+        assertThat(store.claim(key, other)).isNull();
+        assertThat(store.claim(key, fingerprint).fingerprint()).isEqualTo(other);
+
+        ((JdbcIdempotencyStore) store).purgeExpired();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM idempotency_keys WHERE key_hash = ?",
+                Integer.class, (Object) IdempotencyFilter.sha256(key))).isEqualTo(1);
+    }
+}
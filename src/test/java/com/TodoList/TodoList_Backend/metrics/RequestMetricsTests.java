@@ -0,0 +1,94 @@
+package com.TodoList.TodoList_Backend.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class RequestMetricsTests {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    @Test
+    void sqlStatementsAreAttributedToTheirRoute() throws Exception {
+        long before = statements("GET", "/api/todos/{id}").count();
+
+        assertThat(send("GET", "/api/todos/" + UUID.randomUUID(), null).statusCode()).isEqualTo(404);
+
+        DistributionSummary summary = statements("GET", "/api/todos/{id}");
+        assertThat(summary.count()).isEqualTo(before + 1);
+        assertThat(summary.max()).isEqualTo(1);
+    }
+
+    @Test
+    void streamedListIsCountedWhenTheResponseCompletes() throws Exception {
+        send("POST", "/api/todos", "{\"titre\":\"Mesurée " + UUID.randomUUID() + "\"}");
+        long before = statements("GET", "/api/todos").count();
+
+        assertThat(send("GET", "/api/todos", null).statusCode()).isEqualTo(200);
+
+        // Publié par le listener de fin de requête asynchrone, qui peut passer après la réception de la réponse
+        DistributionSummary summary = statements("GET", "/api/todos");
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (summary.count() == before && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(summary.count()).isEqualTo(before + 1);
+        assertThat(summary.totalAmount()).isGreaterThan(0);
+    }
+
+    @Test
+    void scrapeExposesEndpointServiceSqlPoolAndExceptionMetrics() throws Exception {
+        send("GET", "/api/todos/" + UUID.randomUUID(), null);
+        send("GET", "/api/todos/stats", null);
+
+        String scrape = send("GET", "/actuator/prometheus", null).body();
+        assertThat(scrape)
+                .containsPattern("http_server_requests_seconds_bucket\\{.*uri=\"/api/todos/\\{id\\}\"")
+                .containsPattern("todo_service_seconds_bucket\\{.*method=\"getStats\"")
+                .contains("spring_data_repository_invocations_seconds_bucket{")
+                .contains("todo_http_sql_statements_bucket{")
+                .contains("todo_http_sql_time_seconds_bucket{")
+                .contains("hikaricp_connections_acquire_seconds_bucket{")
+                .containsPattern("todo_exceptions_handled_total\\{.*handler=\"handleNotFound\"");
+    }
+
+    private DistributionSummary statements(String method, String uri) {
+        DistributionSummary summary = meterRegistry.find("todo.http.sql.statements")
+                .tags("method", method, "uri", uri)
+                .summary();
+        return summary != null ? summary : DistributionSummary.builder("todo.http.sql.statements")
+                .tags("method", method, "uri", uri)
+                .register(meterRegistry);
+    }
+
+    private HttpResponse<String> send(String method, String path, String json) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path));
+        if (json != null) {
+            request.header("Content-Type", "application/json")
+                    .method(method, HttpRequest.BodyPublishers.ofString(json));
+        } else {
+            request.method(method, HttpRequest.BodyPublishers.noBody());
+        }
+        return httpClient.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+}
@@ -0,0 +1,212 @@
+package com.TodoList.TodoList_Backend.outbox;
+
+import com.TodoList.TodoList_Backend.dto.TodoRequestDto;
+import com.TodoList.TodoList_Backend.dto.TodoResponseDto;
+import com.TodoList.TodoList_Backend.entity.TodoOutboxEvent;
+import com.TodoList.TodoList_Backend.exception.ResourceAlreadyExistsException;
+import com.TodoList.TodoList_Backend.repository.TodoOutboxRepository;
+import com.TodoList.TodoList_Backend.service.TodoService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = {
+        "todo.outbox.dispatcher-enabled=true",
+        "todo.outbox.poll-interval=1h",
+        "todo.outbox.sink=test",
+        "todo.outbox.max-attempts=2"
+})
+@ActiveProfiles("test")
+class TodoOutboxDispatcherTests {
+
+    @Autowired
+    private TodoService todoService;
+
+    @Autowired
+    private TodoOutboxRepository outboxRepository;
+
+    @Autowired
+    private TodoOutboxDispatcher dispatcher;
+
+    @Autowired
+    private RecordingSink sink;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void clearOutbox() {
+        outboxRepository.deleteAllInBatch();
+        sink.delivered.clear();
+        sink.failing = false;
+        sink.rejected.clear();
+    }
+
+    @Test
+    void committedWriteIsDeliveredThenRemoved() {
+        TodoResponseDto created = todoService.create(request("Tâche outbox"));
+        assertThat(outboxRepository.count()).isEqualTo(1);
+
+        assertThat(dispatcher.dispatchBatch()).isEqualTo(1);
+
+        assertThat(sink.delivered).singleElement().satisfies(event -> {
+            assertThat(event.getTodoId()).isEqualTo(created.getId());
+            assertThat(event.getType()).isEqualTo("CREATED");
+            assertThat(event.getPayload()).contains("Tâche outbox");
+        });
+        assertThat(outboxRepository.count()).isZero();
+    }
+
+    @Test
+    void rolledBackWriteLeavesNoOutboxEntry() {
+        TodoRequestDto dto = request("Tâche outbox unique");
+        todoService.create(dto);
+        outboxRepository.deleteAllInBatch();
+
+        assertThatThrownBy(() -> todoService.create(dto))
+                .isInstanceOf(ResourceAlreadyExistsException.class);
+
+        assertThat(outboxRepository.count()).isZero();
+    }
+
+    @Test
+    void failedDeliveryKeepsEntryForRetry() {
+        todoService.create(request("Tâche outbox en échec"));
+        sink.failing = true;
+
+        assertThat(dispatcher.dispatchBatch()).isEqualTo(-1);
+
+        assertThat(outboxRepository.findAll()).singleElement()
+                .satisfies(event -> assertThat(event.getAttempts()).isEqualTo(1));
+
+        // Destination en panne : au-delà de max-attempts, l'événement n'est pas écarté pour autant
+        assertThat(dispatcher.dispatchBatch()).isEqualTo(-1);
+        assertThat(dispatcher.dispatchBatch()).isEqualTo(-1);
+        assertThat(outboxRepository.findAll()).singleElement()
+                .satisfies(event -> assertThat(event.getDeadAt()).isNull());
+
+        sink.failing = false;
+        assertThat(dispatcher.dispatchBatch()).isEqualTo(1);
+        assertThat(outboxRepository.count()).isZero();
+    }
+
+    @Test
+    void rejectedEventDoesNotHoldUpTheOthersAndIsSetAsideAfterMaxAttempts() {
+        double deadBefore = meterRegistry.counter("todo.outbox.dead").count();
+        UUID poison = todoService.create(request("Tâche outbox refusée")).getId();
+        sink.rejected.add(poison);
+        todoService.create(request("Tâche outbox suivante 1"));
+        todoService.create(request("Tâche outbox suivante 2"));
+
+        assertThat(dispatcher.dispatchBatch()).isEqualTo(2);
+        assertThat(sink.delivered).extracting(TodoOutboxEvent::getTodoId).doesNotContain(poison).hasSize(2);
+        assertThat(outboxRepository.findAll()).singleElement().satisfies(event -> {
+            assertThat(event.getAttempts()).isEqualTo(1);
+            assertThat(event.getDeadAt()).isNull();
+        });
+
+        todoService.create(request("Tâche outbox suivante 3"));
+        assertThat(dispatcher.dispatchBatch()).isEqualTo(1);
+
+        // Deuxième refus : l'événement est écarté et n'est plus proposé
+        assertThat(outboxRepository.findAll()).singleElement().satisfies(event -> {
+            assertThat(event.getTodoId()).isEqualTo(poison);
+            assertThat(event.getDeadAt()).isNotNull();
+            assertThat(event.getLastError()).isEqualTo("événement refusé");
+        });
+        assertThat(meterRegistry.counter("todo.outbox.dead").count()).isEqualTo(deadBefore + 1);
+        assertThat(dispatcher.dispatchBatch()).isZero();
+    }
+
+    @Test
+    void concurrentClaimsSkipLockedRows() throws Exception {
+        todoService.create(request("Tâche outbox A"));
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        CountDownLatch claimed = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<List<UUID>> first = CompletableFuture.supplyAsync(() -> tx.execute(status -> {
+            List<UUID> ids = ids(outboxRepository.claimBatch(Limit.of(10)));
+            claimed.countDown();
+            await(release);
+            return ids;
+        }));
+        assertThat(claimed.await(5, TimeUnit.SECONDS)).isTrue();
+        todoService.create(request("Tâche outbox B"));
+
+        // Sans SKIP LOCKED, cette réservation attendrait la fin de la première transaction
+        List<UUID> second = CompletableFuture.supplyAsync(() -> tx.execute(status ->
+                ids(outboxRepository.claimBatch(Limit.of(10))))).get(5, TimeUnit.SECONDS);
+        release.countDown();
+
+        assertThat(second).hasSize(1).doesNotContainAnyElementsOf(first.get(5, TimeUnit.SECONDS));
+    }
+
+    private static List<UUID> ids(List<TodoOutboxEvent> events) {
+        return events.stream().map(TodoOutboxEvent::getId).toList();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static TodoRequestDto request(String titre) {
+        TodoRequestDto dto = new TodoRequestDto();
+        dto.setTitre(titre + " " + UUID.randomUUID());
+        return dto;
+    }
+
+    @TestConfiguration
+    static class SinkConfig {
+
+        @Bean
+        RecordingSink recordingSink() {
+            return new RecordingSink();
+        }
+    }
+
+    static class RecordingSink implements OutboxSink {
+
+        final List<TodoOutboxEvent> delivered = new CopyOnWriteArrayList<>();
+        final Set<UUID> rejected = ConcurrentHashMap.newKeySet();
+        volatile boolean failing;
+
+        @Override
+        public void publish(List<TodoOutboxEvent> events) {
+            if (failing) {
+                throw new IllegalStateException("destination indisponible");
+            }
+            if (events.stream().anyMatch(event -> rejected.contains(event.getTodoId()))) {
+                throw new IllegalArgumentException("événement refusé");
+            }
+            delivered.addAll(events);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.TodoList.TodoList_Backend.repository;
+
+import com.TodoList.TodoList_Backend.dto.TodoPageDto;
+import com.TodoList.TodoList_Backend.dto.TodoRequestDto;
+import com.TodoList.TodoList_Backend.dto.TodoResponseDto;
+import com.TodoList.TodoList_Backend.dto.TodoStatusDto;
+import com.TodoList.TodoList_Backend.entity.enums.TodoStatus;
+import com.TodoList.TodoList_Backend.service.TodoService;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Pages de {@code GET /api/todos/page} sur le moteur JPA : résultat de chaque combinaison de filtres,
+ * et plan de la requête SQL réellement émise ({@code EXPLAIN} H2, paramètres liés comme en production).
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.TodoList.TodoList_Backend.repository.TodoRepositoryPageTests$RecordingInspector")
+@ActiveProfiles("test")
+class TodoRepositoryPageTests {
+
+    @Autowired
+    private TodoService todoService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void everyFilterCombinationPagesInIdOrder() {
+        String prefix = "Page " + UUID.randomUUID() + " ";
+        UUID first = todoService.create(request(prefix + "a")).getId();
+        UUID second = todoService.create(request(prefix + "b")).getId();
+        UUID third = todoService.create(request(prefix + "c")).getId();
+        todoService.updateStatut(second, new TodoStatusDto(TodoStatus.TERMINEE), null);
+
+        assertThat(pageThrough(null, prefix)).containsExactly(first, second, third);
+        assertThat(pageThrough(TodoStatus.EN_COURS, prefix)).containsExactly(first, third);
+        assertThat(pageThrough(TodoStatus.TERMINEE, null)).contains(second).doesNotContain(first, third).isSorted();
+        assertThat(pageThrough(null, null)).contains(first, second, third).isSorted();
+    }
+
+    @Test
+    void everyFilterCombinationReadsAnIndexRange() {
+        String prefix = "Plan%";
+        assertThat(plan(null, null, List.of())).contains("PRIMARY_KEY").contains("id >");
+        assertThat(plan(TodoStatus.EN_COURS, null, List.of("EN_COURS"))).contains("idx_todos_statut_id:");
+        assertThat(plan(null, "Plan", List.of(prefix))).containsPattern("public\\.uk_todos_titre\\w*: titre >=");
+        assertThat(plan(TodoStatus.EN_COURS, "Plan", List.of("EN_COURS", prefix)))
+                .containsPattern("public\\.(idx_todos_statut_id|uk_todos_titre\\w*):");
+    }
+
+    private List<UUID> pageThrough(TodoStatus statut, String prefix) {
+        List<UUID> ids = new ArrayList<>();
+        String cursor = null;
+        TodoPageDto page;
+        do {
+            page = todoService.getPage(cursor, prefix == null ? 100 : 1, statut, prefix);
+            page.getItems().stream().map(TodoResponseDto::getId).forEach(ids::add);
+            cursor = page.getNextCursor();
+        } while (page.isHasNext());
+        return ids;
+    }
+
+    /**
+     * Plan H2 de la requête émise par {@code getPage}. Les paramètres sont liés dans l'ordre du SQL :
+     * filtres, curseur, puis limite.
+     */
+    private String plan(TodoStatus statut, String prefix, List<Object> filters) {
+        RecordingInspector.STATEMENTS.clear();
+        todoService.getPage(null, 20, statut, prefix);
+        String sql = RecordingInspector.STATEMENTS.stream()
+                .filter(statement -> statement.toLowerCase(Locale.ROOT).contains("from todos"))
+                .reduce((earlier, later) -> later)
+                .orElseThrow();
+
+        List<Object> args = new ArrayList<>(filters);
+        args.add(new byte[16]);
+        if (sql.chars().filter(c -> c == '?').count() > args.size()) {
+            args.add(21);
+        }
+        return jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class, args.toArray());
+    }
+
+    private static TodoRequestDto request(String titre) {
+        TodoRequestDto dto = new TodoRequestDto();
+        dto.setTitre(titre);
+        return dto;
+    }
+
+    public static class RecordingInspector implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
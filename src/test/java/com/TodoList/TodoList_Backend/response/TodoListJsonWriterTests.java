@@ -0,0 +1,64 @@
+package com.TodoList.TodoList_Backend.response;
+
+import com.TodoList.TodoList_Backend.entity.enums.TodoStatus;
+import com.TodoList.TodoList_Backend.repository.TodoRow;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TodoListJsonWriterTests {
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+    private final CBORMapper cborMapper = CBORMapper.builder().build();
+    private final TodoListJsonWriter writer = new TodoListJsonWriter(jsonMapper, cborMapper, SmileMapper.builder().build());
+    private final TodoRow row = new TodoRow(UUID.randomUUID(), "Sortir le chien", null, TodoStatus.EN_COURS, 0L);
+
+    @Test
+    void finishedSessionWritesTheWholeEnvelope() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        stream(out, MediaType.APPLICATION_JSON, session -> session.write(row));
+
+        JsonNode envelope = jsonMapper.readTree(out.toByteArray());
+        assertThat(envelope.get("success").asBoolean()).isTrue();
+        assertThat(envelope.get("data")).hasSize(1);
+        assertThat(envelope.has("timestamp")).isTrue();
+    }
+
+    @Test
+    void failureMidStreamLeavesTheDocumentUnterminated() {
+        for (MediaType mediaType : new MediaType[]{MediaType.APPLICATION_JSON, MediaType.APPLICATION_CBOR}) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            assertThatThrownBy(() -> stream(out, mediaType, session -> {
+                session.write(row);
+                throw new IllegalStateException("Connexion à la base perdue");
+            })).hasMessage("Connexion à la base perdue");
+
+            byte[] body = out.toByteArray();
+            assertThat(body).isNotEmpty();
+            // Ni fin de liste, ni timestamp : le client ne peut pas prendre la réponse pour une liste complète
+            assertThat(new String(body, StandardCharsets.ISO_8859_1)).doesNotContain("timestamp");
+            assertThatThrownBy(() -> (mediaType == MediaType.APPLICATION_CBOR ? cborMapper : jsonMapper).readTree(body))
+                    .isInstanceOf(JacksonException.class);
+        }
+    }
+
+    /** Même enchaînement que {@code GET /api/todos}. */
+    private void stream(ByteArrayOutputStream out, MediaType mediaType, Consumer<TodoListJsonWriter.Session> rows) {
+        try (TodoListJsonWriter.Session session = writer.open(out, "Tâches récupérées avec succès", mediaType)) {
+            rows.accept(session);
+            session.finish();
+        }
+    }
+}
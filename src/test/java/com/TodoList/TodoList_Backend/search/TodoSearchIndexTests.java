@@ -0,0 +1,108 @@
+package com.TodoList.TodoList_Backend.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TodoSearchIndexTests {
+
+    private final TodoSearchIndex index = new TodoSearchIndex();
+
+    @Test
+    void matchesIgnoringAccentsCaseAndPlural() {
+        UUID id = UUID.randomUUID();
+        index.index(id, 0, "Préparer les Tâches de l'été", null);
+
+        assertThat(index.search("tache ete", 0, 10).ids()).containsExactly(id);
+        assertThat(index.search("PRÉPARER", 0, 10).ids()).containsExactly(id);
+    }
+
+    @Test
+    void requiresAllTermsAndRanksTitreAboveDescription() {
+        UUID inDescription = UUID.randomUUID();
+        UUID inTitre = UUID.randomUUID();
+        UUID partial = UUID.randomUUID();
+        index.index(inTitre, 0, "Réunion budget", null);
+        index.index(inDescription, 0, "Point d'équipe", "réunion sur le budget");
+        index.index(partial, 0, "Budget vacances", null);
+
+        TodoSearchIndex.SearchHits hits = index.search("budget réunion", 0, 10);
+
+        assertThat(hits.total()).isEqualTo(2);
+        assertThat(hits.ids()).containsExactly(inTitre, inDescription);
+    }
+
+    @Test
+    void updateReplacesTermsAndStaleVersionIsIgnored() {
+        UUID id = UUID.randomUUID();
+        index.index(id, 0, "Acheter du pain", null);
+        index.index(id, 1, "Acheter du lait", null);
+        index.index(id, 0, "Acheter du pain", null);
+
+        assertThat(index.search("pain", 0, 10).ids()).isEmpty();
+        assertThat(index.search("lait", 0, 10).ids()).containsExactly(id);
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    void resultWindowIsBoundedBeforeAnyAllocation() {
+        index.index(UUID.randomUUID(), 0, "Arroser les plantes", null);
+
+        assertThat(index.search("plantes", TodoSearchIndex.MAX_HITS - 10, 10).ids()).isEmpty();
+        assertThatThrownBy(() -> index.search("plantes", TodoSearchIndex.MAX_HITS - 10, 11))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> index.search("plantes", Integer.MAX_VALUE, 100))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void removedTodoIsNoLongerFound() {
+        UUID id = UUID.randomUUID();
+        index.index(id, 0, "Ranger le garage", null);
+        index.remove(id);
+
+        assertThat(index.search("garage", 0, 10).total()).isZero();
+    }
+
+    @Test
+    void rowReadBeforeADeletionDoesNotBringTheTodoBack() {
+        UUID id = UUID.randomUUID();
+        index.beginRebuild();
+        // La suppression est validée pendant que la construction tient encore l'ancienne ligne
+        index.remove(id);
+        index.index(id, 0, "Réserver le restaurant", null);
+        index.endRebuild();
+
+        assertThat(index.search("restaurant", 0, 10).ids()).isEmpty();
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    void paginatesRankedResultsAcrossCompaction() {
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            UUID id = UUID.randomUUID();
+            ids.add(id);
+            index.index(id, 0, "Tâche numéro " + i, null);
+        }
+        // Assez de réindexations pour déclencher au moins un compactage
+        for (int round = 1; round <= 2; round++) {
+            for (UUID id : ids) {
+                index.index(id, round, "Tâche réindexée", null);
+            }
+        }
+
+        TodoSearchIndex.SearchHits first = index.search("tache", 0, 50);
+        TodoSearchIndex.SearchHits second = index.search("tache", 50, 50);
+
+        assertThat(first.total()).isEqualTo(3000);
+        assertThat(first.ids()).hasSize(50).doesNotContainAnyElementsOf(second.ids());
+        assertThat(second.ids()).hasSize(50);
+        assertThat(index.search("numero", 0, 10).total()).isZero();
+    }
+}
@@ -0,0 +1,154 @@
+package com.TodoList.TodoList_Backend.service;
+
+import com.TodoList.TodoList_Backend.dto.TodoPageDto;
+import com.TodoList.TodoList_Backend.dto.TodoRequestDto;
+import com.TodoList.TodoList_Backend.dto.TodoResponseDto;
+import com.TodoList.TodoList_Backend.dto.TodoStatusDto;
+import com.TodoList.TodoList_Backend.entity.enums.TodoStatus;
+import com.TodoList.TodoList_Backend.exception.BadRequestException;
+import com.TodoList.TodoList_Backend.exception.PreconditionFailedException;
+import com.TodoList.TodoList_Backend.exception.ResourceAlreadyExistsException;
+import com.TodoList.TodoList_Backend.storage.TodoRecord;
+import com.TodoList.TodoList_Backend.storage.TodoWriteBehind;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// Flush automatique repoussé : chaque test décide quand la file d'écriture différée part en base
+@SpringBootTest(properties = {"todo.storage.engine=memory", "todo.storage.write-behind.flush-interval=1h"})
+@ActiveProfiles("test")
+class InMemoryTodoServiceTests {
+
+    @Autowired
+    private TodoService todoService;
+
+    @Autowired
+    private TodoWriteBehind writeBehind;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void writesAreServedFromMemoryThenFlushedToDatabase() {
+        assertThat(todoService).isInstanceOf(InMemoryTodoService.class);
+        TodoResponseDto created = todoService.create(request("Mémoire " + UUID.randomUUID()));
+        TodoResponseDto done = todoService.updateStatut(created.getId(), new TodoStatusDto(TodoStatus.TERMINEE), Set.of(0L));
+
+        assertThat(done.getVersion()).isEqualTo(1L);
+        assertThat(todoService.getById(created.getId()).getStatut()).isEqualTo(TodoStatus.TERMINEE);
+        assertThat(row(created.getId())).isEmpty();
+
+        assertThat(writeBehind.flush()).isTrue();
+        assertThat(row(created.getId())).singleElement().satisfies(row -> {
+            assertThat(row).containsEntry("statut", "TERMINEE").containsEntry("version", 1L);
+            assertThat(row.get("titre")).isEqualTo(created.getTitre());
+        });
+
+        todoService.delete(created.getId(), Set.of(1L));
+        assertThat(writeBehind.flush()).isTrue();
+        assertThat(row(created.getId())).isEmpty();
+        assertThat(writeBehind.pendingCount()).isZero();
+    }
+
+    @Test
+    void swappedTitresArePersistedInOneBatch() {
+        String x = "Échange X " + UUID.randomUUID();
+        String y = "Échange Y " + UUID.randomUUID();
+        TodoResponseDto a = todoService.create(request(x));
+        TodoResponseDto b = todoService.create(request(y));
+        assertThat(writeBehind.flush()).isTrue();
+
+        todoService.update(a.getId(), request("Provisoire " + UUID.randomUUID()), null);
+        todoService.update(b.getId(), request(x), null);
+        todoService.update(a.getId(), request(y), null);
+
+        // En base, A garde x tant que B n'a pas libéré y : le lot n'aboutit qu'en libérant d'abord les titres
+        assertThat(writeBehind.flush()).isTrue();
+        assertThat(row(a.getId()).getFirst()).containsEntry("titre", y).containsEntry("version", 2L);
+        assertThat(row(b.getId()).getFirst()).containsEntry("titre", x).containsEntry("version", 1L);
+    }
+
+    @Test
+    void titreRejectedByTheDatabaseDoesNotBlockTheQueue() {
+        TodoResponseDto existing = todoService.create(request("Collation " + UUID.randomUUID()));
+        assertThat(writeBehind.flush()).isTrue();
+
+        // Titre égal pour la base mais pas pour le store (« ß » et « ss » en MySQL) : H2 ne refuse que l'égalité stricte
+        TodoRecord colliding = new TodoRecord(UUID.randomUUID(), existing.getTitre(), null, TodoStatus.EN_COURS, 0,
+                Instant.now());
+        writeBehind.enqueue(colliding.id(), colliding);
+        TodoResponseDto accepted = todoService.create(request("Après le refus " + UUID.randomUUID()));
+
+        assertThat(writeBehind.flush()).isTrue();
+        assertThat(writeBehind.pendingCount()).isZero();
+        assertThat(row(colliding.id())).isEmpty();
+        assertThat(row(accepted.getId())).hasSize(1);
+    }
+
+    @Test
+    void titreUniquenessAndVersionChecksMatchTheJpaEngine() {
+        String titre = "Unicité " + UUID.randomUUID();
+        TodoResponseDto created = todoService.create(request(titre));
+
+        // Collation de la base : insensible à la casse et aux accents
+        assertThatThrownBy(() -> todoService.create(request(titre.toUpperCase().replace('É', 'E'))))
+                .isInstanceOf(ResourceAlreadyExistsException.class);
+        assertThatThrownBy(() -> todoService.update(created.getId(), request(titre + " bis"), Set.of(7L)))
+                .isInstanceOf(PreconditionFailedException.class);
+        assertThat(todoService.update(created.getId(), request(titre), Set.of(0L)).getVersion())
+                .as("sans changement, pas de nouvelle version")
+                .isZero();
+    }
+
+    @Test
+    void searchRejectsPagesBeyondTheResultWindow() {
+        assertThat(todoService.search("tache", 99, 100).getItems()).isNotNull();
+        assertThatThrownBy(() -> todoService.search("tache", 100, 100)).isInstanceOf(BadRequestException.class);
+        // page * size dépasserait Integer.MAX_VALUE
+        assertThatThrownBy(() -> todoService.search("tache", 30_000_000, 100)).isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    void pagesFollowIdOrderAndStatusFilter() {
+        String prefix = "Page mémoire " + UUID.randomUUID() + " ";
+        List<UUID> ids = List.of(
+                todoService.create(request(prefix + 1)).getId(),
+                todoService.create(request(prefix + 2)).getId(),
+                todoService.create(request(prefix + 3)).getId());
+        todoService.updateStatut(ids.get(1), new TodoStatusDto(TodoStatus.TERMINEE), null);
+
+        TodoPageDto first = todoService.getPage(null, 1, TodoStatus.EN_COURS, prefix.toLowerCase());
+        TodoPageDto second = todoService.getPage(first.getNextCursor(), 1, TodoStatus.EN_COURS, prefix);
+
+        assertThat(first.getItems()).extracting(TodoResponseDto::getId).containsExactly(ids.get(0));
+        assertThat(second.getItems()).extracting(TodoResponseDto::getId).containsExactly(ids.get(2));
+        assertThat(second.isHasNext()).isFalse();
+    }
+
+    private List<Map<String, Object>> row(UUID id) {
+        return jdbcTemplate.queryForList("SELECT titre, statut, version FROM todos WHERE id = ?", bytes(id));
+    }
+
+    private static byte[] bytes(UUID id) {
+        return ByteBuffer.allocate(16).putLong(id.getMostSignificantBits()).putLong(id.getLeastSignificantBits()).array();
+    }
+
+    private static TodoRequestDto request(String titre) {
+        TodoRequestDto dto = new TodoRequestDto();
+        dto.setTitre(titre);
+        dto.setDescription("Décrite");
+        return dto;
+    }
+}
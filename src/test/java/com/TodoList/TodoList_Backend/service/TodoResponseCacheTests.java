@@ -0,0 +1,60 @@
+package com.TodoList.TodoList_Backend.service;
+
+import com.TodoList.TodoList_Backend.config.TodoCacheProperties;
+import com.TodoList.TodoList_Backend.dto.TodoResponseDto;
+import com.TodoList.TodoList_Backend.entity.enums.TodoStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TodoResponseCacheTests {
+
+    private final Map<UUID, TodoResponseDto> database = new HashMap<>();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void absentIdIsLoadedOnceThenServedFromTheNegativeCache() {
+        TodoResponseCache cache = new TodoResponseCache(new TodoCacheProperties(), new SimpleMeterRegistry());
+        UUID id = UUID.randomUUID();
+
+        assertThat(cache.get(id, this::load)).isNull();
+        assertThat(cache.get(id, this::load)).isNull();
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void invalidationAfterCreateForgetsTheAbsence() {
+        TodoResponseCache cache = new TodoResponseCache(new TodoCacheProperties(), new SimpleMeterRegistry());
+        UUID id = UUID.randomUUID();
+        assertThat(cache.get(id, this::load)).isNull();
+
+        database.put(id, TodoResponseDto.builder().id(id).titre("Créée après coup").statut(TodoStatus.EN_COURS).build());
+        cache.invalidateAfterCommit(id);
+
+        assertThat(cache.get(id, this::load)).isNotNull();
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void negativeCacheCanBeDisabledAlone() {
+        TodoCacheProperties properties = new TodoCacheProperties();
+        properties.getNegative().setEnabled(false);
+        TodoResponseCache cache = new TodoResponseCache(properties, new SimpleMeterRegistry());
+        UUID id = UUID.randomUUID();
+
+        cache.get(id, this::load);
+        cache.get(id, this::load);
+        assertThat(loads).hasValue(2);
+    }
+
+    private TodoResponseDto load(UUID id) {
+        loads.incrementAndGet();
+        return database.get(id);
+    }
+}
@@ -0,0 +1,144 @@
+package com.TodoList.TodoList_Backend.service;
+
+import com.TodoList.TodoList_Backend.dto.BulkItemResultDto;
+import com.TodoList.TodoList_Backend.dto.TodoBulkStatusDto;
+import com.TodoList.TodoList_Backend.dto.TodoBulkUpdateDto;
+import com.TodoList.TodoList_Backend.dto.TodoRequestDto;
+import com.TodoList.TodoList_Backend.dto.TodoResponseDto;
+import com.TodoList.TodoList_Backend.dto.TodoStatusDto;
+import com.TodoList.TodoList_Backend.entity.Todo;
+import com.TodoList.TodoList_Backend.entity.enums.TodoStatus;
+import com.TodoList.TodoList_Backend.event.TodoChangedEvent;
+import com.TodoList.TodoList_Backend.exception.BadRequestException;
+import com.TodoList.TodoList_Backend.repository.TodoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@RecordApplicationEvents
+class TodoStatusCountersTests {
+
+    @Autowired
+    private TodoService todoService;
+
+    @Autowired
+    private TodoStatusCounters counters;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private ApplicationEvents events;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Map<TodoStatus, Long> initial;
+
+    @BeforeEach
+    void syncWithDatabase() {
+        // La base H2 est partagée avec les autres classes de test
+        assertThat(counters.reconcile()).isTrue();
+        initial = counters.snapshot();
+    }
+
+    @Test
+    void countersFollowCommittedWrites() {
+        TodoResponseDto first = todoService.create(request());
+        TodoResponseDto second = todoService.create(request());
+        assertThat(delta()).containsEntry(TodoStatus.EN_COURS, 2L).containsEntry(TodoStatus.TERMINEE, 0L);
+
+        todoService.updateStatut(first.getId(), new TodoStatusDto(TodoStatus.TERMINEE), null);
+        todoService.updateStatutAll(List.of(new TodoBulkStatusDto(second.getId(), TodoStatus.TERMINEE)));
+        assertThat(delta()).containsEntry(TodoStatus.EN_COURS, 0L).containsEntry(TodoStatus.TERMINEE, 2L);
+
+        todoService.delete(first.getId(), null);
+        assertThat(delta()).containsEntry(TodoStatus.EN_COURS, 0L).containsEntry(TodoStatus.TERMINEE, 1L);
+        assertThat(todoService.getStats().getTotal())
+                .isEqualTo(initial.values().stream().mapToLong(Long::longValue).sum() + 1);
+    }
+
+    @Test
+    void rejectedWriteLeavesCountersUntouched() {
+        TodoResponseDto todo = todoService.create(request());
+
+        assertThatThrownBy(() -> todoService.delete(todo.getId(), null))
+                .isInstanceOf(BadRequestException.class);
+
+        assertThat(delta()).containsEntry(TodoStatus.EN_COURS, 1L).containsEntry(TodoStatus.TERMINEE, 0L);
+    }
+
+    @Test
+    void reconcileCorrectsDrift() {
+        // Écriture hors service : aucun événement, les compteurs dérivent
+        todoRepository.save(Todo.builder().titre("Hors service " + UUID.randomUUID()).statut(TodoStatus.TERMINEE).build());
+        assertThat(delta()).containsEntry(TodoStatus.TERMINEE, 0L);
+
+        assertThat(counters.reconcile()).isTrue();
+
+        assertThat(delta()).containsEntry(TodoStatus.TERMINEE, 1L);
+    }
+
+    @Test
+    void reconcileBetweenCommitAndCountingIsPostponed() {
+        AtomicBoolean reconciled = new AtomicBoolean(true);
+        transactionTemplate.executeWithoutResult(status -> {
+            // Enregistrée avant l'écouteur des compteurs : s'exécute après le commit, avant qu'il ne compte la tâche
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    reconciled.set(counters.reconcile());
+                }
+            });
+            todoService.create(request());
+        });
+
+        assertThat(reconciled).isFalse();
+        assertThat(delta()).containsEntry(TodoStatus.EN_COURS, 1L);
+        assertThat(counters.reconcile()).isTrue();
+        assertThat(delta()).containsEntry(TodoStatus.EN_COURS, 1L);
+    }
+
+    @Test
+    void bulkEventsCarryTheVersionReturnedToTheClient() {
+        TodoResponseDto todo = todoService.create(request());
+        BulkItemResultDto updated = todoService.updateAll(List.of(
+                new TodoBulkUpdateDto(todo.getId(), todo.getTitre(), "Modifiée en lot"))).getFirst();
+        BulkItemResultDto completed = todoService.updateStatutAll(List.of(
+                new TodoBulkStatusDto(todo.getId(), TodoStatus.TERMINEE))).getFirst();
+        assertThat(completed.getData().getVersion()).isEqualTo(2);
+
+        // Même version que l'ETag renvoyé : l'index de recherche écarte une version plus ancienne que la sienne
+        assertThat(events.stream(TodoChangedEvent.class).map(event -> event.todo().getVersion()))
+                .containsExactly(0L, updated.getData().getVersion(), completed.getData().getVersion());
+    }
+
+    private Map<TodoStatus, Long> delta() {
+        Map<TodoStatus, Long> now = counters.snapshot();
+        now.replaceAll((statut, count) -> count - initial.get(statut));
+        return now;
+    }
+
+    private static TodoRequestDto request() {
+        TodoRequestDto dto = new TodoRequestDto();
+        dto.setTitre("Tâche comptée " + UUID.randomUUID());
+        return dto;
+    }
+}
@@ -0,0 +1,66 @@
+package com.TodoList.TodoList_Backend.storage;
+
+import com.TodoList.TodoList_Backend.entity.enums.TodoStatus;
+import com.TodoList.TodoList_Backend.storage.TodoPersister.Change;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LogTodoPersisterTests {
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void replaysLastStatePerTodoThenCompacts() throws Exception {
+        Path file = directory.resolve("todos.log");
+        TodoRecord kept = todo("Gardée");
+        TodoRecord deleted = todo("Supprimée");
+        try (LogTodoPersister persister = new LogTodoPersister(file, jsonMapper)) {
+            assertThat(persister.loadAll()).isEmpty();
+            persister.persist(List.of(new Change(kept.id(), kept), new Change(deleted.id(), deleted)));
+            persister.persist(List.of(new Change(kept.id(), kept.withStatut(TodoStatus.TERMINEE))));
+            persister.persist(List.of(new Change(deleted.id(), null)));
+        }
+        assertThat(Files.readAllLines(file)).hasSize(4);
+
+        try (LogTodoPersister persister = new LogTodoPersister(file, jsonMapper)) {
+            assertThat(persister.loadAll()).containsExactly(kept.withStatut(TodoStatus.TERMINEE));
+        }
+        assertThat(Files.readAllLines(file)).hasSize(1);
+    }
+
+    @Test
+    void ignoresTruncatedLastLine() throws Exception {
+        Path file = directory.resolve("todos.log");
+        TodoRecord todo = todo("Complète");
+        try (LogTodoPersister persister = new LogTodoPersister(file, jsonMapper)) {
+            persister.loadAll();
+            persister.persist(List.of(new Change(todo.id(), todo)));
+        }
+        // Arrêt brutal au milieu d'un ajout
+        Files.writeString(file, "{\"op\":\"PUT\",\"id\":\"" + UUID.randomUUID() + "\",\"tit",
+                StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        try (LogTodoPersister persister = new LogTodoPersister(file, jsonMapper)) {
+            assertThat(persister.loadAll()).containsExactly(todo);
+        }
+    }
+
+    private static TodoRecord todo(String titre) {
+        return new TodoRecord(UUID.randomUUID(), titre, null, TodoStatus.EN_COURS, 0L,
+                Instant.parse("2026-01-01T00:00:00Z"));
+    }
+}
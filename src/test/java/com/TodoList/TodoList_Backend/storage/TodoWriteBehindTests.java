@@ -0,0 +1,112 @@
+package com.TodoList.TodoList_Backend.storage;
+
+import com.TodoList.TodoList_Backend.config.TodoStorageProperties;
+import com.TodoList.TodoList_Backend.entity.enums.TodoStatus;
+import com.TodoList.TodoList_Backend.storage.TodoPersister.Change;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TodoWriteBehindTests {
+
+    private final CollatingPersister persister = new CollatingPersister();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final TodoWriteBehind writeBehind = new TodoWriteBehind(persister, new TodoStorageProperties.WriteBehind(),
+            meterRegistry);
+
+    @Test
+    void titreEqualUnderTheDatabaseCollationIsDeadLetteredAndTheRestDrains() {
+        TodoRecord existing = todo("Straße");
+        persister.rows.put(existing.id(), existing);
+        TodoRecord first = todo("Acheter du pain");
+        TodoRecord second = todo("Arroser les plantes");
+        persister.rows.put(first.id(), first);
+        persister.rows.put(second.id(), second);
+
+        // Distinct pour InMemoryTodoStore.titreKey, égal pour la collation de la base
+        TodoRecord colliding = todo("strasse");
+        TodoRecord added = todo("Appeler le plombier");
+        writeBehind.enqueue(colliding.id(), colliding);
+        writeBehind.enqueue(added.id(), added);
+        // Échange de titres : ne passe qu'avec les deux changements dans le même lot
+        writeBehind.enqueue(first.id(), first.withContent(second.titre(), null));
+        writeBehind.enqueue(second.id(), second.withContent(first.titre(), null));
+
+        assertThat(writeBehind.flush()).isTrue();
+
+        assertThat(writeBehind.pendingCount()).isZero();
+        assertThat(persister.rows).doesNotContainKey(colliding.id()).containsKey(added.id());
+        assertThat(persister.rows.get(first.id()).titre()).isEqualTo("Arroser les plantes");
+        assertThat(persister.rows.get(second.id()).titre()).isEqualTo("Acheter du pain");
+        assertThat(meterRegistry.counter("todo.storage.write_behind.dead_letters").count()).isEqualTo(1);
+    }
+
+    @Test
+    void unavailableTargetKeepsTheBatchWithoutDeadLettering() {
+        TodoRecord todo = todo("Sortir les poubelles");
+        writeBehind.enqueue(todo.id(), todo);
+        persister.unavailable = true;
+
+        assertThat(writeBehind.flush()).isFalse();
+        assertThat(writeBehind.pendingCount()).isEqualTo(1);
+
+        persister.unavailable = false;
+        assertThat(writeBehind.flush()).isTrue();
+        assertThat(persister.rows).containsKey(todo.id());
+        assertThat(meterRegistry.counter("todo.storage.write_behind.dead_letters").count()).isZero();
+    }
+
+    private static TodoRecord todo(String titre) {
+        return new TodoRecord(UUID.randomUUID(), titre, null, TodoStatus.EN_COURS, 0, Instant.now());
+    }
+
+    /**
+     * Table à titre unique selon une collation de type {@code utf8mb4_0900_ai_ci} (casse ignorée, ß = ss).
+     * Comme {@link JdbcTodoPersister}, un lot est appliqué en entier ou pas du tout, et un échange de titres
+     * au sein d'un même lot est accepté.
+     */
+    private static final class CollatingPersister implements TodoPersister {
+
+        final Map<UUID, TodoRecord> rows = new HashMap<>();
+        boolean unavailable;
+
+        @Override
+        public List<TodoRecord> loadAll() {
+            return List.copyOf(rows.values());
+        }
+
+        @Override
+        public void persist(List<Change> changes) throws IOException {
+            if (unavailable) {
+                throw new IOException("Base injoignable");
+            }
+            Map<UUID, TodoRecord> next = new HashMap<>(rows);
+            for (Change change : changes) {
+                if (change.isDelete()) {
+                    next.remove(change.id());
+                } else {
+                    next.put(change.id(), change.todo());
+                }
+            }
+            Set<String> titres = new HashSet<>();
+            for (TodoRecord todo : next.values()) {
+                if (!titres.add(todo.titre().toLowerCase(Locale.ROOT).replace("ß", "ss"))) {
+                    throw new RejectedBatchException("Titre en double : " + todo.titre(), null);
+                }
+            }
+            rows.clear();
+            rows.putAll(next);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.TodoList.TodoList_Backend.throttling;
+
+import com.TodoList.TodoList_Backend.config.TodoThrottlingProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LoadSheddingFilterTests {
+
+    private final LoadSheddingFilter filter = new LoadSheddingFilter(properties(1), JsonMapper.builder().build(),
+            new SimpleMeterRegistry());
+
+    @Test
+    void rejectsWithServiceUnavailableWhileTheLimitIsReached() throws Exception {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> slow = CompletableFuture.runAsync(() -> {
+            try {
+                filter.doFilter(request("/api/todos"), new MockHttpServletResponse(), (req, res) -> {
+                    entered.countDown();
+                    await(release);
+                });
+            } catch (Exception ex) {
+                throw new IllegalStateException(ex);
+            }
+        });
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+        filter.doFilter(request("/api/todos/stats"), rejected, (req, res) -> {
+            throw new AssertionError("La requête aurait dû être refusée");
+        });
+        assertThat(rejected.getStatus()).isEqualTo(503);
+        assertThat(rejected.getHeader("Retry-After")).isEqualTo("2");
+        assertThat(rejected.getContentAsString()).contains("SERVICE_UNAVAILABLE");
+
+        release.countDown();
+        slow.get(5, TimeUnit.SECONDS);
+        assertThat(filter.inFlight()).isZero();
+
+        MockHttpServletResponse accepted = new MockHttpServletResponse();
+        filter.doFilter(request("/api/todos/stats"), accepted, (req, res) -> ((MockHttpServletResponse) res).setStatus(200));
+        assertThat(accepted.getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void eventStreamIsNotCounted() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> stream = CompletableFuture.runAsync(() -> {
+            try {
+                filter.doFilter(request(LoadSheddingFilter.EVENTS_PATH), new MockHttpServletResponse(),
+                        (req, res) -> await(release));
+            } catch (Exception ex) {
+                throw new IllegalStateException(ex);
+            }
+        });
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request("/api/todos"), response, (req, res) -> ((MockHttpServletResponse) res).setStatus(200));
+        assertThat(response.getStatus()).isEqualTo(200);
+
+        release.countDown();
+        stream.get(5, TimeUnit.SECONDS);
+    }
+
+    private static TodoThrottlingProperties.LoadShedding properties(int maxConcurrent) {
+        TodoThrottlingProperties.LoadShedding properties = new TodoThrottlingProperties.LoadShedding();
+        properties.setMaxConcurrent(maxConcurrent);
+        properties.setRetryAfter(Duration.ofSeconds(2));
+        return properties;
+    }
+
+    private static MockHttpServletRequest request(String uri) {
+        return new MockHttpServletRequest("GET", uri);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.TodoList.TodoList_Backend.throttling;
+
+import com.TodoList.TodoList_Backend.config.TodoThrottlingProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "todo.throttling.rate-limit.enabled=true",
+        "todo.throttling.rate-limit.capacity=10",
+        "todo.throttling.rate-limit.refill-per-second=0.01",
+        "todo.throttling.rate-limit.costs.[GET\\ /api/todos]=6",
+        // Comme derrière une passerelle de confiance : chaque test a son propre client
+        "todo.throttling.rate-limit.client-id-header=X-Client-Id"
+})
+@ActiveProfiles("test")
+class RateLimitFilterTests {
+
+    @LocalServerPort
+    private int port;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    @Test
+    void clientOverItsBudgetGets429WithRetryAfter() throws Exception {
+        String client = UUID.randomUUID().toString();
+        for (int i = 0; i < 10; i++) {
+            assertThat(get("/api/todos/stats", client).statusCode()).isEqualTo(200);
+        }
+
+        HttpResponse<String> rejected = get("/api/todos/stats", client);
+        assertThat(rejected.statusCode()).isEqualTo(429);
+        assertThat(rejected.headers().firstValue("Retry-After")).hasValue("100");
+        assertThat(rejected.body()).contains("TOO_MANY_REQUESTS");
+
+        assertThat(get("/api/todos/stats", UUID.randomUUID().toString()).statusCode()).isEqualTo(200);
+    }
+
+    @Test
+    void fullListCostsMoreThanOtherReads() throws Exception {
+        String client = UUID.randomUUID().toString();
+        assertThat(get("/api/todos", client).statusCode()).isEqualTo(200);
+        assertThat(get("/api/todos", client).statusCode()).isEqualTo(429);
+        for (int i = 0; i < 4; i++) {
+            assertThat(get("/api/todos/stats", client).statusCode()).isEqualTo(200);
+        }
+    }
+
+    @Test
+    void clientIdHeaderIsIgnoredUnlessConfigured() throws Exception {
+        RateLimitFilter filter = filter(2);
+
+        // Un client qui change d'en-tête à chaque requête reste limité par son adresse
+        assertThat(status(filter, "/api/todos/stats", UUID.randomUUID().toString())).isEqualTo(200);
+        assertThat(status(filter, "/api/todos/stats", UUID.randomUUID().toString())).isEqualTo(200);
+        assertThat(status(filter, "/api/todos/stats", UUID.randomUUID().toString())).isEqualTo(429);
+    }
+
+    @Test
+    void trailingSlashCostsTheSameAsTheBarePath() throws Exception {
+        RateLimitFilter filter = filter(20);
+
+        assertThat(status(filter, "/api/todos/", null)).isEqualTo(200);
+        assertThat(status(filter, "/api/todos/stats", null)).isEqualTo(429);
+    }
+
+    private static RateLimitFilter filter(int capacity) {
+        TodoThrottlingProperties.RateLimit properties = new TodoThrottlingProperties.RateLimit();
+        properties.setCapacity(capacity);
+        properties.setRefillPerSecond(0.01);
+        return new RateLimitFilter(properties, JsonMapper.builder().build(), new SimpleMeterRegistry());
+    }
+
+    private static int status(RateLimitFilter filter, String path, String client) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        if (client != null) {
+            request.addHeader("X-Client-Id", client);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, (req, res) -> ((MockHttpServletResponse) res).setStatus(200));
+        return response.getStatus();
+    }
+
+    private HttpResponse<String> get(String path, String client) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("X-Client-Id", client)
+                .GET()
+                .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+}
@@ -0,0 +1,60 @@
+package com.TodoList.TodoList_Backend.throttling;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketRateLimiterTests {
+
+    private final AtomicLong now = new AtomicLong(TimeUnit.HOURS.toNanos(1));
+    // 10 jetons, 1 rendu toutes les 100 ms
+    private final TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(10, 10, 1000, now::get);
+
+    @Test
+    void fullBucketAllowsABurstThenReportsTheWait() {
+        for (int i = 0; i < 10; i++) {
+            assertThat(limiter.tryAcquire("a", 1)).isZero();
+        }
+        assertThat(limiter.tryAcquire("a", 1)).isEqualTo(TimeUnit.MILLISECONDS.toNanos(100));
+
+        advance(100);
+        assertThat(limiter.tryAcquire("a", 1)).isZero();
+        assertThat(limiter.tryAcquire("a", 1)).isPositive();
+    }
+
+    @Test
+    void expensiveRequestsConsumeMoreTokens() {
+        assertThat(limiter.tryAcquire("a", 4)).isZero();
+        assertThat(limiter.tryAcquire("a", 4)).isZero();
+        assertThat(limiter.tryAcquire("a", 4)).isEqualTo(TimeUnit.MILLISECONDS.toNanos(200));
+        assertThat(limiter.tryAcquire("a", 2)).isZero();
+    }
+
+    @Test
+    void costAboveCapacityNeedsAFullBucketInsteadOfNeverPassing() {
+        assertThat(limiter.tryAcquire("a", 50)).isZero();
+        assertThat(limiter.tryAcquire("a", 50)).isEqualTo(TimeUnit.SECONDS.toNanos(1));
+    }
+
+    @Test
+    void clientsHaveIndependentBuckets() {
+        assertThat(limiter.tryAcquire("a", 10)).isZero();
+        assertThat(limiter.tryAcquire("a", 1)).isPositive();
+        assertThat(limiter.tryAcquire("b", 10)).isZero();
+    }
+
+    @Test
+    void idleTimeDoesNotAccumulateBeyondCapacity() {
+        assertThat(limiter.tryAcquire("a", 10)).isZero();
+        advance(60_000);
+        assertThat(limiter.tryAcquire("a", 10)).isZero();
+        assertThat(limiter.tryAcquire("a", 1)).isPositive();
+    }
+
+    private void advance(long millis) {
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+    }
+}